@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.antlr;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.function.Function;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+/**
+ * Parse trees of recent queries. The trees are only read after parsing, so the same tree can be
+ * used by concurrent requests of the same query. A parser is expected to be shared by all the
+ * requests of a node for the cache to hit.
+ */
+public class ParseTreeCache {
+  /** Max number of parse trees cached. */
+  private static final int MAX_SIZE = 200;
+
+  /** Queries longer than this are not cached, which bounds the memory of the cache. */
+  private static final int MAX_CACHED_QUERY_LENGTH = 4096;
+
+  private final Cache<String, ParseTree> cache =
+      CacheBuilder.newBuilder().maximumSize(MAX_SIZE).build();
+
+  /**
+   * Get the parse tree of the query, parsing it on miss.
+   *
+   * @param query query
+   * @param parser function which parses the query
+   * @return parse tree root
+   */
+  public ParseTree get(String query, Function<String, ParseTree> parser) {
+    if (query.length() > MAX_CACHED_QUERY_LENGTH) {
+      return parser.apply(query);
+    }
+    ParseTree parseTree = cache.getIfPresent(query);
+    if (parseTree == null) {
+      parseTree = parser.apply(query);
+      cache.put(query, parseTree);
+    }
+    return parseTree;
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.antlr;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+/**
+ * Two-stage ANTLR parsing. The query is parsed with the SLL prediction mode and a bail-out error
+ * strategy first, which is much faster than the default LL prediction and succeeds for almost all
+ * queries. Only if it fails, because of either a syntax error or a decision SLL cannot make, the
+ * query is parsed again with the full LL prediction and the error listeners of the parser, so
+ * syntax errors are reported exactly as by a single LL parse.
+ */
+public final class TwoStageParser {
+
+  private TwoStageParser() {}
+
+  /**
+   * Parse with the given start rule.
+   *
+   * @param parser parser with its error listeners added.
+   * @param rule start rule of the grammar, e.g. {@code XParser::root}.
+   * @return parse tree.
+   */
+  public static <P extends Parser> ParseTree parse(P parser, Function<P, ParseTree> rule) {
+    List<ANTLRErrorListener> listeners = new ArrayList<>(parser.getErrorListeners());
+    parser.removeErrorListeners();
+    parser.setErrorHandler(new BailErrorStrategy());
+    parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+    try {
+      return rule.apply(parser);
+    } catch (ParseCancellationException e) {
+      parser.reset();
+      listeners.forEach(parser::addErrorListener);
+      parser.setErrorHandler(new DefaultErrorStrategy());
+      parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+      return rule.apply(parser);
+    }
+  }
+}
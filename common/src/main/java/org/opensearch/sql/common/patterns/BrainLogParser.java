@@ -64,19 +64,30 @@ public class BrainLogParser {
    */
   public static final float DEFAULT_FREQUENCY_THRESHOLD_PERCENTAGE = 0.3f;
 
-  /**
-   * -- GETTER -- Get token histogram
-   *
-   * @return map of token per position key and its frequency
-   */
-  @Getter private final Map<String, Long> tokenFreqMap;
+  /** Frequency of each token per position, keyed by {@link #positionedTokenKey}. */
+  private final LongLongHashMap tokenFreqs = new LongLongHashMap();
 
-  /**
-   * -- GETTER -- Get group per length per position to its token set map
-   *
-   * @return map of pattern group per length per position key and its token set
-   */
-  @Getter private final Map<String, Set<String>> groupTokenSetMap;
+  /** Interned token ids, the token statistics refer to tokens by id. */
+  private final Map<String, Integer> tokenIds = new HashMap<>();
+
+  private final List<String> tokenById = new ArrayList<>();
+
+  /** Ids of the groups, a group is the composite of tokens length and group candidate. */
+  private final Map<String, Integer> groupIds = new HashMap<>();
+
+  private final List<String> groupById = new ArrayList<>();
+
+  /** Slot of each group and position, keyed by {@link #groupPositionKey}. */
+  private final LongLongHashMap groupPositionSlots = new LongLongHashMap();
+
+  /** Group position key of each slot. */
+  private long[] slotKeys = new long[64];
+
+  /** Number of distinct tokens of each slot. */
+  private int[] slotTokenCounts = new int[64];
+
+  /** Set of distinct tokens per slot, keyed by slot and token id. */
+  private final LongLongHashMap slotTokens = new LongLongHashMap();
 
   /**
    * -- GETTER -- Get logId to its group candidate map
@@ -150,8 +161,6 @@ public class BrainLogParser {
     if (thresholdPercentage < 0.0f || thresholdPercentage > 1.0f) {
       throw new IllegalArgumentException("Threshold percentage must be between 0.0 and 1.0");
     }
-    this.tokenFreqMap = new HashMap<>();
-    this.groupTokenSetMap = new HashMap<>();
     this.logIdGroupCandidateMap = new HashMap<>();
     this.variableCountThreshold = variableCountThreshold;
     this.thresholdPercentage = thresholdPercentage;
@@ -206,11 +215,66 @@ public class BrainLogParser {
   public void processTokenHistogram(List<String> tokens) {
     // Ignore last element since it's designed to be appended logId
     for (int i = 0; i < tokens.size() - 1; i++) {
-      String tokenKey = String.format(Locale.ROOT, POSITIONED_TOKEN_KEY_FORMAT, i, tokens.get(i));
-      tokenFreqMap.compute(tokenKey, (k, v) -> v == null ? 1 : v + 1);
+      tokenFreqs.addTo(positionedTokenKey(i, internToken(tokens.get(i))), 1);
     }
   }
 
+  /**
+   * Number of entries in the token statistics, which grow with the distinct tokens per position
+   * and group. It can be used to bound the memory of a parser which is reused across batches of
+   * log messages.
+   *
+   * @return number of token statistics entries
+   */
+  public long getStatisticsSize() {
+    return (long) tokenFreqs.size()
+        + tokenById.size()
+        + groupById.size()
+        + groupPositionSlots.size()
+        + slotTokens.size()
+        + logIdGroupCandidateMap.size();
+  }
+
+  /**
+   * Get token histogram. The statistics are kept by token id, so this builds a copy keyed by
+   * position and token string.
+   *
+   * @return map of token per position key and its frequency
+   */
+  public Map<String, Long> getTokenFreqMap() {
+    Map<String, Long> tokenFreqMap = new HashMap<>();
+    tokenFreqs.forEach(
+        (key, freq) ->
+            tokenFreqMap.put(
+                String.format(
+                    Locale.ROOT,
+                    POSITIONED_TOKEN_KEY_FORMAT,
+                    key >>> 32,
+                    tokenById.get((int) key)),
+                freq));
+    return tokenFreqMap;
+  }
+
+  /**
+   * Get group per length per position to its token set map. The statistics are kept by id, so this
+   * builds a copy keyed by tokens length, group candidate and position.
+   *
+   * @return map of pattern group per length per position key and its token set
+   */
+  public Map<String, Set<String>> getGroupTokenSetMap() {
+    Map<String, Set<String>> groupTokenSetMap = new HashMap<>();
+    slotTokens.forEach(
+        (key, ignored) -> {
+          long groupPositionKey = slotKeys[(int) (key >>> 32)];
+          String groupTokenKey =
+              groupById.get((int) (groupPositionKey >>> 32)) + "-" + (int) groupPositionKey;
+          groupTokenSetMap
+              .computeIfAbsent(groupTokenKey, k -> new HashSet<>())
+              .add(tokenById.get((int) key));
+        });
+    return groupTokenSetMap;
+  }
+
   /**
    * Preprocess all lines of log messages with logId list. Empty logId list is allowed as the index
    * within the list will be logId by default
@@ -253,8 +317,7 @@ public class BrainLogParser {
               .sorted()
               .collect(Collectors.toList());
       WordCombination candidate = this.findCandidate(sortedWordCombinations);
-      String groupCandidateStr =
-          String.format(Locale.ROOT, "%d,%d", candidate.wordFreq(), candidate.sameFreqCount());
+      String groupCandidateStr = candidate.wordFreq() + "," + candidate.sameFreqCount();
       this.logIdGroupCandidateMap.put(tokens.get(tokens.size() - 1), groupCandidateStr);
       this.updateGroupTokenFreqMap(tokens, groupCandidateStr);
     }
@@ -268,12 +331,43 @@ public class BrainLogParser {
    * @return parsed log pattern that is a list of string
    */
   public List<String> parseLogPattern(List<String> tokens) {
-    return parseLogPattern(
-        tokens,
-        this.tokenFreqMap,
-        this.groupTokenSetMap,
-        this.logIdGroupCandidateMap,
-        this.variableCountThreshold);
+    int tokensLen = tokens.size() - 1;
+    String logId = tokens.get(tokensLen);
+    String groupCandidateStr = logIdGroupCandidateMap.get(logId);
+    // representative frequency of the group
+    long repFreq = Long.parseLong(groupCandidateStr.substring(0, groupCandidateStr.indexOf(',')));
+    Integer groupId = groupIds.get(groupKey(tokensLen, groupCandidateStr));
+    assert groupId != null
+        : String.format(Locale.ROOT, "Not found any token in group: %s", groupCandidateStr);
+
+    List<String> logPattern = new ArrayList<>(tokensLen);
+    for (int i = 0; i < tokensLen; i++) {
+      String token = tokens.get(i);
+      Integer tokenId = tokenIds.get(token);
+      long tokenFreq = tokenId == null ? 0 : tokenFreqs.get(positionedTokenKey(i, tokenId), 0);
+      assert tokenFreq > 0
+          : String.format(Locale.ROOT, "Not found token: %s on position %d", token, i);
+      int groupTokenCount = groupId == null ? 0 : groupTokenCount(groupId, i);
+
+      if (tokenFreq > repFreq) {
+        // For higher frequency token that doesn't belong to word combination, it's likely to be
+        // constant token only if it's unique token on that position within the group
+        boolean isUniqueToken = groupTokenCount == 1;
+        if (!isUniqueToken) {
+          token = VARIABLE_DENOTER;
+        }
+      } else if (tokenFreq < repFreq) {
+        // For lower frequency token that doesn't belong to word combination, it's likely to be
+        // constant token only if it doesn't exceed the preset variable count threshold. For
+        // example, some variable are limited number of enums, and sometimes they could be treated
+        // as constant tokens.
+        if (groupTokenCount >= variableCountThreshold) {
+          token = VARIABLE_DENOTER;
+        }
+      }
+      logPattern.add(token);
+    }
+    return logPattern;
   }
 
   public static List<String> parseLogPattern(
@@ -375,13 +469,14 @@ public class BrainLogParser {
   }
 
   private Map<Long, Integer> getWordOccurrences(List<String> tokens) {
-    Map<Long, Integer> occurrences = new HashMap<>();
+    LongLongHashMap occurrences = new LongLongHashMap();
     for (int i = 0; i < tokens.size() - 1; i++) {
-      String tokenKey = String.format(Locale.ROOT, POSITIONED_TOKEN_KEY_FORMAT, i, tokens.get(i));
-      Long tokenFreq = tokenFreqMap.get(tokenKey);
-      occurrences.compute(tokenFreq, (k, v) -> v == null ? 1 : v + 1);
+      long tokenFreq = tokenFreqs.get(positionedTokenKey(i, internToken(tokens.get(i))), 0);
+      occurrences.addTo(tokenFreq, 1);
     }
-    return occurrences;
+    Map<Long, Integer> wordOccurrences = new HashMap<>();
+    occurrences.forEach((tokenFreq, count) -> wordOccurrences.put(tokenFreq, (int) count));
+    return wordOccurrences;
   }
 
   private WordCombination findCandidate(List<WordCombination> sortedWordCombinations) {
@@ -402,13 +497,65 @@ public class BrainLogParser {
 
   private void updateGroupTokenFreqMap(List<String> tokens, String groupCandidateStr) {
     int tokensLen = tokens.size() - 1;
+    String groupKey = groupKey(tokensLen, groupCandidateStr);
+    int groupId =
+        groupIds.computeIfAbsent(
+            groupKey,
+            k -> {
+              groupById.add(k);
+              return groupById.size() - 1;
+            });
     for (int i = 0; i < tokensLen; i++) {
-      String groupTokenFreqKey =
-          String.format(Locale.ROOT, GROUP_TOKEN_SET_KEY_FORMAT, tokensLen, groupCandidateStr, i);
-      this.groupTokenSetMap
-          .computeIfAbsent(groupTokenFreqKey, k -> new HashSet<>())
-          .add(tokens.get(i));
+      int slot = groupPositionSlot(groupPositionKey(groupId, i));
+      if (slotTokens.putIfAbsent(slotTokenKey(slot, internToken(tokens.get(i))), 0)) {
+        slotTokenCounts[slot]++;
+      }
+    }
+  }
+
+  /** Number of distinct tokens on the position within the group. */
+  private int groupTokenCount(int groupId, int position) {
+    long slot = groupPositionSlots.get(groupPositionKey(groupId, position), -1);
+    return slot < 0 ? 0 : slotTokenCounts[(int) slot];
+  }
+
+  private int groupPositionSlot(long groupPositionKey) {
+    int slot = groupPositionSlots.size();
+    if (!groupPositionSlots.putIfAbsent(groupPositionKey, slot)) {
+      return (int) groupPositionSlots.get(groupPositionKey, -1);
     }
+    if (slot == slotKeys.length) {
+      slotKeys = Arrays.copyOf(slotKeys, slot * 2);
+      slotTokenCounts = Arrays.copyOf(slotTokenCounts, slot * 2);
+    }
+    slotKeys[slot] = groupPositionKey;
+    return slot;
+  }
+
+  private int internToken(String token) {
+    Integer id = tokenIds.get(token);
+    if (id == null) {
+      id = tokenById.size();
+      tokenIds.put(token, id);
+      tokenById.add(token);
+    }
+    return id;
+  }
+
+  private static String groupKey(int tokensLen, String groupCandidateStr) {
+    return tokensLen + "-" + groupCandidateStr;
+  }
+
+  private static long positionedTokenKey(int position, int tokenId) {
+    return ((long) position << 32) | (tokenId & 0xFFFFFFFFL);
+  }
+
+  private static long groupPositionKey(int groupId, int position) {
+    return ((long) groupId << 32) | (position & 0xFFFFFFFFL);
+  }
+
+  private static long slotTokenKey(int slot, int tokenId) {
+    return ((long) slot << 32) | (tokenId & 0xFFFFFFFFL);
   }
 
   @Override
@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.patterns;
+
+/**
+ * Open addressing hash map from primitive long to primitive long with linear probing. It is used
+ * for the token statistics of {@link BrainLogParser}, which are updated for every token of every
+ * log message, so keys and values are not boxed.
+ */
+class LongLongHashMap {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private long[] keys = new long[INITIAL_CAPACITY];
+
+  private long[] values = new long[INITIAL_CAPACITY];
+
+  private boolean[] used = new boolean[INITIAL_CAPACITY];
+
+  private int size = 0;
+
+  private int resizeThreshold = (int) (INITIAL_CAPACITY * LOAD_FACTOR);
+
+  /** Get the value of the key, or the default value if the key is absent. */
+  long get(long key, long defaultValue) {
+    int slot = find(key);
+    return used[slot] ? values[slot] : defaultValue;
+  }
+
+  boolean containsKey(long key) {
+    return used[find(key)];
+  }
+
+  /**
+   * Add the delta to the value of the key, absent key is treated as 0.
+   *
+   * @return the new value.
+   */
+  long addTo(long key, long delta) {
+    int slot = find(key);
+    if (used[slot]) {
+      values[slot] += delta;
+      return values[slot];
+    }
+    insert(slot, key, delta);
+    return delta;
+  }
+
+  /**
+   * Put the value if the key is absent.
+   *
+   * @return true if the value was put.
+   */
+  boolean putIfAbsent(long key, long value) {
+    int slot = find(key);
+    if (used[slot]) {
+      return false;
+    }
+    insert(slot, key, value);
+    return true;
+  }
+
+  int size() {
+    return size;
+  }
+
+  void forEach(Consumer consumer) {
+    for (int slot = 0; slot < keys.length; slot++) {
+      if (used[slot]) {
+        consumer.accept(keys[slot], values[slot]);
+      }
+    }
+  }
+
+  void clear() {
+    keys = new long[INITIAL_CAPACITY];
+    values = new long[INITIAL_CAPACITY];
+    used = new boolean[INITIAL_CAPACITY];
+    size = 0;
+    resizeThreshold = (int) (INITIAL_CAPACITY * LOAD_FACTOR);
+  }
+
+  /** Slot of the key, or the empty slot where it would be inserted. */
+  private int find(long key) {
+    int mask = keys.length - 1;
+    int slot = hash(key) & mask;
+    while (used[slot] && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void insert(int slot, long key, long value) {
+    keys[slot] = key;
+    values[slot] = value;
+    used[slot] = true;
+    if (++size > resizeThreshold) {
+      rehash();
+    }
+  }
+
+  private void rehash() {
+    long[] oldKeys = keys;
+    long[] oldValues = values;
+    boolean[] oldUsed = used;
+    keys = new long[oldKeys.length * 2];
+    values = new long[oldKeys.length * 2];
+    used = new boolean[oldKeys.length * 2];
+    resizeThreshold = (int) (keys.length * LOAD_FACTOR);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldUsed[i]) {
+        int slot = find(oldKeys[i]);
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+        used[slot] = true;
+      }
+    }
+  }
+
+  /** Mix the bits of the key since packed keys differ mostly in the high or low bits. */
+  private static int hash(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  /** Consumer of a primitive key and value. */
+  @FunctionalInterface
+  interface Consumer {
+    void accept(long key, long value);
+  }
+}
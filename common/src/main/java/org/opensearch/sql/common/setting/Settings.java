@@ -36,13 +36,21 @@ public abstract class Settings {
     CALCITE_PUSHDOWN_ENABLED("plugins.calcite.pushdown.enabled"),
     CALCITE_PUSHDOWN_ROWCOUNT_ESTIMATION_FACTOR(
         "plugins.calcite.pushdown.rowcount.estimation.factor"),
+    CALCITE_SCAN_PREFETCH_ENABLED("plugins.calcite.scan.prefetch.enabled"),
+    CALCITE_JOIN_RUNTIME_FILTER_MAX_KEYS("plugins.calcite.join.runtime_filter.max_keys"),
+    CALCITE_PUSHDOWN_STATISTICS_ENABLED("plugins.calcite.pushdown.statistics.enabled"),
 
     /** Query Settings. */
     FIELD_TYPE_TOLERANCE("plugins.query.field_type_tolerance"),
 
     /** Common Settings for SQL and PPL. */
     QUERY_MEMORY_LIMIT("plugins.query.memory_limit"),
+    QUERY_MEMORY_BUDGET("plugins.query.memory_budget"),
     QUERY_SIZE_LIMIT("plugins.query.size_limit"),
+    QUERY_SORT_MEMORY_LIMIT("plugins.query.sort.memory_limit"),
+    QUERY_AGGREGATION_PAGE_SIZE("plugins.query.aggregation.page_size"),
+    SCRIPT_CACHE_MAX_SIZE("plugins.query.script.cache.max_size"),
+    SCRIPT_CACHE_EXPIRE("plugins.query.script.cache.expire"),
     ENCYRPTION_MASTER_KEY("plugins.query.datasources.encryption.masterkey"),
     DATASOURCES_URI_HOSTS_DENY_LIST("plugins.query.datasources.uri.hosts.denylist"),
     DATASOURCES_LIMIT("plugins.query.datasources.limit"),
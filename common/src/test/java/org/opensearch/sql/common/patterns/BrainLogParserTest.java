@@ -270,6 +270,21 @@ public class BrainLogParserTest {
     assertTrue(parser.getGroupTokenSetMap().get("4-3,3-0").size() > 1);
   }
 
+  @Test
+  public void testParseLogPatternSameAsStringKeyedStatistics() {
+    List<List<String>> preprocessedLogs = parser.preprocessAllLogs(TEST_HDFS_LOGS);
+    for (List<String> tokens : preprocessedLogs) {
+      assertEquals(
+          BrainLogParser.parseLogPattern(
+              tokens,
+              parser.getTokenFreqMap(),
+              parser.getGroupTokenSetMap(),
+              parser.getLogIdGroupCandidateMap(),
+              parser.getVariableCountThreshold()),
+          parser.parseLogPattern(tokens));
+    }
+  }
+
   private Map<String, Long> collectPatternByCountMap(
       Map<String, Map<String, Object>> logPatternMap) {
     return logPatternMap.entrySet().stream()
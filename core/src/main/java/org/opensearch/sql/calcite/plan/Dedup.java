@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import java.util.List;
+import lombok.Getter;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+
+/**
+ * Relational expression which removes duplicated rows of the dedup keys in a single pass of its
+ * input, keeping the input order. The first {@code allowedDuplication} rows of each key are kept.
+ * In the consecutive mode only the rows of a run of the same key are counted, so it needs the
+ * previous key only, otherwise the number of rows of each key seen so far is kept in a hash table.
+ * Rows with a null key are kept or dropped depending on {@code keepEmpty} and are not counted.
+ */
+@Getter
+public abstract class Dedup extends SingleRel {
+
+  /** Ordinals of the dedup key fields. */
+  private final List<Integer> keys;
+
+  private final int allowedDuplication;
+
+  private final boolean keepEmpty;
+
+  private final boolean consecutive;
+
+  protected Dedup(
+      RelOptCluster cluster,
+      RelTraitSet traits,
+      RelNode input,
+      List<Integer> keys,
+      int allowedDuplication,
+      boolean keepEmpty,
+      boolean consecutive) {
+    super(cluster, traits, input);
+    this.keys = List.copyOf(keys);
+    this.allowedDuplication = allowedDuplication;
+    this.keepEmpty = keepEmpty;
+    this.consecutive = consecutive;
+  }
+
+  @Override
+  public final RelNode copy(RelTraitSet traitSet, List<RelNode> inputs) {
+    return copy(traitSet, sole(inputs));
+  }
+
+  public abstract Dedup copy(RelTraitSet traitSet, RelNode input);
+
+  @Override
+  public RelWriter explainTerms(RelWriter pw) {
+    return super.explainTerms(pw)
+        .item("keys", keys)
+        .item("allowedDuplication", allowedDuplication)
+        .item("keepEmpty", keepEmpty)
+        .item("consecutive", consecutive);
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.PhysType;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.function.Predicate1;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.linq4j.tree.ParameterExpression;
+import org.apache.calcite.linq4j.tree.Types;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.opensearch.sql.monitor.QueryMemoryAccount;
+
+/**
+ * Implementation of {@link Dedup} in the enumerable convention. The input is filtered in a single
+ * pass with a predicate on the key of each row: the consecutive mode compares the key with the key
+ * of the previous row, the normal mode counts the rows of each key in a hash table whose entries
+ * are charged to the {@link QueryMemoryAccount} of the query.
+ */
+public class EnumerableDedup extends Dedup implements EnumerableRel {
+
+  private static final Method DEDUP_METHOD =
+      Types.lookupMethod(
+          EnumerableDedup.class,
+          "dedup",
+          Enumerable.class,
+          Function1.class,
+          int.class,
+          boolean.class,
+          boolean.class);
+
+  /** Rough estimated bytes of a hash table entry besides the key values. */
+  private static final long ENTRY_OVERHEAD = 96;
+
+  /** Rough estimated bytes of a key value. */
+  private static final long KEY_VALUE_SIZE = 32;
+
+  public EnumerableDedup(
+      RelOptCluster cluster,
+      RelTraitSet traits,
+      RelNode input,
+      List<Integer> keys,
+      int allowedDuplication,
+      boolean keepEmpty,
+      boolean consecutive) {
+    super(cluster, traits, input, keys, allowedDuplication, keepEmpty, consecutive);
+  }
+
+  @Override
+  public EnumerableDedup copy(RelTraitSet traitSet, RelNode input) {
+    return new EnumerableDedup(
+        getCluster(),
+        traitSet,
+        input,
+        getKeys(),
+        getAllowedDuplication(),
+        isKeepEmpty(),
+        isConsecutive());
+  }
+
+  @Override
+  public Result implement(EnumerableRelImplementor implementor, Prefer pref) {
+    final BlockBuilder builder = new BlockBuilder();
+    final Result input = implementor.visitChild(this, 0, (EnumerableRel) getInput(), pref);
+    final Expression inputExp = builder.append("input", input.block);
+    final PhysType physType =
+        PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), input.format);
+
+    // row -> new Object[] {key fields of the row}
+    final ParameterExpression row = Expressions.parameter(input.physType.getJavaRowType(), "row");
+    final List<Expression> keyValues =
+        getKeys().stream()
+            .map(key -> Expressions.box(input.physType.fieldReference(row, key)))
+            .toList();
+    final Expression keySelector =
+        Expressions.lambda(Function1.class, Expressions.newArrayInit(Object.class, keyValues), row);
+
+    builder.add(
+        Expressions.return_(
+            null,
+            Expressions.call(
+                DEDUP_METHOD,
+                inputExp,
+                keySelector,
+                Expressions.constant(getAllowedDuplication()),
+                Expressions.constant(isKeepEmpty()),
+                Expressions.constant(isConsecutive()))));
+    return implementor.result(physType, builder.toBlock());
+  }
+
+  /**
+   * Dedup the rows, called by the generated code.
+   *
+   * @param input input rows
+   * @param keySelector key fields of a row
+   * @param allowedDuplication number of rows kept for each key
+   * @param keepEmpty keep the rows with a null key
+   * @param consecutive only count the consecutive rows of the same key
+   * @return deduplicated rows in the input order
+   */
+  public static <T> Enumerable<T> dedup(
+      Enumerable<T> input,
+      Function1<T, Object[]> keySelector,
+      int allowedDuplication,
+      boolean keepEmpty,
+      boolean consecutive) {
+    return new AbstractEnumerable<>() {
+      @Override
+      public Enumerator<T> enumerator() {
+        // The state of the predicate belongs to a single pass of the input.
+        Predicate1<T> predicate =
+            consecutive
+                ? new ConsecutiveDeduper<>(keySelector, allowedDuplication, keepEmpty)
+                : new HashDeduper<>(
+                    keySelector, allowedDuplication, keepEmpty, QueryMemoryAccount.current());
+        return input.where(predicate).enumerator();
+      }
+    };
+  }
+
+  /** Key of the row, or null if any key field is null. */
+  private static <T> List<Object> keyOf(Function1<T, Object[]> keySelector, T row) {
+    Object[] values = keySelector.apply(row);
+    for (Object value : values) {
+      if (value == null) {
+        return null;
+      }
+    }
+    return Arrays.asList(values);
+  }
+
+  /** Deduper which only remembers the key of the previous row. */
+  private static class ConsecutiveDeduper<T> implements Predicate1<T> {
+    private final Function1<T, Object[]> keySelector;
+    private final int allowedDuplication;
+    private final boolean keepEmpty;
+    private List<Object> previousKey;
+    private int count;
+
+    ConsecutiveDeduper(
+        Function1<T, Object[]> keySelector, int allowedDuplication, boolean keepEmpty) {
+      this.keySelector = keySelector;
+      this.allowedDuplication = allowedDuplication;
+      this.keepEmpty = keepEmpty;
+    }
+
+    @Override
+    public boolean apply(T row) {
+      List<Object> key = keyOf(keySelector, row);
+      if (key == null) {
+        return keepEmpty;
+      }
+      if (key.equals(previousKey)) {
+        count++;
+      } else {
+        previousKey = key;
+        count = 1;
+      }
+      return count <= allowedDuplication;
+    }
+  }
+
+  /** Deduper which counts the rows of every key seen so far. */
+  private static class HashDeduper<T> implements Predicate1<T> {
+    private final Function1<T, Object[]> keySelector;
+    private final int allowedDuplication;
+    private final boolean keepEmpty;
+    private final QueryMemoryAccount account;
+    private final Map<List<Object>, int[]> counts = new HashMap<>();
+
+    HashDeduper(
+        Function1<T, Object[]> keySelector,
+        int allowedDuplication,
+        boolean keepEmpty,
+        QueryMemoryAccount account) {
+      this.keySelector = keySelector;
+      this.allowedDuplication = allowedDuplication;
+      this.keepEmpty = keepEmpty;
+      this.account = account;
+    }
+
+    @Override
+    public boolean apply(T row) {
+      List<Object> key = keyOf(keySelector, row);
+      if (key == null) {
+        return keepEmpty;
+      }
+      int[] count = counts.get(key);
+      if (count == null) {
+        account.reserve(ENTRY_OVERHEAD + KEY_VALUE_SIZE * key.size());
+        counts.put(key, new int[] {1});
+        return true;
+      }
+      return ++count[0] <= allowedDuplication;
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.plan.Convention;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.convert.ConverterRule;
+
+/** Rule to convert a {@link LogicalDedup} to an {@link EnumerableDedup}. */
+public class EnumerableDedupRule extends ConverterRule {
+  /** Default configuration. */
+  public static final Config DEFAULT_CONFIG =
+      Config.INSTANCE
+          .withConversion(
+              LogicalDedup.class,
+              Convention.NONE,
+              EnumerableConvention.INSTANCE,
+              "EnumerableDedupRule")
+          .withRuleFactory(EnumerableDedupRule::new);
+
+  /** Creates an EnumerableDedupRule. */
+  protected EnumerableDedupRule(Config config) {
+    super(config);
+  }
+
+  @Override
+  public RelNode convert(RelNode rel) {
+    final LogicalDedup dedup = (LogicalDedup) rel;
+    final RelNode input =
+        convert(
+            dedup.getInput(),
+            dedup.getInput().getTraitSet().replace(EnumerableConvention.INSTANCE));
+    return new EnumerableDedup(
+        dedup.getCluster(),
+        dedup.getTraitSet().replace(EnumerableConvention.INSTANCE),
+        input,
+        dedup.getKeys(),
+        dedup.getAllowedDuplication(),
+        dedup.isKeepEmpty(),
+        dedup.isConsecutive());
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import java.util.List;
+import org.apache.calcite.plan.Convention;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+
+/** Logical {@link Dedup}, see {@link EnumerableDedup} for its implementation. */
+public class LogicalDedup extends Dedup {
+
+  private LogicalDedup(
+      RelOptCluster cluster,
+      RelTraitSet traits,
+      RelNode input,
+      List<Integer> keys,
+      int allowedDuplication,
+      boolean keepEmpty,
+      boolean consecutive) {
+    super(cluster, traits, input, keys, allowedDuplication, keepEmpty, consecutive);
+  }
+
+  /**
+   * Creates a LogicalDedup.
+   *
+   * @param input input
+   * @param keys ordinals of the dedup key fields
+   * @param allowedDuplication number of rows kept for each key
+   * @param keepEmpty keep the rows with a null key
+   * @param consecutive only count the consecutive rows of the same key
+   */
+  public static LogicalDedup create(
+      RelNode input,
+      List<Integer> keys,
+      int allowedDuplication,
+      boolean keepEmpty,
+      boolean consecutive) {
+    RelOptCluster cluster = input.getCluster();
+    RelTraitSet traitSet = cluster.traitSetOf(Convention.NONE);
+    return new LogicalDedup(
+        cluster, traitSet, input, keys, allowedDuplication, keepEmpty, consecutive);
+  }
+
+  @Override
+  public LogicalDedup copy(RelTraitSet traitSet, RelNode input) {
+    return new LogicalDedup(
+        getCluster(),
+        traitSet,
+        input,
+        getKeys(),
+        getAllowedDuplication(),
+        isKeepEmpty(),
+        isConsecutive());
+  }
+
+  @Override
+  public void register(RelOptPlanner planner) {
+    planner.addRule(EnumerableDedupRule.DEFAULT_CONFIG.toRule());
+  }
+}
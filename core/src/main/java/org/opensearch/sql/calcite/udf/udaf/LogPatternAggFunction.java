@@ -23,6 +23,7 @@ import org.opensearch.sql.common.antlr.SyntaxCheckException;
 import org.opensearch.sql.common.patterns.BrainLogParser;
 import org.opensearch.sql.common.patterns.PatternUtils;
 import org.opensearch.sql.common.patterns.PatternUtils.ParseResult;
+import org.opensearch.sql.monitor.QueryMemoryAccount;
 
 public class LogPatternAggFunction implements UserDefinedAggFunction<LogParserAccumulator> {
   private int bufferLimit = 100000;
@@ -84,7 +85,7 @@ public class LogPatternAggFunction implements UserDefinedAggFunction<LogParserAc
     this.variableCountThreshold = variableCountThreshold;
     this.thresholdPercentage = thresholdPercentage;
     acc.evaluate(field);
-    if (bufferLimit > 0 && acc.size() == bufferLimit) {
+    if (acc.isBufferFull(bufferLimit)) {
       acc.partialMerge(maxSampleCount, variableCountThreshold, thresholdPercentage);
       acc.clearBuffer();
     }
@@ -127,24 +128,67 @@ public class LogPatternAggFunction implements UserDefinedAggFunction<LogParserAc
         this.variableCountThreshold);
   }
 
+  /**
+   * Accumulator which buffers the log messages up to the buffer limit and parses each full buffer
+   * with a single {@link BrainLogParser}. All the messages of a buffer are labelled from the token
+   * statistics of the whole buffer, so a group of no more messages than the buffer limit gets the
+   * same patterns as one parser run over all of them. The parser is kept across buffers, so a
+   * later buffer is labelled from the statistics of all the messages so far. Its patterns can
+   * still differ from the ones of the earlier buffers, which are then counted as separate groups.
+   * The buffered messages and the parser statistics are charged to the {@link QueryMemoryAccount}
+   * of the query, which bounds them in bytes.
+   */
   public static class LogParserAccumulator implements Accumulator {
+    /** Estimated bytes of a buffered log message besides its characters. */
+    static final long MESSAGE_OVERHEAD = 56;
+
+    /** Estimated bytes of an entry of the token statistics of the parser. */
+    static final long STATISTICS_ENTRY_BYTES = 64;
+
     private final List<String> logMessages;
+    private final QueryMemoryAccount account;
+    private long bufferedBytes = 0;
+    private long statisticsBytes = 0;
+    private long count = 0;
+    private BrainLogParser logParser;
     public Map<String, Map<String, Object>> patternGroupMap = new HashMap<>();
 
-    public int size() {
-      return logMessages.size();
+    /** Number of log messages added to the accumulator. */
+    public long size() {
+      return count;
     }
 
     public LogParserAccumulator() {
+      this(QueryMemoryAccount.current());
+    }
+
+    LogParserAccumulator(QueryMemoryAccount account) {
       this.logMessages = new ArrayList<>();
+      this.account = account;
     }
 
     public void evaluate(String value) {
+      long size = MESSAGE_OVERHEAD + 2L * value.length();
+      account.reserve(size);
       logMessages.add(value);
+      bufferedBytes += size;
+      count++;
+    }
+
+    /**
+     * Whether the buffered log messages should be parsed.
+     *
+     * @param bufferLimit buffer limit of the query, the messages are only parsed at the end if it
+     *     is not positive.
+     */
+    public boolean isBufferFull(int bufferLimit) {
+      return bufferLimit > 0 && logMessages.size() >= bufferLimit;
     }
 
     public void clearBuffer() {
       logMessages.clear();
+      account.release(bufferedBytes);
+      bufferedBytes = 0;
     }
 
     public void partialMerge(Object... argList) {
@@ -153,18 +197,28 @@ public class LogPatternAggFunction implements UserDefinedAggFunction<LogParserAc
       }
       assert argList.length == 3 : "partialMerge of LogParserAccumulator requires 3 parameters";
       int maxSampleCount = (int) argList[0];
-      BrainLogParser logParser =
-          new BrainLogParser((int) argList[1], ((Double) argList[2]).floatValue());
+      if (logParser == null) {
+        logParser = new BrainLogParser((int) argList[1], ((Double) argList[2]).floatValue());
+      }
       Map<String, Map<String, Object>> partialPatternGroupMap =
           logParser.parseAllLogPatterns(logMessages, maxSampleCount);
       patternGroupMap =
           PatternUtils.mergePatternGroups(patternGroupMap, partialPatternGroupMap, maxSampleCount);
+      chargeStatistics(logParser.getStatisticsSize() * STATISTICS_ENTRY_BYTES);
+    }
+
+    private void chargeStatistics(long bytes) {
+      account.reserve(bytes - statisticsBytes);
+      account.release(statisticsBytes - bytes);
+      statisticsBytes = bytes;
     }
 
     @Override
     public Object value(Object... argList) {
       partialMerge(argList);
       clearBuffer();
+      logParser = null;
+      chargeStatistics(0);
 
       return patternGroupMap.values().stream()
           .sorted(
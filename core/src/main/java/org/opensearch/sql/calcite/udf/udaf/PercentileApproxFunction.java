@@ -6,24 +6,24 @@
 package org.opensearch.sql.calcite.udf.udaf;
 
 import com.tdunning.math.stats.MergingDigest;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import org.apache.calcite.sql.type.SqlTypeName;
 import org.opensearch.sql.calcite.udf.UserDefinedAggFunction;
 
-/** We write by ourselves since it's an approximate algorithm */
+/**
+ * We write by ourselves since it's an approximate algorithm. Values are fed into a t-digest as they
+ * arrive, so the memory of each group is bounded by the compression instead of the row count.
+ */
 public class PercentileApproxFunction
     implements UserDefinedAggFunction<PercentileApproxFunction.PencentileApproAccumulator> {
+  /** The compression level for the MergingDigest, keep the same default value as OpenSearch. */
+  public static final double DEFAULT_COMPRESSION = 100.0;
+
   SqlTypeName returnType;
-  private double compression;
-  double percentile;
 
   @Override
   public PencentileApproAccumulator init() {
     returnType = SqlTypeName.DOUBLE;
-    compression = 100.0;
-    percentile = 1.0;
     return new PencentileApproAccumulator();
   }
 
@@ -34,23 +34,33 @@ public class PercentileApproxFunction
     if (Objects.isNull(targetValue)) {
       return acc;
     }
-    percentile = ((Number) values[1]).intValue() / 100.0;
     returnType = (SqlTypeName) values[values.length - 1];
-    if (values.length > 3) { // have compression
-      compression = ((Number) values[values.length - 2]).doubleValue();
+    if (acc.size() == 0) {
+      double compression =
+          values.length > 3 // have compression
+              ? ((Number) values[values.length - 2]).doubleValue()
+              : DEFAULT_COMPRESSION;
+      acc.init(((Number) values[1]).intValue() / 100.0, compression);
     }
 
     acc.evaluate(((Number) targetValue).doubleValue());
     return acc;
   }
 
+  /** Merge two partial accumulators of the same group. */
+  public PencentileApproAccumulator merge(
+      PencentileApproAccumulator acc, PencentileApproAccumulator other) {
+    acc.merge(other);
+    return acc;
+  }
+
   // Calculate the percentile
   @Override
   public Object result(PencentileApproAccumulator acc) {
     if (acc.size() == 0) {
       return null;
     }
-    double retValue = (double) acc.value(compression, percentile);
+    double retValue = (double) acc.value();
     switch (returnType) {
       case INTEGER:
         int intRet = (int) retValue;
@@ -62,34 +72,46 @@ public class PercentileApproxFunction
         float floatRet = (float) retValue;
         return floatRet;
       default:
-        return acc.value();
+        return retValue;
     }
   }
 
   public static class PencentileApproAccumulator implements Accumulator {
-    private List<Number> candidate;
+    private MergingDigest digest;
+    private double percentile = 1.0;
 
-    public int size() {
-      return candidate.size();
+    public long size() {
+      return digest == null ? 0 : digest.size();
     }
 
-    public PencentileApproAccumulator() {
-      candidate = new ArrayList<>();
+    /**
+     * Create the digest on the first value, since the percentile and compression arguments are
+     * only known once values are added.
+     */
+    public void init(double percentile, double compression) {
+      this.percentile = percentile;
+      if (digest == null) {
+        digest = new MergingDigest(compression);
+      }
     }
 
     public void evaluate(double value) {
-      candidate.add(value);
+      digest.add(value);
+    }
+
+    public void merge(PencentileApproAccumulator other) {
+      if (other.size() == 0) {
+        return;
+      }
+      if (digest == null) {
+        init(other.percentile, other.digest.compression());
+      }
+      digest.add(other.digest);
     }
 
     @Override
     public Object value(Object... argList) {
-      double percent = (double) argList[1];
-      double compression = (double) argList[0];
-      MergingDigest tree = new MergingDigest(compression);
-      for (Number num : candidate) {
-        tree.add(num.doubleValue());
-      }
-      return tree.quantile(percent);
+      return digest.quantile(percentile);
     }
   }
 }
@@ -39,6 +39,11 @@ public class ExprIntervalValue extends AbstractExprValue {
     return interval.equals(other.intervalValue());
   }
 
+  @Override
+  public int hashCode() {
+    return interval.hashCode();
+  }
+
   @Override
   public TemporalAmount value() {
     return interval;
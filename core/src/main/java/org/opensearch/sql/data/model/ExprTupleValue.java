@@ -11,23 +11,41 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 import org.opensearch.sql.storage.bindingtuple.LazyBindingTuple;
 
 /** Expression Tuple Value. */
-@RequiredArgsConstructor
 public class ExprTupleValue extends AbstractExprValue {
 
-  private final LinkedHashMap<String, ExprValue> valueMap;
+  /** Either a {@link LinkedHashMap} or an {@link IndexedTupleMap}, both keep the field order. */
+  private final Map<String, ExprValue> valueMap;
+
+  public ExprTupleValue(LinkedHashMap<String, ExprValue> valueMap) {
+    this.valueMap = valueMap;
+  }
+
+  private ExprTupleValue(IndexedTupleMap valueMap) {
+    this.valueMap = valueMap;
+  }
 
   public static ExprTupleValue fromExprValueMap(Map<String, ExprValue> map) {
     LinkedHashMap<String, ExprValue> linkedHashMap = new LinkedHashMap<>(map);
     return new ExprTupleValue(linkedHashMap);
   }
 
+  /**
+   * Create a tuple of a row with fixed schema, without building a hash table per row.
+   *
+   * @param fields fields shared by the rows.
+   * @param values values of the row, at the position of their field.
+   * @return tuple value.
+   */
+  public static ExprTupleValue fromFields(TupleFields fields, ExprValue[] values) {
+    return new ExprTupleValue(new IndexedTupleMap(fields, values));
+  }
+
   public static ExprTupleValue empty() {
     LinkedHashMap<String, ExprValue> linkedHashMap = new LinkedHashMap<>();
     return new ExprTupleValue(linkedHashMap);
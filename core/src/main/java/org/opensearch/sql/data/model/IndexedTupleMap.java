@@ -0,0 +1,232 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.model;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Tuple map of a row with a fixed schema. The values are held in an array at the position of their
+ * field in the shared {@link TupleFields}, which avoids a hash table per row and gives O(1)
+ * positional access. The map preserves the field order like {@link LinkedHashMap}, and is equal to
+ * any map with the same entries. Adding or removing a field copies the row into a {@link
+ * LinkedHashMap}, after that the map is no longer indexed. The map is serializable like the tuple
+ * values which hold it.
+ */
+public class IndexedTupleMap extends AbstractMap<String, ExprValue> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final TupleFields fields;
+
+  private final ExprValue[] values;
+
+  /** Copy of the row once a field is added or removed. */
+  private LinkedHashMap<String, ExprValue> copy;
+
+  /**
+   * Constructor of {@link IndexedTupleMap}.
+   *
+   * @param fields shared fields of the row.
+   * @param values values of the row, at the position of their field.
+   */
+  public IndexedTupleMap(TupleFields fields, ExprValue[] values) {
+    if (fields.size() != values.length) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expect %d values for fields %s, but got %d",
+              fields.size(), fields.names(), values.length));
+    }
+    this.fields = fields;
+    this.values = values;
+  }
+
+  /** Whether the values are still indexed by {@link #fields()}. */
+  public boolean isIndexed() {
+    return copy == null;
+  }
+
+  /** Shared fields of the row. Only valid if {@link #isIndexed()}. */
+  public TupleFields fields() {
+    return fields;
+  }
+
+  /** Value at the position of the field. Only valid if {@link #isIndexed()}. */
+  public ExprValue get(int index) {
+    return values[index];
+  }
+
+  @Override
+  public int size() {
+    return copy == null ? values.length : copy.size();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return copy == null ? fields.indexOf(key) >= 0 : copy.containsKey(key);
+  }
+
+  @Override
+  public ExprValue get(Object key) {
+    if (copy != null) {
+      return copy.get(key);
+    }
+    int index = fields.indexOf(key);
+    return index < 0 ? null : values[index];
+  }
+
+  @Override
+  public ExprValue getOrDefault(Object key, ExprValue defaultValue) {
+    if (copy != null) {
+      return copy.getOrDefault(key, defaultValue);
+    }
+    int index = fields.indexOf(key);
+    return index < 0 ? defaultValue : values[index];
+  }
+
+  @Override
+  public ExprValue put(String key, ExprValue value) {
+    if (copy == null) {
+      int index = fields.indexOf(key);
+      if (index >= 0) {
+        ExprValue previous = values[index];
+        values[index] = value;
+        return previous;
+      }
+      copy();
+    }
+    return copy.put(key, value);
+  }
+
+  @Override
+  public ExprValue remove(Object key) {
+    if (copy == null) {
+      if (fields.indexOf(key) < 0) {
+        return null;
+      }
+      copy();
+    }
+    return copy.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    copy = new LinkedHashMap<>();
+  }
+
+  @Override
+  public Collection<ExprValue> values() {
+    return copy == null ? Arrays.asList(values) : copy.values();
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super ExprValue> action) {
+    if (copy != null) {
+      copy.forEach(action);
+      return;
+    }
+    for (int i = 0; i < values.length; i++) {
+      action.accept(fields.name(i), values[i]);
+    }
+  }
+
+  @Override
+  public Set<Entry<String, ExprValue>> entrySet() {
+    if (copy != null) {
+      return copy.entrySet();
+    }
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<String, ExprValue>> iterator() {
+        if (copy != null) {
+          return copy.entrySet().iterator();
+        }
+        return new Iterator<>() {
+          private int next = 0;
+
+          @Override
+          public boolean hasNext() {
+            return next < values.length;
+          }
+
+          @Override
+          public Entry<String, ExprValue> next() {
+            if (next >= values.length) {
+              throw new NoSuchElementException();
+            }
+            return new IndexedEntry(next++);
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return IndexedTupleMap.this.size();
+      }
+    };
+  }
+
+  private void copy() {
+    LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>();
+    for (int i = 0; i < values.length; i++) {
+      map.put(fields.name(i), values[i]);
+    }
+    copy = map;
+  }
+
+  /** Entry writing through to the value array. */
+  private class IndexedEntry implements Entry<String, ExprValue> {
+    private final int index;
+
+    IndexedEntry(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public String getKey() {
+      return fields.name(index);
+    }
+
+    @Override
+    public ExprValue getValue() {
+      return values[index];
+    }
+
+    @Override
+    public ExprValue setValue(ExprValue value) {
+      ExprValue previous = values[index];
+      values[index] = value;
+      return previous;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Map.Entry<?, ?> entry
+          && getKey().equals(entry.getKey())
+          && Objects.equals(getValue(), entry.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return getKey().hashCode() ^ Objects.hashCode(getValue());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+}
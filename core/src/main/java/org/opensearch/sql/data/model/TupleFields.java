@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.model;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Ordered field names of tuples which share the same schema, e.g. all the rows produced by an
+ * operator. The name to position index is built once and shared by every {@link IndexedTupleMap},
+ * so the rows only hold an array of values.
+ */
+public final class TupleFields implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String[] names;
+
+  private final Map<String, Integer> positions;
+
+  private TupleFields(String[] names, Map<String, Integer> positions) {
+    this.names = names;
+    this.positions = positions;
+  }
+
+  /**
+   * Build the fields of the given names.
+   *
+   * @param names field names in order.
+   * @return fields, or empty if the names are not unique, since such rows cannot be indexed.
+   */
+  public static Optional<TupleFields> of(List<String> names) {
+    Map<String, Integer> positions = new HashMap<>();
+    for (int i = 0; i < names.size(); i++) {
+      if (positions.putIfAbsent(names.get(i), i) != null) {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(new TupleFields(names.toArray(new String[0]), positions));
+  }
+
+  /** Number of fields. */
+  public int size() {
+    return names.length;
+  }
+
+  /** Name of the field at the position. */
+  public String name(int index) {
+    return names[index];
+  }
+
+  /**
+   * Position of the field.
+   *
+   * @param name field name.
+   * @return position of the field, or -1 if there is no such field.
+   */
+  public int indexOf(Object name) {
+    Integer index = positions.get(name);
+    return index == null ? -1 : index;
+  }
+
+  /** Field names in order. */
+  public List<String> names() {
+    return Collections.unmodifiableList(Arrays.asList(names));
+  }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprCollectionValue;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprIpValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimeValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Compact binary encoding of {@link ExprValue} used when rows have to leave the heap, for example
+ * when a sort spills its runs to disk. Core value types are written with a one byte tag followed by
+ * their primitive representation. Any other value, e.g. storage specific types, falls back to Java
+ * serialization so that the round trip is always lossless.
+ */
+@UtilityClass
+public class ExprValueCodec {
+
+  private static final byte NULL = 0;
+  private static final byte MISSING = 1;
+  private static final byte BOOLEAN = 2;
+  private static final byte BYTE = 3;
+  private static final byte SHORT = 4;
+  private static final byte INTEGER = 5;
+  private static final byte LONG = 6;
+  private static final byte FLOAT = 7;
+  private static final byte DOUBLE = 8;
+  private static final byte STRING = 9;
+  private static final byte DATE = 10;
+  private static final byte TIME = 11;
+  private static final byte TIMESTAMP = 12;
+  private static final byte IP = 13;
+  private static final byte TUPLE = 14;
+  private static final byte ARRAY = 15;
+  private static final byte SERIALIZED = 16;
+
+  /** Approximate heap overhead of an object header plus its reference. */
+  private static final long OBJECT_OVERHEAD = 24;
+
+  /**
+   * Write the {@link ExprValue} to the output.
+   *
+   * @param value {@link ExprValue}.
+   * @param out output.
+   */
+  public static void write(ExprValue value, DataOutput out) throws IOException {
+    if (value.isNull()) {
+      out.writeByte(NULL);
+    } else if (value.isMissing()) {
+      out.writeByte(MISSING);
+    } else if (value.getClass() == ExprBooleanValue.class) {
+      out.writeByte(BOOLEAN);
+      out.writeBoolean(value.booleanValue());
+    } else if (value.getClass() == ExprByteValue.class) {
+      out.writeByte(BYTE);
+      out.writeByte(value.byteValue());
+    } else if (value.getClass() == ExprShortValue.class) {
+      out.writeByte(SHORT);
+      out.writeShort(value.shortValue());
+    } else if (value.getClass() == ExprIntegerValue.class) {
+      out.writeByte(INTEGER);
+      out.writeInt(value.integerValue());
+    } else if (value.getClass() == ExprLongValue.class) {
+      out.writeByte(LONG);
+      out.writeLong(value.longValue());
+    } else if (value.getClass() == ExprFloatValue.class) {
+      out.writeByte(FLOAT);
+      out.writeFloat(value.floatValue());
+    } else if (value.getClass() == ExprDoubleValue.class) {
+      out.writeByte(DOUBLE);
+      out.writeDouble(value.doubleValue());
+    } else if (value.getClass() == ExprStringValue.class) {
+      out.writeByte(STRING);
+      writeString(value.stringValue(), out);
+    } else if (value.getClass() == ExprDateValue.class) {
+      out.writeByte(DATE);
+      out.writeLong(value.dateValue().toEpochDay());
+    } else if (value.getClass() == ExprTimeValue.class) {
+      out.writeByte(TIME);
+      out.writeLong(value.timeValue().toNanoOfDay());
+    } else if (value.getClass() == ExprTimestampValue.class) {
+      Instant instant = value.timestampValue();
+      out.writeByte(TIMESTAMP);
+      out.writeLong(instant.getEpochSecond());
+      out.writeInt(instant.getNano());
+    } else if (value.getClass() == ExprIpValue.class) {
+      out.writeByte(IP);
+      writeString((String) value.value(), out);
+    } else if (value.getClass() == ExprTupleValue.class) {
+      Map<String, ExprValue> tuple = value.tupleValue();
+      out.writeByte(TUPLE);
+      out.writeInt(tuple.size());
+      for (Map.Entry<String, ExprValue> entry : tuple.entrySet()) {
+        writeString(entry.getKey(), out);
+        write(entry.getValue(), out);
+      }
+    } else if (value.getClass() == ExprCollectionValue.class) {
+      List<ExprValue> collection = value.collectionValue();
+      out.writeByte(ARRAY);
+      out.writeInt(collection.size());
+      for (ExprValue element : collection) {
+        write(element, out);
+      }
+    } else {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream objectOut = new ObjectOutputStream(bytes)) {
+        objectOut.writeObject(value);
+      }
+      out.writeByte(SERIALIZED);
+      out.writeInt(bytes.size());
+      out.write(bytes.toByteArray());
+    }
+  }
+
+  /**
+   * Read an {@link ExprValue} written by {@link #write(ExprValue, DataOutput)}.
+   *
+   * @param in input.
+   * @return {@link ExprValue}.
+   */
+  public static ExprValue read(DataInput in) throws IOException {
+    byte tag = in.readByte();
+    switch (tag) {
+      case NULL:
+        return ExprNullValue.of();
+      case MISSING:
+        return ExprMissingValue.of();
+      case BOOLEAN:
+        return ExprBooleanValue.of(in.readBoolean());
+      case BYTE:
+        return new ExprByteValue(in.readByte());
+      case SHORT:
+        return new ExprShortValue(in.readShort());
+      case INTEGER:
+        return new ExprIntegerValue(in.readInt());
+      case LONG:
+        return new ExprLongValue(in.readLong());
+      case FLOAT:
+        return new ExprFloatValue(in.readFloat());
+      case DOUBLE:
+        return new ExprDoubleValue(in.readDouble());
+      case STRING:
+        return new ExprStringValue(readString(in));
+      case DATE:
+        return new ExprDateValue(LocalDate.ofEpochDay(in.readLong()));
+      case TIME:
+        return new ExprTimeValue(LocalTime.ofNanoOfDay(in.readLong()));
+      case TIMESTAMP:
+        return new ExprTimestampValue(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+      case IP:
+        return new ExprIpValue(readString(in));
+      case TUPLE:
+        {
+          int size = in.readInt();
+          LinkedHashMap<String, ExprValue> tuple = new LinkedHashMap<>();
+          for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            tuple.put(key, read(in));
+          }
+          return new ExprTupleValue(tuple);
+        }
+      case ARRAY:
+        {
+          int size = in.readInt();
+          List<ExprValue> collection = new ArrayList<>(size);
+          for (int i = 0; i < size; i++) {
+            collection.add(read(in));
+          }
+          return new ExprCollectionValue(collection);
+        }
+      case SERIALIZED:
+        {
+          byte[] bytes = new byte[in.readInt()];
+          in.readFully(bytes);
+          try (ObjectInputStream objectIn =
+              new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (ExprValue) objectIn.readObject();
+          } catch (ClassNotFoundException e) {
+            throw new IOException("Failed to deserialize expression value", e);
+          }
+        }
+      default:
+        throw new IOException(String.format("Unknown expression value tag %d", tag));
+    }
+  }
+
+  /**
+   * Roughly estimate the heap footprint of an {@link ExprValue} in bytes. The estimate is only
+   * meant to bound the memory of operators which buffer rows, it does not need to be exact.
+   *
+   * @param value {@link ExprValue}.
+   * @return estimated size in bytes.
+   */
+  public static long estimateSize(ExprValue value) {
+    if (value.isNull() || value.isMissing()) {
+      return 0;
+    } else if (value instanceof ExprStringValue) {
+      return OBJECT_OVERHEAD * 2 + 2L * value.stringValue().length();
+    } else if (value instanceof ExprTupleValue) {
+      long size = OBJECT_OVERHEAD * 2;
+      for (Map.Entry<String, ExprValue> entry : value.tupleValue().entrySet()) {
+        size += OBJECT_OVERHEAD * 2 + 2L * entry.getKey().length() + estimateSize(entry.getValue());
+      }
+      return size;
+    } else if (value instanceof ExprCollectionValue) {
+      long size = OBJECT_OVERHEAD * 2;
+      for (ExprValue element : value.collectionValue()) {
+        size += 8 + estimateSize(element);
+      }
+      return size;
+    } else {
+      return OBJECT_OVERHEAD * 2;
+    }
+  }
+
+  private static void writeString(String value, DataOutput out) throws IOException {
+    // writeUTF is limited to 64KB, so encode the length explicitly.
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInput in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
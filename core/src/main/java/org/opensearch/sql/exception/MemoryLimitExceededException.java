@@ -0,0 +1,18 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.exception;
+
+/**
+ * The query is rejected because the memory it buffers exceeds its budget or the memory limit of
+ * the node. It is not a failure of Calcite, but running the query again with the legacy engine
+ * would exceed the same limit, so there is no fallback.
+ */
+public class MemoryLimitExceededException extends NonFallbackCalciteException {
+
+  public MemoryLimitExceededException(String message) {
+    super(message);
+  }
+}
@@ -7,7 +7,6 @@ package org.opensearch.sql.expression;
 
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.Getter;
@@ -26,6 +25,9 @@ public class HighlightExpression extends FunctionExpression {
   private final Expression highlightField;
   private final ExprType type;
 
+  /** Pattern of the wildcard highlight field, compiled once. */
+  private final Pattern highlightPattern;
+
   /**
    * HighlightExpression Constructor.
    *
@@ -36,6 +38,11 @@ public class HighlightExpression extends FunctionExpression {
     this.highlightField = highlightField;
     this.type =
         this.highlightField.toString().contains("*") ? ExprCoreType.STRUCT : ExprCoreType.ARRAY;
+    this.highlightPattern =
+        this.type == ExprCoreType.STRUCT
+            ? Pattern.compile(
+                StringUtils.unquoteText(highlightField.toString()).replace("*", ".*"))
+            : null;
   }
 
   /**
@@ -61,10 +68,7 @@ public class HighlightExpression extends FunctionExpression {
           new ExprTupleValue(
               new LinkedHashMap<String, ExprValue>(
                   value.tupleValue().entrySet().stream()
-                      .filter(
-                          s ->
-                              matchesHighlightRegex(
-                                  s.getKey(), StringUtils.unquoteText(highlightField.toString())))
+                      .filter(s -> highlightPattern.matcher(s.getKey()).matches())
                       .collect(Collectors.toMap(e -> e.getKey(), e -> e.getValue()))));
       if (value.tupleValue().isEmpty()) {
         value = ExprValueUtils.missingValue();
@@ -88,17 +92,4 @@ public class HighlightExpression extends FunctionExpression {
   public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
     return visitor.visitHighlight(this, context);
   }
-
-  /**
-   * Check if field matches the wildcard pattern used in highlight query.
-   *
-   * @param field Highlight selected field for query
-   * @param pattern Wildcard regex to match field against
-   * @return True if field matches wildcard pattern
-   */
-  private boolean matchesHighlightRegex(String field, String pattern) {
-    Pattern p = Pattern.compile(pattern.replace("*", ".*"));
-    Matcher matcher = p.matcher(field);
-    return matcher.matches();
-  }
 }
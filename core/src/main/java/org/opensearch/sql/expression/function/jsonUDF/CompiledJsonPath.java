@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.function.jsonUDF;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.jayway.jsonpath.JsonPath;
+import java.util.List;
+import lombok.Getter;
+import org.opensearch.sql.utils.CacheUtils;
+
+/**
+ * Path argument of the json functions, which is converted from the path like a.b{}.c{2} to the json
+ * path like $.a.b[*].c[2] and compiled only once. The path argument is a literal in almost every
+ * query, so the compiled paths are kept in a bounded node level cache instead of compiling the
+ * path on every row.
+ */
+public class CompiledJsonPath {
+
+  private static final long CACHE_SIZE = 1000;
+
+  private static final Cache<String, CompiledJsonPath> CACHE =
+      CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+
+  /** Json path like $.a.b[*].c[2]. */
+  @Getter private final String spec;
+
+  /** Parts of the json path split by dots, to expand its wildcards in a document. */
+  private final String[] parts;
+
+  /** Compiled json path, or null if it's not a valid json path. */
+  private final JsonPath jsonPath;
+
+  private CompiledJsonPath(String spec) {
+    this.spec = spec;
+    this.parts = JsonUtils.splitJsonPath(spec);
+    this.jsonPath = compile(spec);
+  }
+
+  /**
+   * Get the compiled json path.
+   *
+   * @param path path like a.b{}.c{2}.
+   * @return compiled json path.
+   * @throws IllegalArgumentException if the path can't be converted to a json path.
+   */
+  public static CompiledJsonPath of(String path) {
+    return CacheUtils.get(
+        CACHE,
+        path,
+        () -> new CompiledJsonPath(JsonUtils.convertToJsonPath(path)),
+        "Failed to compile json path " + path);
+  }
+
+  /**
+   * Expand the wildcards of the path to the paths of the elements in the document.
+   *
+   * @param root root of the document.
+   * @return expanded json paths.
+   */
+  public List<String> expand(JsonNode root) {
+    return JsonUtils.expandJsonPath(root, parts);
+  }
+
+  /**
+   * Read the value of the path in the parsed document, as the strict mode of JSON_QUERY and
+   * JSON_VALUE.
+   *
+   * @param document document parsed to maps, lists and scalar values.
+   * @return value of the path, or null if the path doesn't exist in the document.
+   */
+  Object read(Object document) {
+    if (jsonPath == null) {
+      return null;
+    }
+    try {
+      return jsonPath.read(document, JsonDocument.CONFIGURATION);
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  private static JsonPath compile(String spec) {
+    try {
+      return JsonPath.compile(spec);
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+}
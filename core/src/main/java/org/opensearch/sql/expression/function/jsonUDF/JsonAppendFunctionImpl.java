@@ -60,10 +60,10 @@ public class JsonAppendFunctionImpl extends ImplementorUDF {
       throw new RuntimeException(
           "Json append function needs corresponding path and values, but current get: " + keys);
     }
-    JsonNode root = convertInputToJsonNode(args[0]);
+    JsonNode root = JsonDocument.of(jsonStr).tree();
     List<Object> expands = new ArrayList<>();
     for (int i = 0; i < keys.size(); i += 2) {
-      List<String> expandedPaths = expandJsonPath(root, convertToJsonPath(keys.get(i).toString()));
+      List<String> expandedPaths = CompiledJsonPath.of(keys.get(i).toString()).expand(root);
       for (String expandedPath : expandedPaths) {
         expands.add(
             expandedPath
@@ -7,7 +7,6 @@ package org.opensearch.sql.expression.function.jsonUDF;
 
 import static org.apache.calcite.runtime.JsonFunctions.jsonRemove;
 import static org.opensearch.sql.calcite.utils.PPLReturnTypes.STRING_FORCE_NULLABLE;
-import static org.opensearch.sql.expression.function.jsonUDF.JsonUtils.*;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.Arrays;
@@ -56,7 +55,7 @@ public class JsonDeleteFunctionImpl extends ImplementorUDF {
     String[] pathSpecs =
         jsonPaths.stream()
             .map(Object::toString)
-            .map(JsonUtils::convertToJsonPath)
+            .map(path -> CompiledJsonPath.of(path).getSpec())
             .toArray(String[]::new);
     return jsonRemove(args[0].toString(), pathSpecs);
   }
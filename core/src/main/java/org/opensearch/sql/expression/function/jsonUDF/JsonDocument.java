@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.function.jsonUDF;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.spi.json.JacksonJsonProvider;
+import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
+import java.lang.ref.WeakReference;
+
+/**
+ * Json document of a row, which is parsed only once for all the json functions on it. The last
+ * document is kept per thread, so the json functions on the same field of a row, e.g.
+ * json_extract(f, 'a') and json_set(f, 'b', ...), share the parsed document instead of parsing
+ * the string once per function. The parsed document is never modified.
+ *
+ * <p>The document is shared only for the same string instance, i.e. the value of the field of the
+ * row, so a lookup never compares the strings. It's weakly referenced, so the thread doesn't keep
+ * it alive after the row, e.g. when the thread is returned to its pool at the end of the query.
+ */
+public class JsonDocument {
+
+  /** Same configuration as the json path functions of Calcite. */
+  static final Configuration CONFIGURATION =
+      Configuration.builder()
+          .jsonProvider(new JacksonJsonProvider())
+          .mappingProvider(new JacksonMappingProvider())
+          .build();
+
+  private static final ThreadLocal<WeakReference<JsonDocument>> LAST = new ThreadLocal<>();
+
+  private final String json;
+
+  /** Document parsed to maps, lists and scalar values, to read the json paths. */
+  private Object document;
+
+  private boolean parsed;
+
+  private boolean valid;
+
+  /** Document parsed to a tree, to expand the json paths. */
+  private JsonNode tree;
+
+  private JsonDocument(String json) {
+    this.json = json;
+  }
+
+  /**
+   * Get the document of the json string, which is parsed lazily.
+   *
+   * @param json json string.
+   * @return json document.
+   */
+  public static JsonDocument of(String json) {
+    WeakReference<JsonDocument> reference = LAST.get();
+    JsonDocument last = reference == null ? null : reference.get();
+    if (last != null && last.json == json) {
+      return last;
+    }
+    JsonDocument document = new JsonDocument(json);
+    LAST.set(new WeakReference<>(document));
+    return document;
+  }
+
+  /**
+   * Read the value of the json path, as the strict mode of JSON_QUERY and JSON_VALUE with NULL ON
+   * EMPTY and NULL ON ERROR.
+   *
+   * @param path compiled json path.
+   * @return value of the path, or null if the document is invalid or the path doesn't exist.
+   */
+  public Object read(CompiledJsonPath path) {
+    if (!parsed) {
+      try {
+        document = CONFIGURATION.jsonProvider().parse(json);
+        valid = true;
+      } catch (RuntimeException e) {
+        valid = false;
+      }
+      parsed = true;
+    }
+    return valid ? path.read(document) : null;
+  }
+
+  /**
+   * Get the document parsed to a tree.
+   *
+   * @return root of the tree.
+   * @throws RuntimeException if the document is invalid.
+   */
+  public JsonNode tree() {
+    if (tree == null) {
+      tree = JsonUtils.convertInputToJsonNode(json);
+    }
+    return tree;
+  }
+}
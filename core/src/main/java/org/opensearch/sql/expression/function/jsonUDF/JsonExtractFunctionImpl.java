@@ -5,10 +5,7 @@
 
 package org.opensearch.sql.expression.function.jsonUDF;
 
-import static org.apache.calcite.sql.SqlJsonQueryEmptyOrErrorBehavior.NULL;
-import static org.apache.calcite.sql.SqlJsonQueryWrapperBehavior.WITHOUT_ARRAY;
 import static org.opensearch.sql.calcite.utils.PPLReturnTypes.STRING_FORCE_NULLABLE;
-import static org.opensearch.sql.expression.function.jsonUDF.JsonUtils.*;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -24,7 +21,6 @@ import org.apache.calcite.linq4j.tree.Types;
 import org.apache.calcite.rex.RexCall;
 import org.apache.calcite.runtime.JsonFunctions;
 import org.apache.calcite.schema.impl.ScalarFunctionImpl;
-import org.apache.calcite.sql.SqlJsonValueEmptyOrErrorBehavior;
 import org.apache.calcite.sql.type.SqlReturnTypeInference;
 import org.opensearch.sql.expression.function.ImplementorUDF;
 import org.opensearch.sql.expression.function.UDFOperandMetadata;
@@ -60,23 +56,12 @@ public class JsonExtractFunctionImpl extends ImplementorUDF {
     if (args.length < 2) {
       return null;
     }
-    JsonFunctions.StatefulFunction a = new JsonFunctions.StatefulFunction();
-    String jsonStr = (String) args[0];
+    JsonDocument document = JsonDocument.of((String) args[0]);
     List<Object> jsonPaths = Arrays.asList(args).subList(1, args.length);
-    List<String> pathSpecs =
-        jsonPaths.stream().map(Object::toString).map(JsonUtils::convertToJsonPath).toList();
     List<Object> results = new ArrayList<>();
-    for (String pathSpec : pathSpecs) {
-      Object queryResult = a.jsonQuery(jsonStr, pathSpec, WITHOUT_ARRAY, NULL, NULL, false);
-      Object valueResult =
-          a.jsonValue(
-              jsonStr,
-              pathSpec,
-              SqlJsonValueEmptyOrErrorBehavior.NULL,
-              null,
-              SqlJsonValueEmptyOrErrorBehavior.NULL,
-              null);
-      results.add(queryResult != null ? queryResult : valueResult);
+    for (Object jsonPath : jsonPaths) {
+      // Same as JSON_QUERY for objects and arrays and JSON_VALUE for scalar values
+      results.add(document.read(CompiledJsonPath.of(jsonPath.toString())));
     }
     if (jsonPaths.size() == 1) {
       return doJsonize(results.getFirst());
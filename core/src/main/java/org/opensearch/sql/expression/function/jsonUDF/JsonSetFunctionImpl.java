@@ -6,7 +6,6 @@
 package org.opensearch.sql.expression.function.jsonUDF;
 
 import static org.opensearch.sql.calcite.utils.PPLReturnTypes.STRING_FORCE_NULLABLE;
-import static org.opensearch.sql.expression.function.jsonUDF.JsonUtils.*;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import java.util.ArrayList;
@@ -55,10 +54,10 @@ public class JsonSetFunctionImpl extends ImplementorUDF {
   public static Object eval(Object... args) {
     String jsonStr = (String) args[0];
     List<Object> keys = Arrays.asList(args).subList(1, args.length);
-    JsonNode root = convertInputToJsonNode(args[0]);
+    JsonNode root = JsonDocument.of(jsonStr).tree();
     List<Object> expands = new ArrayList<>();
     for (int i = 0; i < keys.size(); i += 2) {
-      List<String> expandedPaths = expandJsonPath(root, convertToJsonPath(keys.get(i).toString()));
+      List<String> expandedPaths = CompiledJsonPath.of(keys.get(i).toString()).expand(root);
       for (String expandedPath : expandedPaths) {
         expands.add(expandedPath);
         expands.add(keys.get(i + 1));
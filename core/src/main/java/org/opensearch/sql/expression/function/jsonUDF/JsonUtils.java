@@ -84,11 +84,22 @@ public class JsonUtils {
    * @return List of expanded paths
    */
   public static List<String> expandJsonPath(JsonNode root, String rawPath) {
+    return expandJsonPath(root, splitJsonPath(rawPath));
+  }
+
+  static List<String> expandJsonPath(JsonNode root, String[] parts) {
+    return expand(root, parts, 0, "$");
+  }
+
+  /**
+   * @param rawPath json path like $.a.b[*]
+   * @return parts of the path split by dots like [a, b[*]]
+   */
+  static String[] splitJsonPath(String rawPath) {
     // Remove only leading "$." or "$"
     String cleanedPath = rawPath.replaceFirst("^\\$\\.", "").replaceFirst("^\\$", "");
 
-    String[] parts = cleanedPath.split("\\.");
-    return expand(root, parts, 0, "$");
+    return cleanedPath.split("\\.");
   }
 
   private static List<String> expand(
@@ -10,7 +10,6 @@ import static org.opensearch.sql.calcite.utils.OpenSearchTypeFactory.TYPE_FACTOR
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import org.apache.calcite.adapter.enumerable.NotNullImplementor;
 import org.apache.calcite.adapter.enumerable.NullPolicy;
 import org.apache.calcite.adapter.enumerable.RexToLixTranslator;
@@ -21,11 +20,7 @@ import org.apache.calcite.sql.type.ReturnTypes;
 import org.apache.calcite.sql.type.SqlReturnTypeInference;
 import org.apache.calcite.sql.type.SqlTypeName;
 import org.apache.calcite.sql.type.SqlTypeUtil;
-import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.calcite.utils.PPLOperandTypes;
-import org.opensearch.sql.data.model.ExprValue;
-import org.opensearch.sql.expression.DSL;
-import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.function.ImplementorUDF;
 import org.opensearch.sql.expression.function.UDFOperandMetadata;
 import org.opensearch.sql.expression.parse.GrokExpression;
@@ -62,18 +57,8 @@ public final class GrokFunction extends ImplementorUDF {
       if (input == null) {
         return Collections.EMPTY_MAP;
       }
-      LiteralExpression inputExpr = DSL.literal(input);
-      LiteralExpression regexExpr = DSL.literal(regex);
-      List<String> namedFields = GrokExpression.getNamedGroupCandidates(regex);
-      return namedFields.stream()
-          .map(
-              namedField -> {
-                GrokExpression grokExpression =
-                    new GrokExpression(inputExpr, regexExpr, DSL.literal(namedField));
-                ExprValue parsedValue = grokExpression.parseValue(inputExpr.valueOf());
-                return Pair.of(namedField, parsedValue.stringValue());
-              })
-          .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
+      // The pattern is compiled once and all the fields are captured by a single match.
+      return GrokExpression.compile(regex).parse(input);
     }
   }
 }
@@ -5,10 +5,14 @@
 
 package org.opensearch.sql.expression.parse;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -19,6 +23,7 @@ import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.ExpressionEvaluationException;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.utils.CacheUtils;
 
 /** GrokExpression with grok patterns. */
 @EqualsAndHashCode(callSuper = true)
@@ -31,6 +36,12 @@ public class GrokExpression extends ParseExpression {
     grokCompiler.registerDefaultPatterns();
   }
 
+  /** Maximum number of compiled patterns shared by all the grok expressions and functions. */
+  private static final int GROK_CACHE_SIZE = 1000;
+
+  private static final Cache<String, CompiledGrok> grokCache =
+      CacheBuilder.newBuilder().maximumSize(GROK_CACHE_SIZE).build();
+
   @EqualsAndHashCode.Exclude private final Grok grok;
 
   /**
@@ -42,7 +53,7 @@ public class GrokExpression extends ParseExpression {
    */
   public GrokExpression(Expression sourceField, Expression pattern, Expression identifier) {
     super("grok", sourceField, pattern, identifier);
-    this.grok = grokCompiler.compile(pattern.valueOf().stringValue());
+    this.grok = compile(pattern.valueOf().stringValue()).getGrok();
   }
 
   @Override
@@ -65,10 +76,50 @@ public class GrokExpression extends ParseExpression {
    * @return list of names of the derived fields
    */
   public static List<String> getNamedGroupCandidates(String pattern) {
-    Grok grok = grokCompiler.compile(pattern);
-    return grok.namedGroups.stream()
-        .map(grok::getNamedRegexCollectionById)
-        .filter(group -> !group.equals("UNWANTED"))
-        .collect(Collectors.toUnmodifiableList());
+    return compile(pattern).getNamedFields();
+  }
+
+  /**
+   * Get the compiled grok pattern from the shared cache, compiling it on the first use.
+   *
+   * @param pattern pattern used for parsing
+   * @return compiled pattern and its derived fields
+   */
+  public static CompiledGrok compile(String pattern) {
+    return CacheUtils.get(
+        grokCache, pattern, () -> new CompiledGrok(pattern), "Failed to compile grok " + pattern);
+  }
+
+  /** Compiled grok pattern with the names of the fields it derives. */
+  @Getter
+  public static class CompiledGrok {
+    private final Grok grok;
+    private final List<String> namedFields;
+
+    CompiledGrok(String pattern) {
+      this.grok = grokCompiler.compile(pattern);
+      this.namedFields =
+          grok.namedGroups.stream()
+              .map(grok::getNamedRegexCollectionById)
+              .filter(group -> !group.equals("UNWANTED"))
+              .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Match the input once and extract all the derived fields. Fields which are not captured are
+     * empty strings.
+     *
+     * @param input text to parse
+     * @return derived field name to value
+     */
+    public Map<String, String> parse(String input) {
+      Map<String, Object> capture = grok.match(input).capture();
+      Map<String, String> result = new HashMap<>(namedFields.size() * 2);
+      for (String field : namedFields) {
+        Object match = capture.get(field);
+        result.put(field, match == null ? "" : match.toString());
+      }
+      return result;
+    }
   }
 }
@@ -32,6 +32,7 @@ import org.opensearch.sql.expression.function.FunctionName;
 import org.opensearch.sql.expression.function.FunctionSignature;
 import org.opensearch.sql.expression.function.SerializableBiFunction;
 import org.opensearch.sql.expression.function.SerializableTriFunction;
+import org.opensearch.sql.utils.PatternCache;
 
 /**
  * The definition of text functions. 1) have the clear interface for function define. 2) the
@@ -432,7 +433,10 @@ public class TextFunctions {
   }
 
   private static ExprValue exprReplace(ExprValue str, ExprValue from, ExprValue to) {
-    return new ExprStringValue(str.stringValue().replaceAll(from.stringValue(), to.stringValue()));
+    return new ExprStringValue(
+        PatternCache.regex(from.stringValue())
+            .matcher(str.stringValue())
+            .replaceAll(to.stringValue()));
   }
 
   private static ExprValue exprReverse(ExprValue str) {
@@ -14,14 +14,17 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueCodec;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.monitor.QueryMemoryAccount;
 
 /**
  * Window frame that only keep peers (tuples with same value of fields specified in sort list in
  * window definition). See PeerWindowFrameTest for details about how this window frame interacts
- * with window operator and window function.
+ * with window operator and window function. The peer rows are charged to the {@link
+ * QueryMemoryAccount} of the query while they are buffered.
  */
 @EqualsAndHashCode
 @RequiredArgsConstructor
@@ -41,6 +44,12 @@ public class PeerRowsWindowFrame implements WindowFrame {
   /** Does row at current position represents a new partition. */
   private boolean isNewPartition = true;
 
+  /** Memory account the peer rows are charged to. */
+  @EqualsAndHashCode.Exclude private QueryMemoryAccount account = QueryMemoryAccount.NONE;
+
+  /** Estimated bytes of the peer rows. */
+  @EqualsAndHashCode.Exclude private long peersBytes = 0;
+
   /** If any more pre-fetched rows not returned to window operator yet. */
   @Override
   public boolean hasNext() {
@@ -102,19 +111,29 @@ public class PeerRowsWindowFrame implements WindowFrame {
     isNewPartition = !isSamePartition(it.peek());
     position = 0;
     peers.clear();
+    account.release(peersBytes);
+    peersBytes = 0;
+    account = QueryMemoryAccount.current();
 
     while (it.hasNext()) {
       ExprValue next = it.peek();
       if (peers.isEmpty()) {
-        peers.add(it.next());
+        addPeer(it.next());
       } else if (isSamePartition(next) && isPeer(next)) {
-        peers.add(it.next());
+        addPeer(it.next());
       } else {
         break;
       }
     }
   }
 
+  private void addPeer(ExprValue row) {
+    long size = ExprValueCodec.estimateSize(row);
+    account.reserve(size);
+    peersBytes += size;
+    peers.add(row);
+  }
+
   @Override
   public boolean isNewPartition() {
     return isNewPartition;
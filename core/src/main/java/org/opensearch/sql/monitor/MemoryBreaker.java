@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.opensearch.sql.exception.MemoryLimitExceededException;
+
+/**
+ * Circuit breaker of the memory buffered by all the queries running on the node. Queries reserve
+ * the estimated bytes of the rows they buffer through their {@link QueryMemoryAccount} and release
+ * them when done. A reservation which would exceed the limit is refused, so only the query asking
+ * for the memory fails, and the queries which are already running are not affected.
+ */
+public class MemoryBreaker {
+
+  private static final MemoryBreaker INSTANCE = new MemoryBreaker(Long.MAX_VALUE);
+
+  private final AtomicLong used = new AtomicLong();
+
+  private volatile long limit;
+
+  public MemoryBreaker(long limit) {
+    this.limit = limit;
+  }
+
+  /** Breaker shared by all the queries of the node. */
+  public static MemoryBreaker getInstance() {
+    return INSTANCE;
+  }
+
+  public long getLimit() {
+    return limit;
+  }
+
+  public void setLimit(long limit) {
+    this.limit = limit;
+  }
+
+  /** Bytes currently reserved by all the queries. */
+  public long getUsed() {
+    return used.get();
+  }
+
+  /**
+   * Reserve memory.
+   *
+   * @param bytes estimated bytes.
+   * @throws MemoryLimitExceededException if the reservation would exceed the limit.
+   */
+  public void reserve(long bytes) {
+    long current;
+    long next;
+    do {
+      current = used.get();
+      next = current + bytes;
+      if (next > limit) {
+        throw new MemoryLimitExceededException(
+            String.format(
+                "Insufficient memory to run the query, %d bytes are in use by the queries on the"
+                    + " node, %d more bytes would exceed the limit of %d bytes",
+                current, bytes, limit));
+      }
+    } while (!used.compareAndSet(current, next));
+  }
+
+  /**
+   * Release reserved memory.
+   *
+   * @param bytes bytes reserved before.
+   */
+  public void release(long bytes) {
+    used.addAndGet(-bytes);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import org.opensearch.sql.exception.MemoryLimitExceededException;
+
+/**
+ * Memory account of a query. The operators which buffer rows, e.g. sort, aggregation, window and
+ * dedup, reserve the estimated bytes of the buffered rows from the account of the query running on
+ * the current thread, see {@link #current()}. A reservation is rejected if it would exceed the
+ * budget of the query, which depends only on the query itself, or the limit of the {@link
+ * MemoryBreaker} shared by the queries of the node. All the memory still reserved is released to
+ * the breaker when the account is closed at the end of the query.
+ *
+ * <p>An account is used by the thread which executes the query only.
+ */
+public class QueryMemoryAccount implements AutoCloseable {
+
+  /** Account which accepts every reservation, used if no account is open on the thread. */
+  public static final QueryMemoryAccount NONE = new QueryMemoryAccount(null, Long.MAX_VALUE);
+
+  private static final ThreadLocal<QueryMemoryAccount> CURRENT = new ThreadLocal<>();
+
+  /** Node level breaker, null for {@link #NONE}. */
+  private final MemoryBreaker breaker;
+
+  /** Maximum bytes reserved by the query. */
+  private final long budget;
+
+  private long reserved = 0;
+
+  /** Account open on the thread before this one. */
+  private QueryMemoryAccount previous;
+
+  private QueryMemoryAccount(MemoryBreaker breaker, long budget) {
+    this.breaker = breaker;
+    this.budget = budget;
+  }
+
+  /**
+   * Open the account of a query on the current thread. It must be closed on the same thread.
+   *
+   * @param breaker node level breaker.
+   * @param budget maximum bytes the query can reserve.
+   * @return account.
+   */
+  public static QueryMemoryAccount open(MemoryBreaker breaker, long budget) {
+    QueryMemoryAccount account = new QueryMemoryAccount(breaker, budget);
+    account.previous = CURRENT.get();
+    CURRENT.set(account);
+    return account;
+  }
+
+  /** Account of the query running on the current thread, or {@link #NONE}. */
+  public static QueryMemoryAccount current() {
+    QueryMemoryAccount account = CURRENT.get();
+    return account == null ? NONE : account;
+  }
+
+  /**
+   * Reserve memory for buffered rows.
+   *
+   * @param bytes estimated bytes.
+   * @throws MemoryLimitExceededException if the query exceeds its budget or the node limit.
+   */
+  public void reserve(long bytes) {
+    if (breaker == null || bytes <= 0) {
+      return;
+    }
+    if (reserved + bytes > budget) {
+      throw new MemoryLimitExceededException(
+          String.format(
+              "Insufficient memory to run the query, it requires more than its memory budget of"
+                  + " %d bytes",
+              budget));
+    }
+    breaker.reserve(bytes);
+    reserved += bytes;
+  }
+
+  /**
+   * Release memory of rows which are not buffered any more.
+   *
+   * @param bytes bytes reserved before.
+   */
+  public void release(long bytes) {
+    if (breaker == null || bytes <= 0) {
+      return;
+    }
+    long released = Math.min(bytes, reserved);
+    reserved -= released;
+    breaker.release(released);
+  }
+
+  /** Bytes currently reserved by the query. */
+  public long getReserved() {
+    return reserved;
+  }
+
+  /** Release all the memory reserved and restore the account open on the thread before. */
+  @Override
+  public void close() {
+    release(reserved);
+    if (CURRENT.get() == this) {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+}
@@ -16,4 +16,14 @@ public abstract class ResourceMonitor {
    * @return true for healthy, otherwise false.
    */
   public abstract boolean isHealthy();
+
+  /**
+   * Open the memory account of a query on the current thread, see {@link QueryMemoryAccount}. The
+   * memory of the query is not limited by default.
+   *
+   * @return account, which must be closed when the query is done.
+   */
+  public QueryMemoryAccount openMemoryAccount() {
+    return QueryMemoryAccount.open(new MemoryBreaker(Long.MAX_VALUE), Long.MAX_VALUE);
+  }
 }
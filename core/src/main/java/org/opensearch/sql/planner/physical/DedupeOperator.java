@@ -17,12 +17,15 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueCodec;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.monitor.QueryMemoryAccount;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Dedupe operator. Dedupe the input {@link ExprValue} by using the {@link
- * DedupeOperator#dedupeList} The result order follow the input order.
+ * DedupeOperator#dedupeList} The result order follow the input order. The keys seen by the
+ * non-consecutive dedupe are charged to the {@link QueryMemoryAccount} of the query.
  */
 @Getter
 @EqualsAndHashCode(callSuper = false)
@@ -42,6 +45,9 @@ public class DedupeOperator extends PhysicalPlan {
   private static final Predicate<ExprValue> NULL_OR_MISSING = v -> v.isNull() || v.isMissing();
   private static final Integer SEEN_FIRST_TIME = 1;
 
+  /** Estimated bytes of a seen key besides its values: map entry, list and count. */
+  private static final long KEY_OVERHEAD = 96;
+
   @NonNull
   public DedupeOperator(PhysicalPlan input, List<Expression> dedupeList) {
     this(input, dedupeList, ALL_ONE_DUPLICATION, IGNORE_EMPTY, NON_CONSECUTIVE);
@@ -119,9 +125,20 @@ public class DedupeOperator extends PhysicalPlan {
     }
     List<ExprValue> dedupeKey = dedupeKeyBuilder.build();
     int seenTimes = deduper.seenTimes(dedupeKey);
+    if (!consecutive && seenTimes == SEEN_FIRST_TIME) {
+      QueryMemoryAccount.current().reserve(keySize(dedupeKey));
+    }
     return seenTimes <= allowedDuplication;
   }
 
+  private static long keySize(List<ExprValue> dedupeKey) {
+    long size = KEY_OVERHEAD;
+    for (ExprValue value : dedupeKey) {
+      size += ExprValueCodec.estimateSize(value);
+    }
+    return size;
+  }
+
   /**
    * Return how many times the dedupeKey has been seen before. The side effect is the seen times
    * will add 1 times after calling this function.
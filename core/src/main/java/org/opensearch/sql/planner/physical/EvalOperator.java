@@ -10,6 +10,7 @@ import static org.opensearch.sql.expression.env.Environment.extendEnv;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -23,6 +24,8 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.IndexedTupleMap;
+import org.opensearch.sql.data.model.TupleFields;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.env.Environment;
@@ -43,6 +46,11 @@ public class EvalOperator extends PhysicalPlan {
   @Getter private final PhysicalPlan input;
   @Getter private final List<Pair<ReferenceExpression, Expression>> expressionList;
 
+  /** Fields of the last indexed input row, and the fields of the output built from them. */
+  @ToString.Exclude @EqualsAndHashCode.Exclude private TupleFields inputFields;
+
+  @ToString.Exclude @EqualsAndHashCode.Exclude private TupleFields outputFields;
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitEval(this, context);
@@ -64,8 +72,12 @@ public class EvalOperator extends PhysicalPlan {
     Map<String, ExprValue> evalMap = eval(inputValue.bindingTuples());
 
     if (STRUCT == inputValue.type()) {
-      ImmutableMap.Builder<String, ExprValue> resultBuilder = new Builder<>();
       Map<String, ExprValue> tupleValue = ExprValueUtils.getTupleValue(inputValue);
+      if (tupleValue instanceof IndexedTupleMap indexed && indexed.isIndexed()) {
+        return evalIndexed(indexed, evalMap);
+      }
+
+      ImmutableMap.Builder<String, ExprValue> resultBuilder = new Builder<>();
       for (Entry<String, ExprValue> valueEntry : tupleValue.entrySet()) {
         if (evalMap.containsKey(valueEntry.getKey())) {
           resultBuilder.put(valueEntry.getKey(), evalMap.get(valueEntry.getKey()));
@@ -97,4 +109,24 @@ public class EvalOperator extends PhysicalPlan {
     }
     return evalResultMap;
   }
+
+  /** Copy the values of an indexed row, replacing or appending the evaluated fields. */
+  private ExprValue evalIndexed(IndexedTupleMap input, Map<String, ExprValue> evalMap) {
+    if (input.fields() != inputFields || outputFields == null) {
+      inputFields = input.fields();
+      List<String> names = new ArrayList<>(inputFields.names());
+      for (String name : evalMap.keySet()) {
+        if (inputFields.indexOf(name) < 0) {
+          names.add(name);
+        }
+      }
+      outputFields = TupleFields.of(names).orElseThrow();
+    }
+    ExprValue[] values = new ExprValue[outputFields.size()];
+    for (int i = 0; i < inputFields.size(); i++) {
+      values[i] = input.get(i);
+    }
+    evalMap.forEach((name, value) -> values[outputFields.indexOf(name)] = value);
+    return ExprTupleValue.fromFields(outputFields, values);
+  }
 }
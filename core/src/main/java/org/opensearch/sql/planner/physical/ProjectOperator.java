@@ -14,27 +14,40 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.TupleFields;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.parse.ParseExpression;
 import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /** Project the fields specified in {@link ProjectOperator#projectList} from input. */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-@AllArgsConstructor
 public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
   @Getter private PhysicalPlan input;
   @Getter private List<NamedExpression> projectList;
   @Getter private List<NamedExpression> namedParseExpressions;
 
+  /** Fields of the output rows, shared by all of them. Built on the first row. */
+  @ToString.Exclude @EqualsAndHashCode.Exclude private TupleFields outputFields;
+
+  /** Constructor of {@link ProjectOperator}. */
+  public ProjectOperator(
+      PhysicalPlan input,
+      List<NamedExpression> projectList,
+      List<NamedExpression> namedParseExpressions) {
+    this.input = input;
+    this.projectList = projectList;
+    this.namedParseExpressions = namedParseExpressions;
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitProject(this, context);
@@ -53,6 +66,15 @@ public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
   @Override
   public ExprValue next() {
     ExprValue inputValue = input.next();
+    if (namedParseExpressions.isEmpty() && outputFields() != null) {
+      BindingTuple tuple = inputValue.bindingTuples();
+      ExprValue[] values = new ExprValue[projectList.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = projectList.get(i).valueOf(tuple);
+      }
+      return ExprTupleValue.fromFields(outputFields, values);
+    }
+
     ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
 
     // ParseExpression will always override NamedExpression when identifier conflicts
@@ -99,6 +121,19 @@ public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
             .collect(Collectors.toList()));
   }
 
+  /**
+   * Fields of the output rows if all the projected names are unique, otherwise null and the rows
+   * are built by a map builder, which rejects the duplicate names.
+   */
+  private TupleFields outputFields() {
+    if (outputFields == null) {
+      outputFields =
+          TupleFields.of(projectList.stream().map(NamedExpression::getNameOrAlias).toList())
+              .orElse(null);
+    }
+    return outputFields;
+  }
+
   /** Don't use, it is for deserialization needs only. */
   @Deprecated
   public ProjectOperator() {}
@@ -9,7 +9,6 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
-import java.util.PriorityQueue;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -17,11 +16,15 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.monitor.QueryMemoryAccount;
+import org.opensearch.sql.planner.physical.sort.ExternalSorter;
 
 /**
  * Sort Operator.The input data is sorted by the sort fields in the {@link SortOperator#sortList}.
  * The sort field is specified by the {@link Expression} with {@link SortOption}. The count indicate
- * how many sorted result should been return.
+ * how many sorted result should been return. Rows are buffered up to {@link
+ * SortOperator#memoryLimit} estimated bytes, beyond which sorted runs are spilled to disk and
+ * merged lazily by {@link ExternalSorter}.
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
@@ -29,19 +32,37 @@ public class SortOperator extends PhysicalPlan {
   @Getter private final PhysicalPlan input;
 
   @Getter private final List<Pair<SortOption, Expression>> sortList;
+  /** Maximum estimated bytes of rows kept in memory before spilling to disk. */
+  @Getter @EqualsAndHashCode.Exclude private final long memoryLimit;
+
   @EqualsAndHashCode.Exclude private final Comparator<ExprValue> sorter;
+  @EqualsAndHashCode.Exclude private ExternalSorter externalSorter;
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
 
   /**
-   * Sort Operator Constructor.
+   * Sort Operator Constructor which sorts all the rows in memory.
    *
    * @param input input {@link PhysicalPlan}
    * @param sortList list of sort sort field. The sort field is specified by the {@link Expression}
    *     with {@link SortOption}
    */
   public SortOperator(PhysicalPlan input, List<Pair<SortOption, Expression>> sortList) {
+    this(input, sortList, Long.MAX_VALUE);
+  }
+
+  /**
+   * Sort Operator Constructor.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort sort field. The sort field is specified by the {@link Expression}
+   *     with {@link SortOption}
+   * @param memoryLimit maximum estimated bytes of rows kept in memory before spilling to disk
+   */
+  public SortOperator(
+      PhysicalPlan input, List<Pair<SortOption, Expression>> sortList, long memoryLimit) {
     this.input = input;
     this.sortList = sortList;
+    this.memoryLimit = memoryLimit;
     this.sorter = SortHelper.constructExprComparator(sortList);
   }
 
@@ -53,12 +74,20 @@ public class SortOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
-    PriorityQueue<ExprValue> sorted = new PriorityQueue<>(1, sorter::compare);
+    externalSorter = new ExternalSorter(sorter, memoryLimit, QueryMemoryAccount.current());
     while (input.hasNext()) {
-      sorted.add(input.next());
+      externalSorter.add(input.next());
     }
 
-    iterator = iterator(sorted);
+    iterator = externalSorter.sorted();
+  }
+
+  @Override
+  public void close() {
+    if (externalSorter != null) {
+      externalSorter.close();
+    }
+    super.close();
   }
 
   @Override
@@ -75,18 +104,4 @@ public class SortOperator extends PhysicalPlan {
   public ExprValue next() {
     return iterator.next();
   }
-
-  private Iterator<ExprValue> iterator(PriorityQueue<ExprValue> result) {
-    return new Iterator<ExprValue>() {
-      @Override
-      public boolean hasNext() {
-        return !result.isEmpty();
-      }
-
-      @Override
-      public ExprValue next() {
-        return result.poll();
-      }
-    };
-  }
 }
@@ -33,15 +33,23 @@ public interface Collector {
   /** {@link Collector} tree builder. */
   @UtilityClass
   class Builder {
-    /** build {@link Collector}. */
+    /**
+     * build {@link Collector}. Grouped aggregation is collected by a single {@link
+     * HashAggregationCollector} over all the buckets, with results ordered by the bucket values.
+     */
     public static Collector build(
         List<NamedExpression> buckets, List<NamedAggregator> aggregators) {
+      return build(buckets, aggregators, true);
+    }
+
+    /** build {@link Collector}, optionally skipping the ordering of grouped results. */
+    public static Collector build(
+        List<NamedExpression> buckets, List<NamedAggregator> aggregators, boolean sorted) {
       if (buckets.isEmpty()) {
         return new MetricCollector(aggregators);
       } else {
-        return new BucketCollector(
-            buckets.get(0),
-            () -> build(ImmutableList.copyOf(buckets.subList(1, buckets.size())), aggregators));
+        return new HashAggregationCollector(
+            ImmutableList.copyOf(buckets), () -> new MetricCollector(aggregators), sorted);
       }
     }
   }
@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueOrdering;
+
+/**
+ * Composite group key made of the values of all group by expressions of one row. The hash code is
+ * computed once on construction so that probing the hash table does not rehash the values.
+ */
+public final class GroupKey {
+
+  /** Lexicographic ordering of group keys, NULL and MISSING values first. */
+  public static final Comparator<GroupKey> ORDERING = new GroupKeyOrdering();
+
+  private final ExprValue[] values;
+
+  private final int hash;
+
+  public GroupKey(ExprValue[] values) {
+    this.values = values;
+    int h = Arrays.hashCode(values);
+    this.hash = h ^ (h >>> 16);
+  }
+
+  /**
+   * Get the value of the group by expression at the given position.
+   *
+   * @param index position of the group by expression.
+   * @return {@link ExprValue}.
+   */
+  public ExprValue get(int index) {
+    return values[index];
+  }
+
+  /** Number of values in the key. */
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof GroupKey)) {
+      return false;
+    }
+    GroupKey other = (GroupKey) o;
+    return hash == other.hash && Arrays.equals(values, other.values);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(values);
+  }
+
+  private static class GroupKeyOrdering implements Comparator<GroupKey> {
+    private final ExprValueOrdering valueOrdering = ExprValueOrdering.natural().nullsFirst();
+
+    @Override
+    public int compare(GroupKey left, GroupKey right) {
+      int length = Math.min(left.values.length, right.values.length);
+      for (int i = 0; i < length; i++) {
+        int result = valueOrdering.compare(left.values[i], right.values[i]);
+        if (result != 0) {
+          return result;
+        }
+      }
+      return Integer.compare(left.values.length, right.values.length);
+    }
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.TupleFields;
+import org.opensearch.sql.data.utils.ExprValueCodec;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.monitor.QueryMemoryAccount;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Collect groups from {@link BindingTuple} in a flat open-addressing hash table keyed by the
+ * composite {@link GroupKey} of all group by expressions. Each group owns one nested {@link
+ * Collector} (typically a {@link MetricCollector}) which accumulates the aggregation states.
+ * Compared to a tree of sorted maps with one level per group by expression, each row costs a
+ * single hash probe regardless of the number of group by expressions, and ordering is only paid
+ * once per group in {@link #results()} when ordered output is required. The memory of each new
+ * group is charged to the {@link QueryMemoryAccount} of the query.
+ */
+public class HashAggregationCollector implements Collector {
+
+  /** Initial number of slots in the hash table. Must be a power of two. */
+  private static final int INITIAL_CAPACITY = 64;
+
+  /** Grow the hash table when it is more than half full to keep probe sequences short. */
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private static final int EMPTY = -1;
+
+  /** Estimated bytes of a group besides its key: table entries, collector and its states. */
+  private static final long GROUP_OVERHEAD = 128;
+
+  /** Group by expressions. */
+  private final List<NamedExpression> groupByExprs;
+
+  /** Collector Constructor. */
+  private final Supplier<Collector> supplier;
+
+  /** Sort the groups by key before emitting them. */
+  private final boolean sorted;
+
+  /** Group keys in insertion order. */
+  private final List<GroupKey> groupKeys = new ArrayList<>();
+
+  /** Nested collectors, at the same position as their key in {@link #groupKeys}. */
+  private final List<Collector> groupCollectors = new ArrayList<>();
+
+  /** Hash table slots holding the position of the group in {@link #groupKeys}. */
+  private int[] slots = newSlots(INITIAL_CAPACITY);
+
+  private int resizeThreshold = (int) (INITIAL_CAPACITY * LOAD_FACTOR);
+
+  /**
+   * Constructor of {@link HashAggregationCollector}.
+   *
+   * @param groupByExprs group by expressions.
+   * @param supplier nested collector supplier.
+   * @param sorted whether results are emitted in group key order.
+   */
+  public HashAggregationCollector(
+      List<NamedExpression> groupByExprs, Supplier<Collector> supplier, boolean sorted) {
+    this.groupByExprs = groupByExprs;
+    this.supplier = supplier;
+    this.sorted = sorted;
+  }
+
+  /**
+   * Collect group from {@link BindingTuple}. If group not exist, create new group and {@link
+   * Collector}. Then let the {@link Collector} of the group collect from {@link BindingTuple}.
+   *
+   * @param input {@link BindingTuple}.
+   */
+  @Override
+  public void collect(BindingTuple input) {
+    GroupKey key = groupKey(input);
+    int mask = slots.length - 1;
+    int slot = key.hashCode() & mask;
+    while (slots[slot] != EMPTY) {
+      int group = slots[slot];
+      if (groupKeys.get(group).equals(key)) {
+        groupCollectors.get(group).collect(input);
+        return;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    QueryMemoryAccount.current().reserve(groupSize(key));
+    Collector collector = supplier.get();
+    slots[slot] = groupKeys.size();
+    groupKeys.add(key);
+    groupCollectors.add(collector);
+    collector.collect(input);
+    if (groupKeys.size() > resizeThreshold) {
+      rehash();
+    }
+  }
+
+  /**
+   * Get result from all the groups. Each result row contains the group by values followed by the
+   * results of the nested {@link Collector}.
+   *
+   * @return list of {@link ExprValue}.
+   */
+  @Override
+  public List<ExprValue> results() {
+    Integer[] order = new Integer[groupKeys.size()];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    if (sorted) {
+      Arrays.sort(order, (l, r) -> GroupKey.ORDERING.compare(groupKeys.get(l), groupKeys.get(r)));
+    }
+
+    List<ExprValue> results = new ArrayList<>(order.length);
+    int groupCount = groupByExprs.size();
+    TupleFields fields = null;
+    for (int group : order) {
+      GroupKey key = groupKeys.get(group);
+      for (ExprValue tuple : groupCollectors.get(group).results()) {
+        Map<String, ExprValue> metrics = tuple.tupleValue();
+        if (fields == null || !hasMetricFields(fields, metrics)) {
+          fields = rowFields(metrics);
+        }
+        if (fields == null) {
+          results.add(mapRow(key, metrics));
+          continue;
+        }
+        ExprValue[] values = new ExprValue[fields.size()];
+        for (int i = 0; i < groupCount; i++) {
+          values[i] = key.get(i);
+        }
+        int i = groupCount;
+        for (ExprValue value : metrics.values()) {
+          values[i++] = value;
+        }
+        results.add(ExprTupleValue.fromFields(fields, values));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Fields of the output rows, the group by names followed by the metric names. Null if a metric
+   * has the same name as a group by expression, then the metric overrides the group key.
+   */
+  private TupleFields rowFields(Map<String, ExprValue> metrics) {
+    List<String> names = new ArrayList<>(groupByExprs.size() + metrics.size());
+    groupByExprs.forEach(expr -> names.add(expr.getNameOrAlias()));
+    names.addAll(metrics.keySet());
+    return TupleFields.of(names).orElse(null);
+  }
+
+  /** Whether the metrics are at the end of the fields in the same order. */
+  private boolean hasMetricFields(TupleFields fields, Map<String, ExprValue> metrics) {
+    if (fields.size() != groupByExprs.size() + metrics.size()) {
+      return false;
+    }
+    int i = groupByExprs.size();
+    for (String name : metrics.keySet()) {
+      if (!name.equals(fields.name(i++))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private ExprValue mapRow(GroupKey key, Map<String, ExprValue> metrics) {
+    LinkedHashMap<String, ExprValue> row = new LinkedHashMap<>();
+    for (int i = 0; i < groupByExprs.size(); i++) {
+      row.put(groupByExprs.get(i).getNameOrAlias(), key.get(i));
+    }
+    row.putAll(metrics);
+    return new ExprTupleValue(row);
+  }
+
+  /**
+   * Group Key.
+   *
+   * @param tuple {@link BindingTuple}.
+   * @return Group Key.
+   */
+  protected GroupKey groupKey(BindingTuple tuple) {
+    ExprValue[] values = new ExprValue[groupByExprs.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = groupByExprs.get(i).valueOf(tuple);
+    }
+    return new GroupKey(values);
+  }
+
+  private void rehash() {
+    int[] newSlots = newSlots(slots.length * 2);
+    int mask = newSlots.length - 1;
+    for (int group = 0; group < groupKeys.size(); group++) {
+      int slot = groupKeys.get(group).hashCode() & mask;
+      while (newSlots[slot] != EMPTY) {
+        slot = (slot + 1) & mask;
+      }
+      newSlots[slot] = group;
+    }
+    slots = newSlots;
+    resizeThreshold = (int) (newSlots.length * LOAD_FACTOR);
+  }
+
+  private static long groupSize(GroupKey key) {
+    long size = GROUP_OVERHEAD;
+    for (int i = 0; i < key.size(); i++) {
+      size += ExprValueCodec.estimateSize(key.get(i));
+    }
+    return size;
+  }
+
+  private static int[] newSlots(int capacity) {
+    int[] slots = new int[capacity];
+    Arrays.fill(slots, EMPTY);
+    return slots;
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.sort;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueCodec;
+import org.opensearch.sql.monitor.QueryMemoryAccount;
+
+/**
+ * External merge sort of {@link ExprValue}. Rows are buffered in memory until the estimated size
+ * of the buffer exceeds the memory limit, then the buffer is sorted and spilled to a temporary file
+ * as a sorted run encoded by {@link ExprValueCodec}. {@link #sorted()} lazily k-way merges the
+ * spilled runs and the in-memory remainder, so at most one row per run is materialized while
+ * reading. Sorting is stable: rows which compare equal keep their input order. The rows buffered
+ * in memory are charged to the {@link QueryMemoryAccount} of the query.
+ */
+public class ExternalSorter implements Closeable {
+
+  private static final String SPILL_FILE_PREFIX = "opensearch-sql-sort-";
+
+  private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+  private final Comparator<ExprValue> comparator;
+
+  /** Maximum estimated bytes of buffered rows before spilling. */
+  private final long memoryLimit;
+
+  private final QueryMemoryAccount account;
+
+  private List<ExprValue> buffer = new ArrayList<>();
+
+  private long bufferedBytes = 0;
+
+  private final List<Path> runs = new ArrayList<>();
+
+  private final List<DataInputStream> openReaders = new ArrayList<>();
+
+  public ExternalSorter(Comparator<ExprValue> comparator, long memoryLimit) {
+    this(comparator, memoryLimit, QueryMemoryAccount.NONE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param comparator row comparator.
+   * @param memoryLimit maximum estimated bytes of buffered rows before spilling.
+   * @param account memory account the buffered rows are charged to.
+   */
+  public ExternalSorter(
+      Comparator<ExprValue> comparator, long memoryLimit, QueryMemoryAccount account) {
+    this.comparator = comparator;
+    this.memoryLimit = memoryLimit;
+    this.account = account;
+  }
+
+  /**
+   * Add a row to sort, spilling the buffered rows to disk if the memory limit is exceeded.
+   *
+   * @param value {@link ExprValue}.
+   */
+  public void add(ExprValue value) {
+    long size = ExprValueCodec.estimateSize(value);
+    account.reserve(size);
+    buffer.add(value);
+    bufferedBytes += size;
+    if (bufferedBytes > memoryLimit) {
+      spill();
+    }
+  }
+
+  /** Number of runs spilled to disk so far. */
+  public int spilledRuns() {
+    return runs.size();
+  }
+
+  /**
+   * Get an iterator of all the added rows in order. The iterator must be consumed before {@link
+   * #close()} is called.
+   *
+   * @return iterator of sorted rows.
+   */
+  public Iterator<ExprValue> sorted() {
+    buffer.sort(comparator);
+    if (runs.isEmpty()) {
+      return buffer.iterator();
+    }
+
+    List<Iterator<ExprValue>> iterators = new ArrayList<>(runs.size() + 1);
+    for (Path run : runs) {
+      iterators.add(readRun(run));
+    }
+    iterators.add(buffer.iterator());
+    return new MergeIterator(iterators, comparator);
+  }
+
+  /** Release the in-memory buffer and delete all the spilled runs. */
+  @Override
+  public void close() {
+    buffer = new ArrayList<>();
+    account.release(bufferedBytes);
+    bufferedBytes = 0;
+    for (DataInputStream reader : openReaders) {
+      try {
+        reader.close();
+      } catch (IOException e) {
+        // best effort, the file is deleted below
+      }
+    }
+    openReaders.clear();
+    for (Path run : runs) {
+      try {
+        Files.deleteIfExists(run);
+      } catch (IOException e) {
+        run.toFile().deleteOnExit();
+      }
+    }
+    runs.clear();
+  }
+
+  private void spill() {
+    buffer.sort(comparator);
+    try {
+      Path run = Files.createTempFile(SPILL_FILE_PREFIX, ".run");
+      runs.add(run);
+      try (DataOutputStream out =
+          new DataOutputStream(
+              new BufferedOutputStream(Files.newOutputStream(run), IO_BUFFER_SIZE))) {
+        out.writeInt(buffer.size());
+        for (ExprValue value : buffer) {
+          ExprValueCodec.write(value, out);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to spill sort run to disk", e);
+    }
+    buffer = new ArrayList<>();
+    account.release(bufferedBytes);
+    bufferedBytes = 0;
+  }
+
+  private Iterator<ExprValue> readRun(Path run) {
+    try {
+      DataInputStream in =
+          new DataInputStream(new BufferedInputStream(Files.newInputStream(run), IO_BUFFER_SIZE));
+      openReaders.add(in);
+      int size = in.readInt();
+      return new Iterator<>() {
+        private int remaining = size;
+
+        @Override
+        public boolean hasNext() {
+          return remaining > 0;
+        }
+
+        @Override
+        public ExprValue next() {
+          if (remaining <= 0) {
+            throw new NoSuchElementException();
+          }
+          remaining--;
+          try {
+            return ExprValueCodec.read(in);
+          } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read sort run from disk", e);
+          }
+        }
+      };
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read sort run from disk", e);
+    }
+  }
+
+  /** Lazy k-way merge of sorted iterators. Ties are broken by iterator position. */
+  private static class MergeIterator implements Iterator<ExprValue> {
+    private final List<Iterator<ExprValue>> iterators;
+    private final PriorityQueue<Head> heads;
+
+    MergeIterator(List<Iterator<ExprValue>> iterators, Comparator<ExprValue> comparator) {
+      this.iterators = iterators;
+      this.heads =
+          new PriorityQueue<>(
+              iterators.size(),
+              Comparator.<Head, ExprValue>comparing(head -> head.value, comparator)
+                  .thenComparingInt(head -> head.source));
+      for (int i = 0; i < iterators.size(); i++) {
+        advance(i);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !heads.isEmpty();
+    }
+
+    @Override
+    public ExprValue next() {
+      Head head = heads.poll();
+      if (head == null) {
+        throw new NoSuchElementException();
+      }
+      advance(head.source);
+      return head.value;
+    }
+
+    private void advance(int source) {
+      Iterator<ExprValue> iterator = iterators.get(source);
+      if (iterator.hasNext()) {
+        heads.add(new Head(iterator.next(), source));
+      }
+    }
+  }
+
+  private static class Head {
+    private final ExprValue value;
+    private final int source;
+
+    Head(ExprValue value, int source) {
+      this.value = value;
+      this.source = source;
+    }
+  }
+}
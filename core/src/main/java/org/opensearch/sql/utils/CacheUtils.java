@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public final class CacheUtils {
+
+  /**
+   * Get the value of the key from the cache, loading it on miss. A runtime exception thrown by the
+   * loader is rethrown as it is, rather than wrapped by the cache, so callers see the same
+   * exceptions as without the cache.
+   *
+   * @param cache cache.
+   * @param key key.
+   * @param loader loads the value on miss.
+   * @param failure message of the exception thrown if the loader throws a checked exception.
+   * @return value of the key.
+   */
+  public static <K, V> V get(
+      Cache<K, V> cache, K key, Callable<? extends V> loader, String failure) {
+    try {
+      return cache.get(key, loader);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(failure, e.getCause());
+    }
+  }
+}
@@ -88,6 +88,14 @@ public class IPUtils {
     return ipv6A.compareTo(ipv6B);
   }
 
+  /**
+   * Returns a hash code of the given {@link IPAddress} consistent with {@link #compare}, so IPv4
+   * addresses and the IPv6 addresses they map to hash alike.
+   */
+  public static int hashCode(IPAddress address) {
+    return toIPv6Address(address).getValue().hashCode();
+  }
+
   /** Returns the {@link IPv6Address} corresponding to the given {@link IPAddress}. */
   private static IPv6Address toIPv6Address(IPAddress ipAddress) {
     return ipAddress instanceof IPv4Address iPv4Address
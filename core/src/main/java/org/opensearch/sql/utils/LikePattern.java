@@ -0,0 +1,199 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.utils;
+
+import java.util.regex.Pattern;
+
+/**
+ * Compiled wildcard pattern of LIKE, in which percent (%) matches any characters and underscore (_)
+ * matches a single character, case-insensitively. A pattern which is a literal with percents only
+ * at its start or end, i.e. an exact, prefix, suffix or contains pattern, is matched by comparing
+ * the strings. Other patterns are matched by the regular expression translated from the pattern.
+ * Both ways give the same result, e.g. only ASCII letters are compared case-insensitively and the
+ * wildcards don't match line terminators.
+ */
+public class LikePattern {
+
+  private static final char DEFAULT_ESCAPE = '\\';
+
+  private enum Kind {
+    EXACT,
+    PREFIX,
+    SUFFIX,
+    CONTAINS,
+    REGEX
+  }
+
+  private final Kind kind;
+
+  /** Literal of a string comparison, in lower case. */
+  private final String literal;
+
+  /** Regular expression of other patterns. */
+  private final Pattern regex;
+
+  private LikePattern(Kind kind, String literal, Pattern regex) {
+    this.kind = kind;
+    this.literal = literal;
+    this.regex = regex;
+  }
+
+  /**
+   * Compile the pattern.
+   *
+   * @param pattern string pattern to match.
+   * @return compiled pattern.
+   */
+  public static LikePattern compile(String pattern) {
+    StringBuilder literal = new StringBuilder(pattern.length());
+    boolean leading = false;
+    boolean trailing = false;
+    boolean simple = true;
+    boolean escaped = false;
+    for (char currentChar : pattern.toCharArray()) {
+      if (!escaped && currentChar == DEFAULT_ESCAPE) {
+        escaped = true;
+        continue;
+      }
+      if (!escaped && currentChar == '%') {
+        if (literal.isEmpty()) {
+          leading = true;
+        } else {
+          trailing = true;
+        }
+      } else if (!escaped && currentChar == '_') {
+        simple = false;
+      } else {
+        // The characters which are not escaped in the regular expression keep their special
+        // meaning there, so the regular expression is used for them.
+        simple &= !trailing && "?{}".indexOf(currentChar) < 0 && !isLineTerminator(currentChar);
+        literal.append(toLowerCase(currentChar));
+      }
+      escaped = false;
+    }
+
+    if (!simple) {
+      return new LikePattern(
+          Kind.REGEX, null, Pattern.compile(patternToRegex(pattern), Pattern.CASE_INSENSITIVE));
+    }
+    Kind kind;
+    if (leading && trailing) {
+      kind = Kind.CONTAINS;
+    } else if (leading) {
+      kind = Kind.SUFFIX;
+    } else if (trailing) {
+      kind = Kind.PREFIX;
+    } else {
+      kind = Kind.EXACT;
+    }
+    return new LikePattern(kind, literal.toString(), null);
+  }
+
+  /**
+   * Match the text with the pattern.
+   *
+   * @param text text to match.
+   * @return true if the whole text matches the pattern.
+   */
+  public boolean matches(String text) {
+    if (kind == Kind.REGEX) {
+      return regex.matcher(text).matches();
+    }
+    // Neither the literal nor the wildcards match a line terminator.
+    for (int i = 0; i < text.length(); i++) {
+      if (isLineTerminator(text.charAt(i))) {
+        return false;
+      }
+    }
+    int offset = text.length() - literal.length();
+    return switch (kind) {
+      case EXACT -> offset == 0 && regionMatches(text, 0);
+      case PREFIX -> offset >= 0 && regionMatches(text, 0);
+      case SUFFIX -> offset >= 0 && regionMatches(text, offset);
+      default -> contains(text, offset);
+    };
+  }
+
+  private boolean contains(String text, int lastOffset) {
+    for (int i = 0; i <= lastOffset; i++) {
+      if (regionMatches(text, i)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean regionMatches(String text, int offset) {
+    for (int i = 0; i < literal.length(); i++) {
+      if (toLowerCase(text.charAt(offset + i)) != literal.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Lower case of ASCII letters, as in a case-insensitive regular expression by default. */
+  private static char toLowerCase(char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+  }
+
+  /** Line terminators which are not matched by the dot of a regular expression by default. */
+  private static boolean isLineTerminator(char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+
+  private static String patternToRegex(String patternString) {
+    StringBuilder regex = new StringBuilder(patternString.length() * 2);
+    regex.append('^');
+    boolean escaped = false;
+    for (char currentChar : patternString.toCharArray()) {
+      if (!escaped && currentChar == DEFAULT_ESCAPE) {
+        escaped = true;
+      } else {
+        switch (currentChar) {
+          case '%':
+            if (escaped) {
+              regex.append("%");
+            } else {
+              regex.append(".*");
+            }
+            escaped = false;
+            break;
+          case '_':
+            if (escaped) {
+              regex.append("_");
+            } else {
+              regex.append('.');
+            }
+            escaped = false;
+            break;
+          default:
+            switch (currentChar) {
+              case '\\':
+              case '^':
+              case '$':
+              case '.':
+              case '*':
+              case '[':
+              case ']':
+              case '(':
+              case ')':
+              case '|':
+              case '+':
+                regex.append('\\');
+                break;
+              default:
+            }
+
+            regex.append(currentChar);
+            escaped = false;
+        }
+      }
+    }
+    regex.append('$');
+    return regex.toString();
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
+
+/**
+ * Node level cache of the patterns compiled from the pattern arguments of functions, e.g. LIKE,
+ * REGEXP and REPLACE. The pattern argument is a literal in almost every query, so it is compiled on
+ * its first row only instead of on every row. The cache is bounded for the patterns which are not
+ * literals.
+ */
+public class PatternCache {
+
+  private static final long CACHE_SIZE = 1000;
+
+  private static final Cache<String, LikePattern> LIKE_PATTERNS =
+      CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+
+  private static final Cache<String, Pattern> REGEX_PATTERNS =
+      CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+
+  private PatternCache() {}
+
+  /**
+   * Get the compiled LIKE pattern.
+   *
+   * @param pattern wildcard pattern.
+   * @return compiled pattern.
+   */
+  public static LikePattern like(String pattern) {
+    return get(LIKE_PATTERNS, pattern, () -> LikePattern.compile(pattern));
+  }
+
+  /**
+   * Get the compiled regular expression.
+   *
+   * @param regex regular expression.
+   * @return compiled pattern.
+   * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid.
+   */
+  public static Pattern regex(String regex) {
+    return get(REGEX_PATTERNS, regex, () -> Pattern.compile(regex));
+  }
+
+  private static <V> V get(Cache<String, V> cache, String key, Callable<V> loader) {
+    return CacheUtils.get(cache, key, loader, "Failed to compile pattern " + key);
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.linq4j.function.Function1;
+import org.junit.jupiter.api.Test;
+
+class EnumerableDedupTest {
+
+  private static final Function1<String, Object[]> KEY = row -> new Object[] {row};
+
+  private final Enumerable<String> input =
+      Linq4j.asEnumerable(Arrays.asList("a", "a", "b", null, "b", "a", "a", "a", null));
+
+  @Test
+  void dedup_keeps_first_rows_of_each_key() {
+    assertEquals(List.of("a", "b"), dedup(1, false, false));
+    assertEquals(List.of("a", "a", "b", "b"), dedup(2, false, false));
+  }
+
+  @Test
+  void dedup_keeps_empty_keys() {
+    assertEquals(Arrays.asList("a", "b", null, null), dedup(1, true, false));
+  }
+
+  @Test
+  void consecutive_dedup_only_counts_runs_of_same_key() {
+    assertEquals(List.of("a", "b", "a"), dedup(1, false, true));
+    assertEquals(List.of("a", "a", "b", "b", "a", "a"), dedup(2, false, true));
+    assertEquals(Arrays.asList("a", "b", null, "a", null), dedup(1, true, true));
+  }
+
+  @Test
+  void dedup_can_be_enumerated_again() {
+    Enumerable<String> dedup = EnumerableDedup.dedup(input, KEY, 1, false, false);
+    assertEquals(List.of("a", "b"), dedup.toList());
+    assertEquals(List.of("a", "b"), dedup.toList());
+  }
+
+  private List<String> dedup(int allowedDuplication, boolean keepEmpty, boolean consecutive) {
+    return EnumerableDedup.dedup(input, KEY, allowedDuplication, keepEmpty, consecutive).toList();
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.udf.udaf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.calcite.udf.udaf.LogPatternAggFunction.LogParserAccumulator;
+import org.opensearch.sql.common.patterns.BrainLogParser;
+import org.opensearch.sql.common.patterns.PatternUtils;
+import org.opensearch.sql.exception.MemoryLimitExceededException;
+import org.opensearch.sql.monitor.MemoryBreaker;
+import org.opensearch.sql.monitor.QueryMemoryAccount;
+
+class LogPatternAggFunctionTest {
+
+  private final LogPatternAggFunction function = new LogPatternAggFunction();
+
+  @Test
+  public void parse_logs_within_buffer_limit_as_single_parser_run() {
+    List<String> logs = new ArrayList<>();
+    for (int i = 0; i < 2500; i++) {
+      logs.add(
+          i % 3 == 0
+              ? "Verification succeeded for host" + i
+              : "Connection closed by user " + (i % 7) + " port " + i);
+    }
+    LogParserAccumulator acc = function.init();
+    logs.forEach(log -> function.add(acc, log, 2, 100000));
+    function.result(acc);
+
+    assertEquals(
+        new BrainLogParser(
+                BrainLogParser.DEFAULT_VARIABLE_COUNT_THRESHOLD,
+                BrainLogParser.DEFAULT_FREQUENCY_THRESHOLD_PERCENTAGE)
+            .parseAllLogPatterns(logs, 2),
+        acc.patternGroupMap);
+  }
+
+  @Test
+  public void parse_logs_per_full_buffer() {
+    LogParserAccumulator acc = function.init();
+    int bufferLimit = 1000;
+    int total = bufferLimit * 2 + 10;
+    for (int i = 0; i < total; i++) {
+      function.add(acc, "Verification succeeded for host" + i, 2, bufferLimit);
+    }
+
+    assertEquals(total, acc.size());
+    assertEquals(1, acc.patternGroupMap.size());
+    assertEquals(
+        (long) bufferLimit * 2,
+        acc.patternGroupMap.values().iterator().next().get(PatternUtils.PATTERN_COUNT));
+
+    List<Map<String, Object>> result = (List<Map<String, Object>>) function.result(acc);
+    assertEquals(1, result.size());
+    assertEquals((long) total, result.get(0).get(PatternUtils.PATTERN_COUNT));
+  }
+
+  @Test
+  public void charge_buffered_logs_and_statistics_to_memory_account() {
+    MemoryBreaker breaker = new MemoryBreaker(Long.MAX_VALUE);
+    try (QueryMemoryAccount account = QueryMemoryAccount.open(breaker, Long.MAX_VALUE)) {
+      LogParserAccumulator acc = function.init();
+      for (int i = 0; i < 10; i++) {
+        function.add(acc, "Verification succeeded for host" + i, 2, 5);
+      }
+      // The buffer is empty after the second full buffer, only the statistics are charged.
+      long statistics = account.getReserved();
+      assertTrue(statistics > 0);
+      assertEquals(0, statistics % LogParserAccumulator.STATISTICS_ENTRY_BYTES);
+
+      function.add(acc, "Verification succeeded for host10", 2, 5);
+      assertEquals(
+          statistics + LogParserAccumulator.MESSAGE_OVERHEAD + 2L * 33, account.getReserved());
+
+      function.result(acc);
+      assertEquals(0, account.getReserved());
+    }
+  }
+
+  @Test
+  public void reject_logs_exceeding_memory_budget() {
+    MemoryBreaker breaker = new MemoryBreaker(Long.MAX_VALUE);
+    try (QueryMemoryAccount account = QueryMemoryAccount.open(breaker, 1024)) {
+      LogParserAccumulator acc = function.init();
+      assertThrows(
+          MemoryLimitExceededException.class,
+          () -> {
+            for (int i = 0; i < 100; i++) {
+              function.add(acc, "Verification succeeded for host" + i, 2, 100000);
+            }
+          });
+    }
+  }
+
+  @Test
+  public void no_result_without_logs() {
+    assertNull(function.result(function.init()));
+  }
+}
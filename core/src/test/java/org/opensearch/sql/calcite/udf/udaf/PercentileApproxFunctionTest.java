@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.udf.udaf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.tdunning.math.stats.MergingDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.calcite.udf.udaf.PercentileApproxFunction.PencentileApproAccumulator;
+
+class PercentileApproxFunctionTest {
+
+  /** Error allowed after merging digests, one percent of the range of the values. */
+  private static final double DELTA = 100;
+
+  private final PercentileApproxFunction function = new PercentileApproxFunction();
+
+  private final List<Double> values = shuffledValues(10000);
+
+  @Test
+  public void streamed_percentile_matches_single_pass() {
+    for (int percentile : List.of(1, 50, 90, 99)) {
+      PencentileApproAccumulator acc = function.init();
+      for (Double value : values) {
+        function.add(acc, value, percentile, SqlTypeName.DOUBLE);
+      }
+
+      assertEquals(singlePass(percentile), function.result(acc));
+    }
+  }
+
+  @Test
+  public void merged_percentile_matches_single_pass() {
+    for (int percentile : List.of(1, 50, 90, 99)) {
+      List<PencentileApproAccumulator> partials = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        partials.add(function.init());
+      }
+      for (int i = 0; i < values.size(); i++) {
+        function.add(partials.get(i % 4), values.get(i), percentile, SqlTypeName.DOUBLE);
+      }
+      PencentileApproAccumulator merged = function.init();
+      for (PencentileApproAccumulator partial : partials) {
+        function.merge(merged, partial);
+      }
+
+      assertEquals(values.size(), merged.size());
+      assertEquals(singlePass(percentile), (double) function.result(merged), DELTA);
+    }
+  }
+
+  @Test
+  public void merge_with_empty_accumulator() {
+    PencentileApproAccumulator acc = function.init();
+    for (Double value : values) {
+      function.add(acc, value, 50, SqlTypeName.DOUBLE);
+    }
+    double expected = (double) function.result(acc);
+
+    function.merge(acc, function.init());
+    assertEquals(expected, function.result(acc));
+    assertEquals(expected, (double) function.result(function.merge(function.init(), acc)), DELTA);
+  }
+
+  @Test
+  public void skip_null_values_and_cast_result() {
+    PencentileApproAccumulator acc = function.init();
+    function.add(acc, null, 50, SqlTypeName.INTEGER);
+    assertNull(function.result(acc));
+
+    for (int i = 1; i <= 99; i++) {
+      function.add(acc, i, 50, 200.0, SqlTypeName.INTEGER);
+    }
+    assertEquals(50, function.result(acc));
+  }
+
+  private double singlePass(int percentile) {
+    MergingDigest digest = new MergingDigest(PercentileApproxFunction.DEFAULT_COMPRESSION);
+    values.forEach(digest::add);
+    return digest.quantile(percentile / 100.0);
+  }
+
+  private static List<Double> shuffledValues(int size) {
+    List<Double> values = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      values.add((double) i);
+    }
+    Collections.shuffle(values, new Random(0));
+    return values;
+  }
+}
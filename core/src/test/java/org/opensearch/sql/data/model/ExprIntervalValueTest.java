@@ -27,6 +27,7 @@ public class ExprIntervalValueTest {
     ExprValue v1 = new ExprIntervalValue(Duration.ofMinutes(1));
     ExprValue v2 = ExprValueUtils.intervalValue(Duration.ofSeconds(60));
     assertTrue(v1.equals(v2));
+    assertEquals(v1.hashCode(), v2.hashCode());
   }
 
   @Test
@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Map;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+class IndexedTupleMapTest {
+
+  private final TupleFields fields = TupleFields.of(List.of("name", "age")).orElseThrow();
+
+  @Test
+  public void get_by_name_and_position() {
+    IndexedTupleMap map =
+        new IndexedTupleMap(fields, new ExprValue[] {stringValue("John"), integerValue(20)});
+
+    assertEquals(integerValue(20), map.get("age"));
+    assertEquals(stringValue("John"), map.get(0));
+    assertNull(map.get("address"));
+    assertTrue(map.containsKey("name"));
+    assertFalse(map.containsKey("address"));
+    assertEquals(List.of("name", "age"), List.copyOf(map.keySet()));
+  }
+
+  @Test
+  public void equal_to_tuple_with_same_entries() {
+    ExprValue indexed =
+        ExprTupleValue.fromFields(fields, new ExprValue[] {stringValue("John"), integerValue(20)});
+    ExprValue tuple = ExprValueUtils.tupleValue(ImmutableMap.of("name", "John", "age", 20));
+
+    assertEquals(tuple, indexed);
+    assertEquals(indexed, tuple);
+    assertEquals(tuple.hashCode(), indexed.hashCode());
+    assertEquals(integerValue(20), indexed.keyValue("age"));
+    assertTrue(indexed.keyValue("address").isMissing());
+  }
+
+  @Test
+  public void put_new_field_copies_row() {
+    IndexedTupleMap map =
+        new IndexedTupleMap(fields, new ExprValue[] {stringValue("John"), integerValue(20)});
+    map.put("age", integerValue(30));
+    assertTrue(map.isIndexed());
+
+    map.put("address", stringValue("Seattle"));
+    assertFalse(map.isIndexed());
+    assertEquals(
+        Map.of(
+            "name", stringValue("John"),
+            "age", integerValue(30),
+            "address", stringValue("Seattle")),
+        map);
+  }
+
+  @Test
+  public void duplicate_field_names_are_not_indexed() {
+    assertTrue(TupleFields.of(List.of("name", "name")).isEmpty());
+  }
+
+  @Test
+  public void values_must_match_fields() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new IndexedTupleMap(fields, new ExprValue[] {stringValue("John")}));
+  }
+
+  @Test
+  @SneakyThrows
+  public void serializable() {
+    ExprTupleValue indexed =
+        ExprTupleValue.fromFields(fields, new ExprValue[] {stringValue("John"), integerValue(20)});
+    IndexedTupleMap copied =
+        new IndexedTupleMap(fields, new ExprValue[] {stringValue("Jane"), integerValue(30)});
+    copied.put("address", stringValue("Seattle"));
+
+    ExprValue roundTripIndexed = (ExprValue) roundTrip(indexed);
+    assertEquals(indexed, roundTripIndexed);
+    assertTrue(((IndexedTupleMap) roundTripIndexed.tupleValue()).isIndexed());
+    IndexedTupleMap roundTripCopied = (IndexedTupleMap) roundTrip(copied);
+    assertEquals(copied, roundTripCopied);
+    assertFalse(roundTripCopied.isIndexed());
+  }
+
+  private static Object roundTrip(Object object) throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+    objectOutput.writeObject(object);
+    objectOutput.flush();
+
+    ObjectInputStream objectInput =
+        new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()));
+    return objectInput.readObject();
+  }
+}
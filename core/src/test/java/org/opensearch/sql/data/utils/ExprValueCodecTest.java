@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+
+class ExprValueCodecTest {
+
+  private static Stream<ExprValue> values() {
+    return Stream.of(
+        ExprValueUtils.nullValue(),
+        ExprValueUtils.missingValue(),
+        ExprValueUtils.booleanValue(true),
+        ExprValueUtils.byteValue((byte) 1),
+        ExprValueUtils.shortValue((short) 2),
+        ExprValueUtils.integerValue(3),
+        ExprValueUtils.longValue(4L),
+        ExprValueUtils.floatValue(5.5f),
+        ExprValueUtils.doubleValue(6.5d),
+        ExprValueUtils.stringValue("opensearch"),
+        ExprValueUtils.dateValue(LocalDate.of(2020, 1, 1)),
+        ExprValueUtils.timeValue(LocalTime.of(12, 30, 15, 123456789)),
+        ExprValueUtils.timestampValue(Instant.ofEpochSecond(1577836800L, 42)),
+        ExprValueUtils.ipValue("192.168.0.1"),
+        ExprValueUtils.intervalValue(Duration.ofHours(1)),
+        ExprValueUtils.tupleValue(
+            ImmutableMap.of("name", "a", "nested", ImmutableMap.of("count", 1))),
+        ExprValueUtils.collectionValue(Arrays.asList(1, "b", 2.0d)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("values")
+  void round_trip(ExprValue value) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ExprValueCodec.write(value, new DataOutputStream(bytes));
+    ExprValue decoded =
+        ExprValueCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    assertEquals(value, decoded);
+    assertEquals(value.type(), decoded.type());
+  }
+
+  @Test
+  void estimate_size_grows_with_content() {
+    assertEquals(0, ExprValueCodec.estimateSize(ExprValueUtils.nullValue()));
+    assertTrue(
+        ExprValueCodec.estimateSize(ExprValueUtils.stringValue("a longer string value"))
+            > ExprValueCodec.estimateSize(ExprValueUtils.stringValue("a")));
+    assertTrue(
+        ExprValueCodec.estimateSize(ExprValueUtils.tupleValue(ImmutableMap.of("a", 1, "b", 2)))
+            > ExprValueCodec.estimateSize(ExprValueUtils.tupleValue(ImmutableMap.of("a", 1))));
+  }
+}
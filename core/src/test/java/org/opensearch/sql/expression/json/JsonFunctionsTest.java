@@ -6,6 +6,8 @@
 package org.opensearch.sql.expression.json;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.opensearch.sql.expression.function.jsonUDF.JsonUtils.*;
 
@@ -19,6 +21,9 @@ import org.opensearch.sql.exception.ExpressionEvaluationException;
 import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.function.jsonUDF.CompiledJsonPath;
+import org.opensearch.sql.expression.function.jsonUDF.JsonDocument;
+import org.opensearch.sql.expression.function.jsonUDF.JsonExtractFunctionImpl;
 import org.opensearch.sql.expression.function.jsonUDF.JsonUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -108,4 +113,29 @@ public class JsonFunctionsTest {
     List<String> target1 = List.of("$.[0]", "$.[1]", "$.[2]");
     assertEquals(expandJsonPath(node, candidate1), target1);
   }
+
+  @Test
+  void test_jsonExtractFromParsedDocument() {
+    String jsonStr = "{\"a\": {\"b\": [1, 2]}, \"c\": \"x\"}";
+    assertEquals("{\"b\":[1,2]}", JsonExtractFunctionImpl.eval(jsonStr, "a"));
+    assertEquals("x", JsonExtractFunctionImpl.eval(jsonStr, "c"));
+    assertEquals("[1,2]", JsonExtractFunctionImpl.eval(jsonStr, "a.b{}"));
+    assertEquals("2", JsonExtractFunctionImpl.eval(jsonStr, "a.b{1}"));
+    assertEquals("[\"x\",1,null]", JsonExtractFunctionImpl.eval(jsonStr, "c", "a.b{0}", "d"));
+    assertEquals("[null,null]", JsonExtractFunctionImpl.eval("invalid", "a", "b"));
+  }
+
+  @Test
+  void test_jsonDocumentAndPathParsedOnce() {
+    String jsonStr = "{\"a\": [{\"b\": 1}, {\"b\": 2}]}";
+    JsonDocument document = JsonDocument.of(jsonStr);
+    assertSame(document, JsonDocument.of(jsonStr));
+    assertSame(document.tree(), JsonDocument.of(jsonStr).tree());
+    // Only the same string instance, i.e. the same field value of a row, shares the document.
+    assertNotSame(document, JsonDocument.of(new String(jsonStr)));
+    assertSame(CompiledJsonPath.of("a{}.b"), CompiledJsonPath.of("a{}.b"));
+    assertEquals("$.a[*].b", CompiledJsonPath.of("a{}.b").getSpec());
+    assertEquals(
+        List.of("$.a[0].b", "$.a[1].b"), CompiledJsonPath.of("a{}.b").expand(document.tree()));
+  }
 }
@@ -6,6 +6,7 @@
 package org.opensearch.sql.expression.parse;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.config.TestConfig.STRING_TYPE_MISSING_VALUE_FIELD;
@@ -85,6 +86,20 @@ class GrokExpressionTest extends ExpressionTestBase {
                     .valueOf(env)));
   }
 
+  @Test
+  public void compiled_pattern_is_shared_and_captures_all_fields_at_once() {
+    GrokExpression.CompiledGrok compiled = GrokExpression.compile("%{WORD:verb} %{NUMBER:bytes}");
+
+    assertSame(compiled, GrokExpression.compile("%{WORD:verb} %{NUMBER:bytes}"));
+    assertEquals(Map.of("verb", "GET", "bytes", "2721"), compiled.parse("GET 2721"));
+    assertEquals(Map.of("verb", "", "bytes", ""), compiled.parse("not matched"));
+  }
+
+  @Test
+  public void compile_error_is_not_wrapped_by_cache() {
+    assertThrows(IllegalArgumentException.class, () -> GrokExpression.compile(""));
+  }
+
   @Test
   public void resolve_null_and_empty_values() {
     assertEquals(
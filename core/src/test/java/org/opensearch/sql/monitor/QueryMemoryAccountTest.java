@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.exception.MemoryLimitExceededException;
+
+class QueryMemoryAccountTest {
+
+  @Test
+  void reserve_and_release_on_close() {
+    MemoryBreaker breaker = new MemoryBreaker(100);
+    try (QueryMemoryAccount account = QueryMemoryAccount.open(breaker, 50)) {
+      assertSame(account, QueryMemoryAccount.current());
+      account.reserve(30);
+      account.release(10);
+      account.reserve(20);
+      assertEquals(40, account.getReserved());
+      assertEquals(40, breaker.getUsed());
+    }
+    assertEquals(0, breaker.getUsed());
+    assertSame(QueryMemoryAccount.NONE, QueryMemoryAccount.current());
+  }
+
+  @Test
+  void reject_query_exceeding_its_budget() {
+    MemoryBreaker breaker = new MemoryBreaker(100);
+    try (QueryMemoryAccount account = QueryMemoryAccount.open(breaker, 50)) {
+      account.reserve(40);
+      assertThrows(MemoryLimitExceededException.class, () -> account.reserve(20));
+      assertEquals(40, account.getReserved());
+      assertEquals(40, breaker.getUsed());
+    }
+  }
+
+  @Test
+  void reject_only_query_exceeding_node_limit() {
+    MemoryBreaker breaker = new MemoryBreaker(100);
+    try (QueryMemoryAccount running = QueryMemoryAccount.open(breaker, 80)) {
+      running.reserve(80);
+      try (QueryMemoryAccount other = QueryMemoryAccount.open(breaker, 80)) {
+        assertThrows(MemoryLimitExceededException.class, () -> other.reserve(30));
+        other.reserve(20);
+      }
+      assertSame(running, QueryMemoryAccount.current());
+      assertEquals(80, breaker.getUsed());
+    }
+    assertEquals(0, breaker.getUsed());
+  }
+
+  @Test
+  void no_account_accepts_everything() {
+    QueryMemoryAccount.NONE.reserve(Long.MAX_VALUE);
+    assertEquals(0, QueryMemoryAccount.NONE.getReserved());
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.IP;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+
+class HashAggregationCollectorTest {
+
+  private final List<NamedExpression> groupBy =
+      Arrays.asList(
+          DSL.named("host", DSL.ref("host", STRING)), DSL.named("code", DSL.ref("code", INTEGER)));
+
+  private final List<NamedAggregator> aggregators =
+      Collections.singletonList(DSL.named("count()", DSL.count(DSL.ref("code", INTEGER))));
+
+  @Test
+  void results_are_ordered_by_composite_key() {
+    Collector collector = Collector.Builder.build(groupBy, aggregators);
+    collect(collector, "b", 200);
+    collect(collector, "a", 500);
+    collect(collector, "b", 200);
+    collect(collector, "a", 200);
+
+    assertThat(
+        collector.results(),
+        contains(
+            ExprValueUtils.tupleValue(ImmutableMap.of("host", "a", "code", 200, "count()", 1)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("host", "a", "code", 500, "count()", 1)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("host", "b", "code", 200, "count()", 2))));
+  }
+
+  @Test
+  void unsorted_results_keep_insertion_order() {
+    Collector collector = Collector.Builder.build(groupBy, aggregators, false);
+    collect(collector, "b", 200);
+    collect(collector, "a", 500);
+
+    assertThat(
+        collector.results(),
+        contains(
+            ExprValueUtils.tupleValue(ImmutableMap.of("host", "b", "code", 200, "count()", 1)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("host", "a", "code", 500, "count()", 1))));
+  }
+
+  @Test
+  void null_group_value_is_ordered_first() {
+    Collector collector = Collector.Builder.build(groupBy, aggregators);
+    collect(collector, "a", 200);
+    Map<String, Object> nullHost = new HashMap<>();
+    nullHost.put("host", null);
+    nullHost.put("code", 200);
+    collector.collect(ExprValueUtils.tupleValue(nullHost).bindingTuples());
+
+    List<ExprValue> results = collector.results();
+    assertEquals(2, results.size());
+    assertEquals(ExprValueUtils.nullValue(), results.get(0).tupleValue().get("host"));
+  }
+
+  @Test
+  void high_cardinality_groups_survive_rehash() {
+    Collector collector = Collector.Builder.build(groupBy, aggregators, false);
+    for (int round = 0; round < 3; round++) {
+      for (int i = 0; i < 1000; i++) {
+        collect(collector, "host" + (i % 10), i);
+      }
+    }
+
+    List<ExprValue> results = collector.results();
+    assertEquals(1000, results.size());
+    assertThat(
+        results.subList(0, 2),
+        containsInAnyOrder(
+            ExprValueUtils.tupleValue(ImmutableMap.of("host", "host0", "code", 0, "count()", 3)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("host", "host1", "code", 1, "count()", 3))));
+  }
+
+  @Test
+  void equal_ip_values_are_one_group() {
+    List<NamedExpression> groupByIp = Collections.singletonList(DSL.named("ip", DSL.ref("ip", IP)));
+    Collector collector = Collector.Builder.build(groupByIp, aggregators);
+    for (String ip : List.of("1.2.3.4", "::ffff:1.2.3.4", "01.2.3.4", "2001:db7::1")) {
+      collector.collect(
+          ExprValueUtils.tupleValue(ImmutableMap.of("ip", ExprValueUtils.ipValue(ip), "code", 200))
+              .bindingTuples());
+    }
+
+    List<ExprValue> results = collector.results();
+    assertEquals(2, results.size());
+    assertEquals(ExprValueUtils.integerValue(3), results.get(0).tupleValue().get("count()"));
+    assertEquals(ExprValueUtils.integerValue(1), results.get(1).tupleValue().get("count()"));
+  }
+
+  private void collect(Collector collector, String host, int code) {
+    collector.collect(
+        ExprValueUtils.tupleValue(ImmutableMap.of("host", host, "code", code)).bindingTuples());
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+
+class ExternalSorterTest {
+
+  private final Comparator<ExprValue> byKey =
+      Comparator.comparing(value -> value.tupleValue().get("key").integerValue());
+
+  @Test
+  void sort_in_memory_without_spilling() {
+    try (ExternalSorter sorter = new ExternalSorter(byKey, Long.MAX_VALUE)) {
+      sorter.add(row(3, 0));
+      sorter.add(row(1, 1));
+      sorter.add(row(2, 2));
+
+      assertEquals(List.of(1, 2, 3), keys(sorter.sorted()));
+      assertEquals(0, sorter.spilledRuns());
+    }
+  }
+
+  @Test
+  void sort_with_spilled_runs() {
+    Random random = new Random(0);
+    List<Integer> expected = new ArrayList<>();
+    try (ExternalSorter sorter = new ExternalSorter(byKey, 1024)) {
+      for (int i = 0; i < 1000; i++) {
+        int key = random.nextInt(100);
+        expected.add(key);
+        sorter.add(row(key, i));
+      }
+      expected.sort(Comparator.naturalOrder());
+
+      assertTrue(sorter.spilledRuns() > 1);
+      assertEquals(expected, keys(sorter.sorted()));
+    }
+  }
+
+  @Test
+  void sort_with_spilled_runs_is_stable() {
+    try (ExternalSorter sorter = new ExternalSorter(byKey, 1)) {
+      for (int i = 0; i < 10; i++) {
+        sorter.add(row(i % 2, i));
+      }
+
+      List<Integer> sequences = new ArrayList<>();
+      sorter
+          .sorted()
+          .forEachRemaining(v -> sequences.add(v.tupleValue().get("seq").integerValue()));
+      assertEquals(List.of(0, 2, 4, 6, 8, 1, 3, 5, 7, 9), sequences);
+    }
+  }
+
+  private ExprValue row(int key, int seq) {
+    return ExprValueUtils.tupleValue(ImmutableMap.of("key", key, "seq", seq));
+  }
+
+  private List<Integer> keys(Iterator<ExprValue> iterator) {
+    List<Integer> keys = new ArrayList<>();
+    iterator.forEachRemaining(v -> keys.add(v.tupleValue().get("key").integerValue()));
+    return keys;
+  }
+}
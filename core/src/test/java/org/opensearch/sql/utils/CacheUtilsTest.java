@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+class CacheUtilsTest {
+
+  private final Cache<String, String> cache = CacheBuilder.newBuilder().build();
+
+  @Test
+  void load_value_once() {
+    assertEquals("a", CacheUtils.get(cache, "key", () -> "a", "failed"));
+    assertEquals("a", CacheUtils.get(cache, "key", () -> "b", "failed"));
+  }
+
+  @Test
+  void rethrow_runtime_exception_of_loader() {
+    IllegalArgumentException e =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                CacheUtils.get(
+                    cache,
+                    "key",
+                    () -> {
+                      throw new IllegalArgumentException("invalid");
+                    },
+                    "failed"));
+    assertEquals("invalid", e.getMessage());
+  }
+
+  @Test
+  void wrap_checked_exception_of_loader() {
+    IllegalStateException e =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                CacheUtils.get(
+                    cache,
+                    "key",
+                    () -> {
+                      throw new IOException("io");
+                    },
+                    "failed"));
+    assertEquals("failed", e.getMessage());
+    assertInstanceOf(IOException.class, e.getCause());
+  }
+}
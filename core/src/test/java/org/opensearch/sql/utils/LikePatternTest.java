@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class LikePatternTest {
+
+  @Test
+  void match_literal_patterns_by_string_comparison() {
+    assertTrue(LikePattern.compile("Hello").matches("hELLO"));
+    assertFalse(LikePattern.compile("Hello").matches("Hello!"));
+    assertTrue(LikePattern.compile("he%").matches("Hello world"));
+    assertTrue(LikePattern.compile("%World").matches("hello world"));
+    assertTrue(LikePattern.compile("%lo w%").matches("Hello World"));
+    assertTrue(LikePattern.compile("%").matches(""));
+    assertFalse(LikePattern.compile("%xyz%").matches("Hello World"));
+    assertTrue(LikePattern.compile("100\\%%").matches("100% sure"));
+    assertFalse(LikePattern.compile("100\\%%").matches("1000 sure"));
+  }
+
+  @Test
+  void match_same_as_regular_expression() {
+    List<String> patterns =
+        List.of(
+            "", "%", "%%", "a", "A%", "%a", "%a%", "a_c", "a%c", "%.%", "a?", "\\_%", "%\\%",
+            "é%", "%ß", "%a\\");
+    List<String> texts =
+        List.of(
+            "", "a", "A", "abc", "ABC", "cba", "a.c", "a?", "_a", "a%", "a\nb", "É", "éa", "aß",
+            "ba\\", "ba");
+    for (String pattern : patterns) {
+      LikePattern likePattern = LikePattern.compile(pattern);
+      for (String text : texts) {
+        assertEquals(
+            OperatorUtilsRegex.matches(pattern, text),
+            likePattern.matches(text),
+            String.format("pattern [%s] text [%s]", pattern, text));
+      }
+    }
+  }
+
+  @Test
+  void cache_compiled_patterns() {
+    assertSame(PatternCache.like("a%"), PatternCache.like("a%"));
+    assertSame(PatternCache.regex("a.*"), PatternCache.regex("a.*"));
+  }
+
+  /** The regular expression which LIKE was translated to before. */
+  private static class OperatorUtilsRegex {
+    static boolean matches(String pattern, String text) {
+      StringBuilder regex = new StringBuilder("^");
+      boolean escaped = false;
+      for (char c : pattern.toCharArray()) {
+        if (!escaped && c == '\\') {
+          escaped = true;
+          continue;
+        }
+        if (c == '%') {
+          regex.append(escaped ? "%" : ".*");
+        } else if (c == '_') {
+          regex.append(escaped ? "_" : ".");
+        } else {
+          if ("\\^$.*[]()|+".indexOf(c) >= 0) {
+            regex.append('\\');
+          }
+          regex.append(c);
+        }
+        escaped = false;
+      }
+      return Pattern.compile(regex.append('$').toString(), Pattern.CASE_INSENSITIVE)
+          .matcher(text)
+          .matches();
+    }
+  }
+}
@@ -19,6 +19,7 @@ public class CalciteExplainIT extends ExplainIT {
     super.init();
     enableCalcite();
     disallowCalciteFallback();
+    loadIndex(Index.ARRAY);
   }
 
   @Override
@@ -109,6 +110,48 @@ public class CalciteExplainIT extends ExplainIT {
     assertJsonEqualsIgnoreId(expected, result);
   }
 
+  // Only for Calcite
+  @Test
+  public void supportDedupPushDown() throws IOException {
+    Assume.assumeTrue("This test is only for push down enabled", isPushdownEnabled());
+    String query = "source=opensearch-sql_test_index_account | dedup state | fields state";
+    var result = explainQueryToString(query);
+    assertTrue(result, result.contains("collapse"));
+    assertTrue(result, result.contains("state.keyword"));
+  }
+
+  // Only for Calcite
+  @Test
+  public void noDedupPushDownOfMultiValuedField() throws IOException {
+    Assume.assumeTrue("This test is only for push down enabled", isPushdownEnabled());
+    // Each doc of the index has several values of the field.
+    String query = "source=opensearch-sql_test_index_array | dedup numbers | fields numbers";
+    var result = explainQueryToString(query);
+    assertFalse(result, result.contains("collapse"));
+    assertFalse(result, result.contains("top_hits"));
+  }
+
+  // Only for Calcite
+  @Test
+  public void supportTopPushDownWithMissingCount() throws IOException {
+    Assume.assumeTrue("This test is only for push down enabled", isPushdownEnabled());
+    String query = "source=opensearch-sql_test_index_account | top 1 gender";
+    var result = explainQueryToString(query);
+    assertTrue(result, result.contains("RARE_TOP_N"));
+    assertTrue(result, result.contains("gender_missing"));
+  }
+
+  // Only for Calcite
+  @Test
+  public void supportRarePushDownOfFewValues() throws IOException {
+    Assume.assumeTrue("This test is only for push down enabled", isPushdownEnabled());
+    // The field has few distinct values, so every shard returns all of them to rank exactly.
+    String query = "source=opensearch-sql_test_index_account | rare gender";
+    var result = explainQueryToString(query);
+    assertTrue(result, result.contains("RARE_TOP_N"));
+    assertTrue(result, result.contains("shard_size"));
+  }
+
   // Only for Calcite, as v2 gets unstable serialized string for function
   @Test
   public void testFilterScriptPushDownExplain() throws Exception {
@@ -94,39 +94,55 @@ public class CalcitePPLDedupIT extends PPLIntegTestCase {
   }
 
   @Test
-  @SuppressWarnings("ThrowableNotThrown")
-  public void testConsecutiveThrowException() {
-    assertThrowsWithReplace(
-        UnsupportedOperationException.class,
-        () ->
-            executeQuery(
-                String.format(
-                    "source = %s | dedup 1 name CONSECUTIVE=true | fields name",
-                    TEST_INDEX_DUPLICATION_NULLABLE)));
-
-    assertThrowsWithReplace(
-        UnsupportedOperationException.class,
-        () ->
-            executeQuery(
-                String.format(
-                    "source = %s | dedup 1 name KEEPEMPTY=true CONSECUTIVE=true | fields name",
-                    TEST_INDEX_DUPLICATION_NULLABLE)));
+  public void testConsecutiveDedup() throws IOException {
+    JSONObject actual =
+        executeQuery(
+            String.format(
+                "source = %s | dedup 1 name CONSECUTIVE=true | fields name",
+                TEST_INDEX_DUPLICATION_NULLABLE));
+    verifyDataRows(
+        actual, rows("A"), rows("B"), rows("C"), rows("D"), rows("E"), rows("A"), rows("B"),
+        rows("C"));
 
-    assertThrowsWithReplace(
-        UnsupportedOperationException.class,
-        () ->
-            executeQuery(
-                String.format(
-                    "source = %s | dedup 2 name CONSECUTIVE=true | fields name",
-                    TEST_INDEX_DUPLICATION_NULLABLE)));
+    actual =
+        executeQuery(
+            String.format(
+                "source = %s | dedup 1 name KEEPEMPTY=true CONSECUTIVE=true | fields name",
+                TEST_INDEX_DUPLICATION_NULLABLE));
+    verifyDataRows(
+        actual,
+        rows("A"),
+        rows("B"),
+        rows("C"),
+        rows((Object) null),
+        rows("D"),
+        rows("E"),
+        rows("A"),
+        rows((Object) null),
+        rows("B"),
+        rows((Object) null),
+        rows("C"),
+        rows((Object) null));
 
-    assertThrowsWithReplace(
-        UnsupportedOperationException.class,
-        () ->
-            executeQuery(
-                String.format(
-                    "source = %s | dedup 2 name KEEPEMPTY=true CONSECUTIVE=true | fields name",
-                    TEST_INDEX_DUPLICATION_NULLABLE)));
+    actual =
+        executeQuery(
+            String.format(
+                "source = %s | dedup 2 name CONSECUTIVE=true | fields name",
+                TEST_INDEX_DUPLICATION_NULLABLE));
+    verifyDataRows(
+        actual,
+        rows("A"),
+        rows("A"),
+        rows("B"),
+        rows("B"),
+        rows("C"),
+        rows("D"),
+        rows("E"),
+        rows("A"),
+        rows("A"),
+        rows("B"),
+        rows("B"),
+        rows("C"));
   }
 
   @Test
@@ -5,13 +5,16 @@
 
 package org.opensearch.sql.opensearch.client;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import org.opensearch.action.search.CreatePitRequest;
 import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics;
 import org.opensearch.transport.client.node.NodeClient;
 
 /**
@@ -54,6 +57,19 @@ public interface OpenSearchClient {
    */
   Map<String, Integer> getIndexMaxResultWindows(String... indexExpression);
 
+  /**
+   * Collect the doc count of the index and the statistics of its fields by a search of
+   * aggregations.
+   *
+   * @param indexName index name
+   * @param fields fields with doc values
+   * @param rangeFields numeric fields of which the min and max values are collected as well
+   * @return statistics of the index and the fields
+   * @throws IllegalStateException if the statistics cannot be collected in time
+   */
+  IndexStatistics getIndexStatistics(
+      OpenSearchRequest.IndexName indexName, List<String> fields, Collection<String> rangeFields);
+
   /**
    * Perform search query in the search request.
    *
@@ -90,6 +106,18 @@ public interface OpenSearchClient {
    */
   void schedule(Runnable task);
 
+  /**
+   * Perform search query in the search request without waiting for the response, for example to
+   * prefetch the next batch of a scan while the current one is consumed. The search is performed
+   * in the caller thread by default.
+   *
+   * @param request search request
+   * @param listener listener of the search response
+   */
+  default void searchAsync(OpenSearchRequest request, ActionListener<OpenSearchResponse> listener) {
+    ActionListener.completeWith(listener, () -> search(request));
+  }
+
   NodeClient getNodeClient();
 
   /**
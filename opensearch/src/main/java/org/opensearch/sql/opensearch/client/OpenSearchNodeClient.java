@@ -23,16 +23,21 @@ import org.opensearch.action.admin.indices.exists.indices.IndicesExistsResponse;
 import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.admin.indices.mapping.get.GetMappingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.opensearch.action.admin.indices.stats.IndicesStatsResponse;
 import org.opensearch.action.search.*;
 import org.opensearch.cluster.metadata.AliasMetadata;
 import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.shard.DocsStats;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics;
 import org.opensearch.transport.client.node.NodeClient;
 
 /** OpenSearch connection by node client. */
@@ -92,7 +97,7 @@ public class OpenSearchNodeClient implements OpenSearchClient {
       return mappingsResponse.mappings().entrySet().stream()
           .collect(
               Collectors.toUnmodifiableMap(
-                  Map.Entry::getKey, cursor -> new IndexMapping(cursor.getValue())));
+                  Map.Entry::getKey, cursor -> IndexMappingCache.get(cursor.getValue())));
     } catch (IndexNotFoundException | OpenSearchSecurityException e) {
       // Re-throw directly to be treated as client error finally
       throw e;
@@ -132,6 +137,32 @@ public class OpenSearchNodeClient implements OpenSearchClient {
     }
   }
 
+  @Override
+  public IndexStatistics getIndexStatistics(
+      OpenSearchRequest.IndexName indexName, List<String> fields, Collection<String> rangeFields) {
+    try {
+      IndicesStatsResponse stats =
+          client
+              .admin()
+              .indices()
+              .prepareStats(indexName.getIndexNames())
+              .clear()
+              .setDocs(true)
+              .get(IndexStatistics.TIMEOUT);
+      DocsStats docs = stats.getPrimaries().getDocs();
+      SearchResponse response =
+          client
+              .search(IndexStatistics.searchRequest(indexName, fields, rangeFields))
+              .actionGet(IndexStatistics.TIMEOUT);
+      return IndexStatistics.of(response, docs == null ? 0 : docs.getCount(), fields);
+    } catch (OpenSearchSecurityException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalStateException(
+          "Failed to collect statistics for index [" + indexName + "]", e);
+    }
+  }
+
   /** TODO: Scroll doesn't work for aggregation. Support aggregation later. */
   @Override
   public OpenSearchResponse search(OpenSearchRequest request) {
@@ -139,6 +170,15 @@ public class OpenSearchNodeClient implements OpenSearchClient {
         req -> client.search(req).actionGet(), req -> client.searchScroll(req).actionGet());
   }
 
+  /**
+   * Execute the search with listeners, so the caller isn't blocked while the shards are searched.
+   * The listener is notified in the thread which receives the search response.
+   */
+  @Override
+  public void searchAsync(OpenSearchRequest request, ActionListener<OpenSearchResponse> listener) {
+    request.searchAsync(client::search, client::searchScroll, listener);
+  }
+
   /**
    * Get the combination of the indices and the alias.
    *
@@ -22,6 +22,8 @@ import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
 import org.opensearch.action.search.*;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.client.core.CountRequest;
+import org.opensearch.client.core.CountResponse;
 import org.opensearch.client.indices.CreateIndexRequest;
 import org.opensearch.client.indices.GetIndexRequest;
 import org.opensearch.client.indices.GetIndexResponse;
@@ -33,6 +35,7 @@ import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics;
 import org.opensearch.transport.client.node.NodeClient;
 
 /**
@@ -110,6 +113,23 @@ public class OpenSearchRestClient implements OpenSearchClient {
     }
   }
 
+  @Override
+  public IndexStatistics getIndexStatistics(
+      OpenSearchRequest.IndexName indexName, List<String> fields, Collection<String> rangeFields) {
+    try {
+      // The high level client has no index stats API, so the docs are counted instead.
+      CountResponse count =
+          client.count(new CountRequest(indexName.getIndexNames()), RequestOptions.DEFAULT);
+      SearchResponse response =
+          client.search(
+              IndexStatistics.searchRequest(indexName, fields, rangeFields),
+              RequestOptions.DEFAULT);
+      return IndexStatistics.of(response, count.getCount(), fields);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to collect statistics for " + indexName, e);
+    }
+  }
+
   @Override
   public OpenSearchResponse search(OpenSearchRequest request) {
     return request.search(
@@ -65,6 +65,9 @@ public class OpenSearchDataType implements ExprType, Serializable {
   // resolved ExprCoreType
   @Getter protected ExprCoreType exprCoreType;
 
+  // values longer than it are not indexed by a keyword field, null if all values are indexed
+  @Getter @EqualsAndHashCode.Exclude protected Integer ignoreAbove;
+
   /**
    * Get a simplified type {@link ExprCoreType} if possible. To avoid returning `UNKNOWN` for
    * `OpenSearch*Type`s, e.g. for IP, returns itself. If the `exprCoreType` is {@link
@@ -179,6 +182,13 @@ public class OpenSearchDataType implements ExprType, Serializable {
         Map<String, OpenSearchDataType> fields =
             parseMapping((Map<String, Object>) innerMap.getOrDefault("fields", Map.of()));
         return (!fields.isEmpty()) ? OpenSearchTextType.of(fields) : OpenSearchTextType.of();
+      case Keyword:
+        if (!innerMap.containsKey("ignore_above")) {
+          return res;
+        }
+        OpenSearchDataType keywordDataType = res.cloneEmpty();
+        keywordDataType.ignoreAbove = ((Number) innerMap.get("ignore_above")).intValue();
+        return keywordDataType;
       case GeoPoint:
         return OpenSearchGeoPointType.of();
       case Binary:
@@ -268,9 +278,24 @@ public class OpenSearchDataType implements ExprType, Serializable {
    * @return A cloned object.
    */
   protected OpenSearchDataType cloneEmpty() {
-    return this.mappingType == null
-        ? new OpenSearchDataType(this.exprCoreType)
-        : new OpenSearchDataType(this.mappingType);
+    OpenSearchDataType clone =
+        this.mappingType == null
+            ? new OpenSearchDataType(this.exprCoreType)
+            : new OpenSearchDataType(this.mappingType);
+    clone.ignoreAbove = this.ignoreAbove;
+    return clone;
+  }
+
+  /**
+   * Clone type object with the given {@link #properties}. The type itself is not modified.
+   *
+   * @param properties properties of the cloned object.
+   * @return A cloned object.
+   */
+  public OpenSearchDataType cloneWithProperties(Map<String, OpenSearchDataType> properties) {
+    OpenSearchDataType clone = cloneEmpty();
+    clone.properties = properties;
+    return clone;
   }
 
   /**
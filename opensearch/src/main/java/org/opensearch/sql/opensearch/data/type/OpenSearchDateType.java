@@ -149,6 +149,9 @@ public class OpenSearchDateType extends OpenSearchDataType {
 
   @EqualsAndHashCode.Exclude private final List<String> formats;
 
+  /** Formatters compiled from {@link #formats} on first use, not serialized. */
+  @EqualsAndHashCode.Exclude private transient volatile CompiledFormats compiledFormats;
+
   private OpenSearchDateType() {
     super(MappingType.Date);
     this.formats = List.of();
@@ -253,26 +256,47 @@ public class OpenSearchDateType extends OpenSearchDataType {
    * @return A ZonedDateTime representing the parsed date/time in UTC, or null if parsing fails.
    */
   public ZonedDateTime getParsedDateTime(String dateTime) {
-    List<DateFormatter> dateFormatters =
-        Stream.concat(this.getAllNamedFormatters().stream(), this.getAllCustomFormatters().stream())
-            .collect(Collectors.toList());
-    ZonedDateTime zonedDateTime = null;
-
-    // check if dateFormatters are empty, then set default ones
-    if (dateFormatters.isEmpty()) {
-      dateFormatters = OPENSEARCH_DEFAULT_FORMATTERS;
-    }
-    // parse using OpenSearch DateFormatters
-    for (DateFormatter formatter : dateFormatters) {
-      try {
-        TemporalAccessor accessor = formatter.parse(dateTime);
-        zonedDateTime = DateFormatters.from(accessor).withZoneSameLocal(ZoneOffset.UTC);
-        break;
-      } catch (IllegalArgumentException ignored) {
-        // nothing to do, try another format
-      }
+    CompiledFormats compiled = compiledFormats();
+    // check if dateFormatters are empty, then use default ones
+    ZonedDateTime zonedDateTime =
+        compiled.formatters.isEmpty()
+            ? CompiledFormats.parseInOrder(OPENSEARCH_DEFAULT_FORMATTERS, dateTime)
+            : compiled.parse(dateTime);
+    return zonedDateTime == null ? null : zonedDateTime.withZoneSameLocal(ZoneOffset.UTC);
+  }
+
+  /**
+   * Parse the date/time string with the named and custom formatters of the mapping, which are
+   * compiled only once per type. The formatters are always tried in the same order, named formats
+   * first, so the result never depends on the values parsed before.
+   *
+   * @param dateTime The date/time string to parse.
+   * @return parsed date/time, or null if no formatter of the mapping can parse it.
+   */
+  public ZonedDateTime parseWithFormatters(String dateTime) {
+    return compiledFormats().parse(dateTime);
+  }
+
+  /**
+   * Whether numeric values of the field are parsed by a named numeric format, or by the default
+   * epoch_millis if the mapping has no format.
+   */
+  public boolean isNumericFormat() {
+    return compiledFormats().numericFormat;
+  }
+
+  /** Whether numeric values of the field are seconds since the epoch rather than milliseconds. */
+  public boolean isEpochSecondFormat() {
+    return compiledFormats().epochSecondFormat;
+  }
+
+  private CompiledFormats compiledFormats() {
+    CompiledFormats compiled = compiledFormats;
+    if (compiled == null) {
+      compiled = new CompiledFormats(this);
+      compiledFormats = compiled;
     }
-    return zonedDateTime;
+    return compiled;
   }
 
   /**
@@ -467,6 +491,52 @@ public class OpenSearchDateType extends OpenSearchDataType {
     return OpenSearchDateType.instance;
   }
 
+  /** Formatters of a date type, compiled once. */
+  private static class CompiledFormats {
+    private final List<DateFormatter> formatters;
+
+    private final boolean numericFormat;
+
+    private final boolean epochSecondFormat;
+
+    CompiledFormats(OpenSearchDateType type) {
+      this.formatters =
+          Stream.concat(
+                  type.getAllNamedFormatters().stream(), type.getAllCustomFormatters().stream())
+              .toList();
+      this.numericFormat = !type.hasFormats() || !type.getNumericNamedFormatters().isEmpty();
+      // no CamelCase for `EPOCH_*` formats
+      this.epochSecondFormat =
+          type.formats.stream()
+              .anyMatch(format -> FormatNames.forName(format) == FormatNames.EPOCH_SECOND);
+    }
+
+    ZonedDateTime parse(String dateTime) {
+      return parseInOrder(formatters, dateTime);
+    }
+
+    /** Parse with the first of the formatters which can parse the date/time string. */
+    static ZonedDateTime parseInOrder(List<DateFormatter> formatters, String dateTime) {
+      for (DateFormatter formatter : formatters) {
+        ZonedDateTime zonedDateTime = parse(formatter, dateTime);
+        if (zonedDateTime != null) {
+          return zonedDateTime;
+        }
+      }
+      return null;
+    }
+
+    private static ZonedDateTime parse(DateFormatter formatter, String dateTime) {
+      try {
+        TemporalAccessor accessor = formatter.parse(dateTime);
+        return DateFormatters.from(accessor);
+      } catch (IllegalArgumentException ignored) {
+        // nothing to do, try another format
+        return null;
+      }
+    }
+  }
+
   @Override
   public List<ExprType> getParent() {
     return List.of(exprCoreType);
@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.data.utils;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Source fields fetched by a search request, built from its includes. It follows the path
+ * semantics of the source filtering of OpenSearch: an include fetches the field at the path with
+ * all of its sub-fields, and the objects on the way to it.
+ */
+public final class SourceIncludes {
+
+  /** Every source field is fetched. */
+  public static final SourceIncludes ALL = new SourceIncludes(null, null);
+
+  /** Include paths, or null if every field is fetched. */
+  private final Set<String> paths;
+
+  /** Paths of the objects on the way to an include path. */
+  private final Set<String> parents;
+
+  private SourceIncludes(Set<String> paths, Set<String> parents) {
+    this.paths = paths;
+    this.parents = parents;
+  }
+
+  /**
+   * Build the fetched fields of the includes.
+   *
+   * @param includes includes of the request.
+   * @return fetched fields, every field if there is no include or a wildcard include.
+   */
+  public static SourceIncludes of(List<String> includes) {
+    if (includes == null
+        || includes.isEmpty()
+        || includes.stream().anyMatch(include -> include.contains("*"))) {
+      return ALL;
+    }
+    Set<String> parents = new HashSet<>();
+    for (String include : includes) {
+      for (int dot = include.indexOf('.'); dot >= 0; dot = include.indexOf('.', dot + 1)) {
+        parents.add(include.substring(0, dot));
+      }
+    }
+    return new SourceIncludes(Set.copyOf(includes), parents);
+  }
+
+  /**
+   * Whether the field is fetched, i.e. it's included itself, it's a sub-field of an include, or
+   * it's an object on the way to an include.
+   *
+   * @param path full path of the field.
+   * @return true if the field is fetched.
+   */
+  public boolean includes(String path) {
+    if (paths == null || paths.contains(path) || parents.contains(path)) {
+      return true;
+    }
+    for (int dot = path.indexOf('.'); dot >= 0; dot = path.indexOf('.', dot + 1)) {
+      if (paths.contains(path.substring(0, dot))) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
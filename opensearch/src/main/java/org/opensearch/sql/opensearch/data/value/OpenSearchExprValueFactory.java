@@ -20,17 +20,19 @@ import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_HOUR_MINUTE_SECOND_FORMATTER;
 import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_YEAR_MONTH_DAY_FORMATTER;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
-import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -38,10 +40,10 @@ import java.util.Optional;
 import java.util.function.BiFunction;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.OpenSearchParseException;
-import org.opensearch.common.time.DateFormatter;
 import org.opensearch.common.time.DateFormatters;
-import org.opensearch.common.time.FormatNames;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprByteValue;
@@ -68,6 +70,7 @@ import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.utils.Content;
 import org.opensearch.sql.opensearch.data.utils.ObjectContent;
 import org.opensearch.sql.opensearch.data.utils.OpenSearchJsonContent;
+import org.opensearch.sql.opensearch.data.utils.SourceIncludes;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 
 /** Construct ExprValue from OpenSearch response. */
@@ -172,6 +175,79 @@ public class OpenSearchExprValueFactory {
     }
   }
 
+  /**
+   * Construct ExprValue from the source bytes of a search hit. The source is read by a streaming
+   * parser directly from the bytes, and the tuple is built from the tokens of its objects as they
+   * are read: the fields outside the type mapping or the includes are skipped without building
+   * anything for them, only the values of the fields kept are read as JSON nodes.
+   *
+   * @param source JSON source bytes of the hit, see {@link #isJsonObject(BytesReference)}.
+   * @param includes source fields fetched by the request.
+   * @param supportArrays whether to support arrays of objects.
+   * @return struct value of the source.
+   */
+  public ExprValue construct(
+      BytesReference source, SourceIncludes includes, boolean supportArrays) {
+    BytesRef bytes = source.toBytesRef();
+    try (JsonParser parser =
+        OBJECT_MAPPER.getFactory().createParser(bytes.bytes, bytes.offset, bytes.length)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return ExprTupleValue.empty();
+      }
+      return parseStruct(parser, TOP_PATH, includes, fieldTypeTolerance || supportArrays);
+    } catch (IOException e) {
+      throw new IllegalStateException(String.format("invalid json: %s.", bytes.utf8ToString()), e);
+    }
+  }
+
+  /**
+   * Parse the object at the current START_OBJECT token of the parser, leaving the parser at its
+   * END_OBJECT token. Objects of struct fields are parsed the same way, the other values are read
+   * as JSON nodes and parsed as {@link Content}.
+   *
+   * @param parser parser at the start of the object.
+   * @param prefix Prefix for Level of object depth to parse.
+   * @param includes source fields fetched by the request.
+   * @param supportArrays Parsing the whole array if array is type nested.
+   * @return Value parsed from the object.
+   */
+  private ExprValue parseStruct(
+      JsonParser parser, String prefix, SourceIncludes includes, boolean supportArrays)
+      throws IOException {
+    ExprTupleValue result = ExprTupleValue.empty();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      String field = makeField(prefix, name);
+      JsonToken token = parser.nextToken();
+      Optional<ExprType> type = type(field);
+      if (type.isEmpty() || !includes.includes(field)) {
+        parser.skipChildren();
+        continue;
+      }
+      ExprValue value =
+          token == JsonToken.START_OBJECT && isStruct(type.get())
+              ? parseStruct(parser, field, includes, supportArrays)
+              : parse(
+                  new OpenSearchJsonContent(OBJECT_MAPPER.readTree(parser)),
+                  field,
+                  type,
+                  supportArrays);
+      populateValueRecursive(result, new JsonPath(name), value);
+    }
+    return result;
+  }
+
+  /** Whether the source is a JSON object, i.e. the first non-whitespace byte is '{'. */
+  public static boolean isJsonObject(BytesReference source) {
+    for (int i = 0; i < source.length(); i++) {
+      byte b = source.get(i);
+      if (!Character.isWhitespace(b)) {
+        return b == '{';
+      }
+    }
+    return false;
+  }
+
   /**
    * Construct ExprValue from field and its value object. Throw exception if trying to construct
    * from field of unsupported type.<br>
@@ -204,8 +280,7 @@ public class OpenSearchExprValueFactory {
     } else if (type.equals(OpenSearchDataType.of(OpenSearchDataType.MappingType.Nested))
         || content.isArray()) {
       return parseArray(content, field, type, supportArrays);
-    } else if (type.equals(OpenSearchDataType.of(OpenSearchDataType.MappingType.Object))
-        || type == STRUCT) {
+    } else if (isStruct(type)) {
       return parseStruct(content, field, supportArrays);
     } else if (typeActionMap.containsKey(type)) {
       return typeActionMap.get(type).apply(content, type);
@@ -216,6 +291,11 @@ public class OpenSearchExprValueFactory {
     }
   }
 
+  private static boolean isStruct(ExprType type) {
+    return type.equals(OpenSearchDataType.of(OpenSearchDataType.MappingType.Object))
+        || type == STRUCT;
+  }
+
   private ExprValue parseContent(Content content) {
     if (content.isNumber()) {
       if (content.isInt()) {
@@ -262,25 +342,18 @@ public class OpenSearchExprValueFactory {
    * @return Parsed value
    */
   private static ExprValue parseDateTimeString(String value, OpenSearchDateType dataType) {
-    List<DateFormatter> formatters = dataType.getAllNamedFormatters();
-    formatters.addAll(dataType.getAllCustomFormatters());
     ExprCoreType returnFormat = dataType.getExprCoreType();
 
-    for (DateFormatter formatter : formatters) {
-      try {
-        TemporalAccessor accessor = formatter.parse(value);
-        ZonedDateTime zonedDateTime = DateFormatters.from(accessor);
-        switch (returnFormat) {
-          case TIME:
-            return new ExprTimeValue(zonedDateTime.withZoneSameLocal(ZoneOffset.UTC).toLocalTime());
-          case DATE:
-            return new ExprDateValue(zonedDateTime.withZoneSameLocal(ZoneOffset.UTC).toLocalDate());
-          default:
-            return new ExprTimestampValue(
-                zonedDateTime.withZoneSameLocal(ZoneOffset.UTC).toInstant());
-        }
-      } catch (IllegalArgumentException ignored) {
-        // nothing to do, try another format
+    ZonedDateTime zonedDateTime = dataType.parseWithFormatters(value);
+    if (zonedDateTime != null) {
+      switch (returnFormat) {
+        case TIME:
+          return new ExprTimeValue(zonedDateTime.withZoneSameLocal(ZoneOffset.UTC).toLocalTime());
+        case DATE:
+          return new ExprDateValue(zonedDateTime.withZoneSameLocal(ZoneOffset.UTC).toLocalDate());
+        default:
+          return new ExprTimestampValue(
+              zonedDateTime.withZoneSameLocal(ZoneOffset.UTC).toInstant());
       }
     }
 
@@ -310,12 +383,9 @@ public class OpenSearchExprValueFactory {
     OpenSearchDateType dt = (OpenSearchDateType) type;
     ExprCoreType returnFormat = dt.getExprCoreType();
     if (value.isNumber()) { // isNumber
-      var numFormatters = dt.getNumericNamedFormatters();
-      if (numFormatters.size() > 0 || !dt.hasFormats()) {
+      if (dt.isNumericFormat()) {
         long epochMillis = 0;
-        if (numFormatters.contains(
-            DateFormatter.forPattern(FormatNames.EPOCH_SECOND.getSnakeCaseName()))) {
-          // no CamelCase for `EPOCH_*` formats
+        if (dt.isEpochSecondFormat()) {
           epochMillis = value.longValue() * 1000;
         } else /* EPOCH_MILLIS */ {
           epochMillis = value.longValue();
@@ -16,6 +16,7 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,7 @@ import org.opensearch.sql.calcite.utils.CalciteToolsHelper.OpenSearchRelRunners;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.TupleFields;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.executor.ExecutionContext;
@@ -44,6 +46,7 @@ import org.opensearch.sql.executor.Explain;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.PPLFuncImpTable;
+import org.opensearch.sql.monitor.QueryMemoryAccount;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
 import org.opensearch.sql.opensearch.functions.DistinctCountApproxAggFunction;
@@ -83,25 +86,28 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
     PhysicalPlan plan = executionProtector.protect(physicalPlan);
     client.schedule(
         () -> {
-          try {
-            List<ExprValue> result = new ArrayList<>();
+          try (QueryMemoryAccount account = executionProtector.openMemoryAccount()) {
+            try {
+              List<ExprValue> result = new ArrayList<>();
 
-            context.getSplit().ifPresent(plan::add);
-            plan.open();
+              context.getSplit().ifPresent(plan::add);
+              plan.open();
 
-            Integer querySizeLimit = context.getQuerySizeLimit();
-            while (plan.hasNext() && (querySizeLimit == null || result.size() < querySizeLimit)) {
-              result.add(plan.next());
-            }
+              Integer querySizeLimit = context.getQuerySizeLimit();
+              while (plan.hasNext()
+                  && (querySizeLimit == null || result.size() < querySizeLimit)) {
+                result.add(plan.next());
+              }
 
-            QueryResponse response =
-                new QueryResponse(
-                    physicalPlan.schema(), result, planSerializer.convertToCursor(plan));
-            listener.onResponse(response);
-          } catch (Exception e) {
-            listener.onFailure(e);
-          } finally {
-            plan.close();
+              QueryResponse response =
+                  new QueryResponse(
+                      physicalPlan.schema(), result, planSerializer.convertToCursor(plan));
+              listener.onResponse(response);
+            } catch (Exception e) {
+              listener.onFailure(e);
+            } finally {
+              plan.close();
+            }
           }
         });
   }
@@ -196,7 +202,8 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
             AccessController.doPrivileged(
                 (PrivilegedAction<Void>)
                     () -> {
-                      try (PreparedStatement statement = OpenSearchRelRunners.run(context, rel)) {
+                      try (QueryMemoryAccount account = executionProtector.openMemoryAccount();
+                          PreparedStatement statement = OpenSearchRelRunners.run(context, rel)) {
                         ResultSet result = statement.executeQuery();
                         buildResultSet(result, rel.getRowType(), context.querySizeLimit, listener);
                       } catch (SQLException e) {
@@ -217,27 +224,32 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
     int columnCount = metaData.getColumnCount();
     List<RelDataType> fieldTypes =
         rowTypes.getFieldList().stream().map(RelDataTypeField::getType).toList();
+    String[] columnNames = new String[columnCount];
+    int[] sqlTypes = new int[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      columnNames[i] = metaData.getColumnName(i + 1);
+      sqlTypes[i] = metaData.getColumnType(i + 1);
+    }
+    // Rows share the fields of the columns, unless the column names are not unique.
+    TupleFields fields = TupleFields.of(Arrays.asList(columnNames)).orElse(null);
     List<ExprValue> values = new ArrayList<>();
     // Iterate through the ResultSet
-    while (resultSet.next() && (querySizeLimit == null || values.size() < querySizeLimit)) {
-      Map<String, ExprValue> row = new LinkedHashMap<String, ExprValue>();
+    while ((querySizeLimit == null || values.size() < querySizeLimit) && resultSet.next()) {
+      ExprValue[] row = new ExprValue[columnCount];
       // Loop through each column
-      for (int i = 1; i <= columnCount; i++) {
-        String columnName = metaData.getColumnName(i);
-        int sqlType = metaData.getColumnType(i);
-        RelDataType fieldType = fieldTypes.get(i - 1);
-        ExprValue exprValue =
+      for (int i = 0; i < columnCount; i++) {
+        row[i] =
             JdbcOpenSearchDataTypeConvertor.getExprValueFromSqlType(
-                resultSet, i, sqlType, fieldType, columnName);
-        row.put(columnName, exprValue);
+                resultSet, i + 1, sqlTypes[i], fieldTypes.get(i), columnNames[i]);
       }
-      values.add(ExprTupleValue.fromExprValueMap(row));
+      values.add(
+          fields != null ? ExprTupleValue.fromFields(fields, row) : toTuple(columnNames, row));
     }
 
-    List<Column> columns = new ArrayList<>(metaData.getColumnCount());
-    for (int i = 1; i <= columnCount; ++i) {
-      String columnName = metaData.getColumnName(i);
-      RelDataType fieldType = fieldTypes.get(i - 1);
+    List<Column> columns = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; ++i) {
+      String columnName = columnNames[i];
+      RelDataType fieldType = fieldTypes.get(i);
       // TODO: Correct this after fixing issue github.com/opensearch-project/sql/issues/3751
       //  The element type of struct and array is currently set to ANY.
       //  We set them using the runtime type as a workaround.
@@ -259,6 +271,14 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
     listener.onResponse(response);
   }
 
+  private static ExprValue toTuple(String[] columnNames, ExprValue[] values) {
+    Map<String, ExprValue> row = new LinkedHashMap<String, ExprValue>();
+    for (int i = 0; i < columnNames.length; i++) {
+      row.put(columnNames[i], values[i]);
+    }
+    return ExprTupleValue.fromExprValueMap(row);
+  }
+
   /** Registers opensearch-dependent functions */
   private void registerOpenSearchFunctions() {
     PPLFuncImpTable.FunctionImp geoIpImpl =
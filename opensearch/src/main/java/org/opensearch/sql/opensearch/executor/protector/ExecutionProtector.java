@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.executor.protector;
 
+import org.opensearch.sql.monitor.QueryMemoryAccount;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
 
@@ -13,4 +14,12 @@ public abstract class ExecutionProtector extends PhysicalPlanNodeVisitor<Physica
 
   /** Decorated the PhysicalPlan to run in resource sensitive mode. */
   public abstract PhysicalPlan protect(PhysicalPlan physicalPlan);
+
+  /**
+   * Open the memory account of a query executed on the current thread, which is not limited by
+   * default.
+   */
+  public QueryMemoryAccount openMemoryAccount() {
+    return QueryMemoryAccount.NONE;
+  }
 }
@@ -5,7 +5,9 @@
 
 package org.opensearch.sql.opensearch.executor.protector;
 
-import lombok.RequiredArgsConstructor;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.monitor.QueryMemoryAccount;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.planner.physical.ADOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLCommonsOperator;
@@ -31,16 +33,32 @@ import org.opensearch.sql.planner.physical.WindowOperator;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /** OpenSearch Execution Protector. */
-@RequiredArgsConstructor
 public class OpenSearchExecutionProtector extends ExecutionProtector {
 
   /** OpenSearch resource monitor. */
   private final ResourceMonitor resourceMonitor;
 
+  /** Settings, nullable. Operators use their in-memory defaults without settings. */
+  private final Settings settings;
+
+  public OpenSearchExecutionProtector(ResourceMonitor resourceMonitor) {
+    this(resourceMonitor, null);
+  }
+
+  public OpenSearchExecutionProtector(ResourceMonitor resourceMonitor, Settings settings) {
+    this.resourceMonitor = resourceMonitor;
+    this.settings = settings;
+  }
+
   public PhysicalPlan protect(PhysicalPlan physicalPlan) {
     return physicalPlan.accept(this, null);
   }
 
+  @Override
+  public QueryMemoryAccount openMemoryAccount() {
+    return resourceMonitor.openMemoryAccount();
+  }
+
   /**
    * Don't protect {@link CursorCloseOperator} and entire nested tree, because {@link
    * CursorCloseOperator} as designed as no-op.
@@ -134,10 +152,15 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
         node.getWindowDefinition());
   }
 
-  /** Decorate with {@link ResourceMonitorPlan}. */
+  /**
+   * Decorate with {@link ResourceMonitorPlan}. The sort spills to disk once its rows exceed {@link
+   * Settings.Key#QUERY_SORT_MEMORY_LIMIT}.
+   */
   @Override
   public PhysicalPlan visitSort(SortOperator node, Object context) {
-    return doProtect(new SortOperator(visitInput(node.getInput(), context), node.getSortList()));
+    return doProtect(
+        new SortOperator(
+            visitInput(node.getInput(), context), node.getSortList(), sortMemoryLimit(node)));
   }
 
   /** Decorate with {@link ResourceMonitorPlan}. */
@@ -220,4 +243,12 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   private boolean isProtected(PhysicalPlan node) {
     return (node instanceof ResourceMonitorPlan);
   }
+
+  private long sortMemoryLimit(SortOperator node) {
+    if (settings == null) {
+      return node.getMemoryLimit();
+    }
+    ByteSizeValue limit = settings.getSettingValue(Settings.Key.QUERY_SORT_MEMORY_LIMIT);
+    return limit == null ? node.getMemoryLimit() : limit.getBytes();
+  }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.mapping;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.util.MergeRules.MergeRuleHelper;
+import org.opensearch.sql.utils.CacheUtils;
+
+/**
+ * Node level cache of parsed index mappings. The parsed mapping is keyed by the mapping source held
+ * in the cluster state, so the indices which share a mapping, e.g. daily indices created from the
+ * same template, share one parsed {@link IndexMapping}, and a mapping update simply becomes a new
+ * key. The merged field types of a group of mappings, e.g. all the indices of a wildcard pattern,
+ * are cached as well, so resolving a pattern does not depend on the number of indices it matches.
+ * Cached mappings are shared between queries and must not be modified.
+ */
+public class IndexMappingCache {
+
+  private static final long MAPPING_CACHE_SIZE = 1000;
+
+  private static final long MERGED_CACHE_SIZE = 100;
+
+  private static final Cache<CompressedXContent, IndexMapping> MAPPINGS =
+      CacheBuilder.newBuilder().maximumSize(MAPPING_CACHE_SIZE).build();
+
+  /** Merged field types keyed by the distinct mappings, which are compared by identity. */
+  private static final Cache<List<IndexMapping>, Map<String, OpenSearchDataType>> MERGED =
+      CacheBuilder.newBuilder().maximumSize(MERGED_CACHE_SIZE).build();
+
+  private IndexMappingCache() {}
+
+  /**
+   * Get the parsed mapping, parsing and caching it on miss.
+   *
+   * @param metadata mapping metadata of an index.
+   * @return parsed mapping.
+   */
+  public static IndexMapping get(MappingMetadata metadata) {
+    CompressedXContent source = metadata.source();
+    if (source == null) {
+      return new IndexMapping(metadata);
+    }
+    return get(MAPPINGS, source, () -> new IndexMapping(metadata));
+  }
+
+  /**
+   * Merge the field types of the mappings. The later mapping wins on conflicts, except object
+   * fields which are merged deeply, see {@link MergeRuleHelper}.
+   *
+   * @param mappings index mappings.
+   * @return merged field types, a new map which can be modified by the caller.
+   */
+  public static Map<String, OpenSearchDataType> mergeFieldMappings(
+      Collection<IndexMapping> mappings) {
+    List<IndexMapping> distinct = distinctKeepLast(mappings);
+    if (distinct.size() <= 1) {
+      Map<String, OpenSearchDataType> fieldTypes = new HashMap<>();
+      distinct.forEach(mapping -> fieldTypes.putAll(mapping.getFieldMappings()));
+      return fieldTypes;
+    }
+    return new HashMap<>(
+        get(
+            MERGED,
+            distinct,
+            () -> {
+              Map<String, OpenSearchDataType> fieldTypes = new HashMap<>();
+              for (IndexMapping mapping : distinct) {
+                MergeRuleHelper.merge(fieldTypes, mapping.getFieldMappings());
+              }
+              return Collections.unmodifiableMap(fieldTypes);
+            }));
+  }
+
+  /** Remove all the cached mappings. */
+  public static void invalidateAll() {
+    MAPPINGS.invalidateAll();
+    MERGED.invalidateAll();
+  }
+
+  /**
+   * Distinct mappings by identity, each at the position of its last occurrence, so the later
+   * mapping still wins on conflicts.
+   */
+  private static List<IndexMapping> distinctKeepLast(Collection<IndexMapping> mappings) {
+    List<IndexMapping> reversed = new ArrayList<>(mappings);
+    Collections.reverse(reversed);
+    Set<IndexMapping> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    List<IndexMapping> distinct = new ArrayList<>();
+    for (IndexMapping mapping : reversed) {
+      if (seen.add(mapping)) {
+        distinct.add(mapping);
+      }
+    }
+    Collections.reverse(distinct);
+    return distinct;
+  }
+
+  private static <K, V> V get(Cache<K, V> cache, K key, Callable<V> loader) {
+    return CacheUtils.get(cache, key, loader, "Failed to parse index mapping");
+  }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.monitor;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
@@ -12,22 +13,34 @@ import java.util.function.Supplier;
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.monitor.MemoryBreaker;
+import org.opensearch.sql.monitor.QueryMemoryAccount;
 import org.opensearch.sql.monitor.ResourceMonitor;
 
 /**
- * {@link ResourceMonitor} implementation on Elasticsearch. When the heap memory usage exceeds
- * certain threshold, the monitor is not healthy.<br>
- * Todo, add metrics.
+ * {@link ResourceMonitor} implementation on OpenSearch. The memory buffered by the queries is
+ * accounted per query, see {@link QueryMemoryAccount}, against the {@link MemoryBreaker} of the
+ * node limited by {@link Settings.Key#QUERY_MEMORY_LIMIT}. Each query is additionally limited by
+ * its budget {@link Settings.Key#QUERY_MEMORY_BUDGET}. Since the buffers of the Calcite enumerables
+ * are not accounted, the heap usage of the node is still checked against the same limit.
  */
 @Log4j2
 public class OpenSearchResourceMonitor extends ResourceMonitor {
   private final Settings settings;
+  private final MemoryBreaker breaker;
   private final Retry retry;
   private final OpenSearchMemoryHealthy memoryMonitor;
 
   /** Constructor. */
   public OpenSearchResourceMonitor(Settings settings, OpenSearchMemoryHealthy memoryMonitor) {
+    this(settings, memoryMonitor, MemoryBreaker.getInstance());
+  }
+
+  @VisibleForTesting
+  OpenSearchResourceMonitor(
+      Settings settings, OpenSearchMemoryHealthy memoryMonitor, MemoryBreaker breaker) {
     this.settings = settings;
+    this.breaker = breaker;
     RetryConfig config =
         RetryConfig.custom()
             .maxAttempts(3)
@@ -40,19 +53,27 @@ public class OpenSearchResourceMonitor extends ResourceMonitor {
   }
 
   /**
-   * Is Healthy.
+   * Is Healthy. The monitor is not healthy if the memory reserved by the queries exceeds the limit,
+   * which happens only if the limit is lowered while queries are running, or if the heap usage of
+   * the node exceeds the limit, which covers the memory that is not reserved.
    *
    * @return true if healthy, otherwise return false.
    */
   @Override
   public boolean isHealthy() {
+    ByteSizeValue limit = settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT);
+    if (limit == null) {
+      // undefined, be always healthy, this is useful in Calcite standalone ITs
+      // since AlwaysHealthyMonitor is not work within Calcite tests.
+      return true;
+    }
+    breaker.setLimit(limit.getBytes());
+    long used = breaker.getUsed();
+    if (used > limit.getBytes()) {
+      log.warn("Memory reserved by queries:{} exceed limit:{}", used, limit.getBytes());
+      return false;
+    }
     try {
-      ByteSizeValue limit = settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT);
-      if (limit == null) {
-        // undefined, be always healthy, this is useful in Calcite standalone ITs
-        // since AlwaysHealthyMonitor is not work within Calcite tests.
-        return true;
-      }
       Supplier<Boolean> booleanSupplier =
           Retry.decorateSupplier(retry, () -> memoryMonitor.isMemoryHealthy(limit.getBytes()));
       return booleanSupplier.get();
@@ -60,4 +81,15 @@ public class OpenSearchResourceMonitor extends ResourceMonitor {
       return false;
     }
   }
+
+  @Override
+  public QueryMemoryAccount openMemoryAccount() {
+    ByteSizeValue limit = settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT);
+    if (limit == null) {
+      return super.openMemoryAccount();
+    }
+    breaker.setLimit(limit.getBytes());
+    ByteSizeValue budget = settings.getSettingValue(Settings.Key.QUERY_MEMORY_BUDGET);
+    return QueryMemoryAccount.open(breaker, budget == null ? Long.MAX_VALUE : budget.getBytes());
+  }
 }
@@ -0,0 +1,417 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.planner.physical;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.Getter;
+import org.apache.calcite.adapter.enumerable.EnumUtils;
+import org.apache.calcite.adapter.enumerable.EnumerableDefaults;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.PhysType;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.function.Function2;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.linq4j.tree.Types;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.Util;
+import org.opensearch.sql.monitor.QueryMemoryAccount;
+import org.opensearch.sql.opensearch.storage.scan.JoinRuntimeFilter;
+
+/**
+ * Hash join in the enumerable convention which reduces one of its inputs, the probe side, by the
+ * join keys of the other input, the build side. The build side is read first: if it has no more
+ * rows than the max keys, its distinct keys are set to the {@link JoinRuntimeFilter} pushed down to
+ * the index scan of the probe side, so OpenSearch returns only the documents which can match.
+ * Otherwise the join falls back to a plain hash join of the whole inputs. The rows buffered or
+ * hashed by the join are charged to the {@link QueryMemoryAccount} of the query.
+ */
+public class EnumerableAdaptiveHashJoin extends Join implements EnumerableRel {
+
+  private static final Method JOIN_METHOD =
+      Types.lookupMethod(
+          EnumerableAdaptiveHashJoin.class,
+          "join",
+          Enumerable.class,
+          Enumerable.class,
+          Function1.class,
+          Function1.class,
+          Function1.class,
+          Function2.class,
+          JoinRelType.class,
+          JoinRuntimeFilter.class,
+          boolean.class,
+          int.class,
+          long.class,
+          long.class);
+
+  /** Rough estimated bytes of a buffered row besides its field values. */
+  private static final long ROW_OVERHEAD = 64;
+
+  /** Rough estimated bytes of a field value. */
+  private static final long FIELD_VALUE_SIZE = 32;
+
+  /**
+   * Discount of the cost of {@link org.apache.calcite.adapter.enumerable.EnumerableHashJoin}, as
+   * the probe side is reduced at run time if the build side is estimated to have no more rows than
+   * the max keys.
+   */
+  private static final double COST_FACTOR = 0.9;
+
+  @Getter private final JoinRuntimeFilter filter;
+
+  /** Whether the probe side is the left input, otherwise the right input. */
+  @Getter private final boolean probeLeft;
+
+  /** Index of the key of the filter in the join keys. */
+  private final int filterKey;
+
+  /** Max rows of the build side to set the keys of the filter. */
+  private final int maxKeys;
+
+  public EnumerableAdaptiveHashJoin(
+      RelOptCluster cluster,
+      RelTraitSet traits,
+      RelNode left,
+      RelNode right,
+      RexNode condition,
+      JoinRelType joinType,
+      JoinRuntimeFilter filter,
+      boolean probeLeft,
+      int filterKey,
+      int maxKeys) {
+    super(cluster, traits, List.of(), left, right, condition, Set.of(), joinType);
+    this.filter = filter;
+    this.probeLeft = probeLeft;
+    this.filterKey = filterKey;
+    this.maxKeys = maxKeys;
+  }
+
+  @Override
+  public EnumerableAdaptiveHashJoin copy(
+      RelTraitSet traitSet,
+      RexNode condition,
+      RelNode left,
+      RelNode right,
+      JoinRelType joinType,
+      boolean semiJoinDone) {
+    return new EnumerableAdaptiveHashJoin(
+        getCluster(),
+        traitSet,
+        left,
+        right,
+        condition,
+        joinType,
+        filter,
+        probeLeft,
+        filterKey,
+        maxKeys);
+  }
+
+  @Override
+  public RelWriter explainTerms(RelWriter pw) {
+    return super.explainTerms(pw)
+        .item("runtimeFilter", filter)
+        .item("probe", probeLeft ? "left" : "right")
+        .item("maxKeys", maxKeys);
+  }
+
+  /** Same cost model as EnumerableHashJoin, with a discount if the filter is expected to apply. */
+  @Override
+  public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
+    double rowCount = mq.getRowCount(this);
+    double leftRowCount = left.estimateRowCount(mq);
+    double rightRowCount = right.estimateRowCount(mq);
+    if (Double.isInfinite(leftRowCount) || Double.isInfinite(rightRowCount)) {
+      return planner.getCostFactory().makeInfiniteCost();
+    }
+    rowCount += Util.nLogN(leftRowCount) + rightRowCount;
+    RelOptCost cost = planner.getCostFactory().makeCost(rowCount, 0, 0);
+    if (isSemiJoin()) {
+      cost = cost.multiplyBy(.01d);
+    }
+    double buildRowCount = probeLeft ? rightRowCount : leftRowCount;
+    return buildRowCount <= maxKeys ? cost.multiplyBy(COST_FACTOR) : cost;
+  }
+
+  @Override
+  public Result implement(EnumerableRelImplementor implementor, Prefer pref) {
+    final BlockBuilder builder = new BlockBuilder();
+    final Result leftResult = implementor.visitChild(this, 0, (EnumerableRel) left, pref);
+    final Expression leftExp = builder.append("left", leftResult.block);
+    final Result rightResult = implementor.visitChild(this, 1, (EnumerableRel) right, pref);
+    final Expression rightExp = builder.append("right", rightResult.block);
+    final JoinInfo joinInfo = analyzeCondition();
+
+    final PhysType physType;
+    final Expression resultSelector;
+    if (joinType.projectsRight()) {
+      physType = PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), pref.preferArray());
+      resultSelector =
+          EnumUtils.joinSelector(
+              joinType, physType, List.of(leftResult.physType, rightResult.physType));
+    } else {
+      // Semi and anti join return the rows of the left input.
+      physType = leftResult.physType;
+      resultSelector = Expressions.constant(null);
+    }
+    final Result buildResult = probeLeft ? rightResult : leftResult;
+    final List<Integer> buildKeys = probeLeft ? joinInfo.rightKeys : joinInfo.leftKeys;
+
+    builder.add(
+        Expressions.return_(
+            null,
+            Expressions.call(
+                JOIN_METHOD,
+                leftExp,
+                rightExp,
+                leftResult.physType.generateAccessorWithoutNulls(joinInfo.leftKeys),
+                rightResult.physType.generateAccessorWithoutNulls(joinInfo.rightKeys),
+                buildResult.physType.generateAccessor(List.of(buildKeys.get(filterKey))),
+                resultSelector,
+                Expressions.constant(joinType),
+                implementor.stash(filter, JoinRuntimeFilter.class),
+                Expressions.constant(probeLeft),
+                Expressions.constant(maxKeys),
+                Expressions.constant(rowSize(left)),
+                Expressions.constant(rowSize(right)))));
+    return implementor.result(physType, builder.toBlock());
+  }
+
+  private static long rowSize(RelNode input) {
+    return ROW_OVERHEAD + FIELD_VALUE_SIZE * input.getRowType().getFieldCount();
+  }
+
+  /**
+   * Join the inputs, called by the generated code.
+   *
+   * @param left left rows
+   * @param right right rows
+   * @param leftKeySelector join key of a left row, null if any key field is null
+   * @param rightKeySelector join key of a right row, null if any key field is null
+   * @param filterKeySelector key of the filter of a build side row
+   * @param resultSelector joined row of a left and right row, null for semi and anti join
+   * @param joinType join type
+   * @param filter runtime filter of the probe side
+   * @param probeLeft whether the probe side is the left input
+   * @param maxKeys max rows of the build side to set the keys of the filter
+   * @param leftRowSize estimated bytes of a left row
+   * @param rightRowSize estimated bytes of a right row
+   * @return joined rows
+   */
+  public static Enumerable<Object> join(
+      Enumerable<Object> left,
+      Enumerable<Object> right,
+      Function1<Object, Object> leftKeySelector,
+      Function1<Object, Object> rightKeySelector,
+      Function1<Object, Object> filterKeySelector,
+      Function2<Object, Object, Object> resultSelector,
+      JoinRelType joinType,
+      JoinRuntimeFilter filter,
+      boolean probeLeft,
+      int maxKeys,
+      long leftRowSize,
+      long rightRowSize) {
+    return new AbstractEnumerable<>() {
+      @Override
+      public Enumerator<Object> enumerator() {
+        // The build side must be read before the probe side is enumerated, which builds the
+        // request of the probe side scan with the keys of the filter.
+        QueryMemoryAccount account = QueryMemoryAccount.current();
+        if (probeLeft) {
+          Enumerable<Object> newRight =
+              build(right, filterKeySelector, filter, maxKeys, rightRowSize, account);
+          return hashJoin(
+                  left, newRight, leftKeySelector, rightKeySelector, resultSelector, joinType)
+              .enumerator();
+        }
+        Enumerable<Object> newLeft =
+            build(left, filterKeySelector, filter, maxKeys, leftRowSize, account);
+        if (filter.getKeys() != null) {
+          // The buffered left rows are hashed, while the filtered right rows are streamed.
+          return hashJoinByLeft(
+                  newLeft, right, leftKeySelector, rightKeySelector, resultSelector, joinType)
+              .enumerator();
+        }
+        // The left side is too large to be hashed, so the right rows are hashed as usual.
+        return hashJoin(
+                newLeft,
+                charge(right, rightRowSize, account),
+                leftKeySelector,
+                rightKeySelector,
+                resultSelector,
+                joinType)
+            .enumerator();
+      }
+    };
+  }
+
+  private static Enumerable<Object> hashJoin(
+      Enumerable<Object> left,
+      Enumerable<Object> right,
+      Function1<Object, Object> leftKeySelector,
+      Function1<Object, Object> rightKeySelector,
+      Function2<Object, Object, Object> resultSelector,
+      JoinRelType joinType) {
+    if (joinType == JoinRelType.SEMI) {
+      return EnumerableDefaults.semiJoin(
+          left, withoutNullKeys(right, rightKeySelector), leftKeySelector, rightKeySelector);
+    }
+    if (joinType == JoinRelType.ANTI) {
+      return EnumerableDefaults.antiJoin(
+          left, withoutNullKeys(right, rightKeySelector), leftKeySelector, rightKeySelector);
+    }
+    return EnumerableDefaults.hashJoin(
+        left,
+        right,
+        leftKeySelector,
+        rightKeySelector,
+        resultSelector,
+        null,
+        joinType.generatesNullsOnLeft(),
+        joinType.generatesNullsOnRight());
+  }
+
+  /**
+   * Hash join which hashes the left rows and streams the right rows, for the joins whose left rows
+   * without a match are returned or whose right rows are not returned.
+   */
+  private static Enumerable<Object> hashJoinByLeft(
+      Enumerable<Object> left,
+      Enumerable<Object> right,
+      Function1<Object, Object> leftKeySelector,
+      Function1<Object, Object> rightKeySelector,
+      Function2<Object, Object, Object> resultSelector,
+      JoinRelType joinType) {
+    if (joinType == JoinRelType.SEMI || joinType == JoinRelType.ANTI) {
+      Set<Object> matchedKeys = matchedKeys(left, right, leftKeySelector, rightKeySelector);
+      boolean semi = joinType == JoinRelType.SEMI;
+      return left.where(
+          row -> {
+            Object key = leftKeySelector.apply(row);
+            return semi == (key != null && matchedKeys.contains(key));
+          });
+    }
+    // Swap the inputs, so the nulls of a left join are generated on the right rows.
+    return EnumerableDefaults.hashJoin(
+        right,
+        left,
+        rightKeySelector,
+        leftKeySelector,
+        (rightRow, leftRow) -> resultSelector.apply(leftRow, rightRow),
+        null,
+        joinType.generatesNullsOnRight(),
+        joinType.generatesNullsOnLeft());
+  }
+
+  /** Non-null keys of the left rows which match a right row. */
+  private static Set<Object> matchedKeys(
+      Enumerable<Object> left,
+      Enumerable<Object> right,
+      Function1<Object, Object> leftKeySelector,
+      Function1<Object, Object> rightKeySelector) {
+    Set<Object> leftKeys = new HashSet<>();
+    for (Object row : left) {
+      Object key = leftKeySelector.apply(row);
+      if (key != null) {
+        leftKeys.add(key);
+      }
+    }
+    Set<Object> matchedKeys = new HashSet<>();
+    try (Enumerator<Object> rows = right.enumerator()) {
+      // Stop once every left key is matched.
+      while (matchedKeys.size() < leftKeys.size() && rows.moveNext()) {
+        Object key = rightKeySelector.apply(rows.current());
+        if (key != null && leftKeys.contains(key)) {
+          matchedKeys.add(key);
+        }
+      }
+    }
+    return matchedKeys;
+  }
+
+  /**
+   * Read the build side up to the max keys. If it's exhausted, its distinct non-null keys are set
+   * to the filter and the buffered rows are returned. Otherwise the filter is cleared and the rows
+   * are returned as they are read.
+   */
+  private static Enumerable<Object> build(
+      Enumerable<Object> input,
+      Function1<Object, Object> keySelector,
+      JoinRuntimeFilter filter,
+      int maxKeys,
+      long rowSize,
+      QueryMemoryAccount account) {
+    List<Object> buffer = new ArrayList<>();
+    Enumerator<Object> rows = input.enumerator();
+    try {
+      while (buffer.size() <= maxKeys && rows.moveNext()) {
+        account.reserve(rowSize);
+        buffer.add(rows.current());
+      }
+    } catch (RuntimeException e) {
+      rows.close();
+      throw e;
+    }
+    if (buffer.size() <= maxKeys) {
+      rows.close();
+      Set<Object> keys = new HashSet<>();
+      for (Object row : buffer) {
+        Object key = keySelector.apply(row);
+        if (key != null) {
+          keys.add(key);
+        }
+      }
+      filter.setKeys(keys);
+      return Linq4j.asEnumerable(buffer);
+    }
+    filter.setKeys(null);
+    Enumerable<Object> rest =
+        new AbstractEnumerable<>() {
+          @Override
+          public Enumerator<Object> enumerator() {
+            return rows;
+          }
+        };
+    return Linq4j.concat(List.of(Linq4j.asEnumerable(buffer), charge(rest, rowSize, account)));
+  }
+
+  private static Enumerable<Object> charge(
+      Enumerable<Object> input, long rowSize, QueryMemoryAccount account) {
+    return input.select(
+        row -> {
+          account.reserve(rowSize);
+          return row;
+        });
+  }
+
+  /** Rows with null keys never match, and must not match a left row with null keys either. */
+  private static Enumerable<Object> withoutNullKeys(
+      Enumerable<Object> input, Function1<Object, Object> keySelector) {
+    return input.where(row -> keySelector.apply(row) != null);
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.planner.physical;
+
+import java.util.function.Predicate;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.immutables.value.Value;
+import org.opensearch.sql.calcite.plan.LogicalDedup;
+import org.opensearch.sql.opensearch.storage.scan.CalciteLogicalIndexScan;
+
+/**
+ * Planner rule that push a {@link LogicalDedup} down to {@link CalciteLogicalIndexScan}, as field
+ * collapsing or as a composite aggregation with top hits.
+ */
+@Value.Enclosing
+public class OpenSearchDedupIndexScanRule extends RelRule<OpenSearchDedupIndexScanRule.Config> {
+
+  protected OpenSearchDedupIndexScanRule(Config config) {
+    super(config);
+  }
+
+  @Override
+  public void onMatch(RelOptRuleCall call) {
+    final LogicalDedup dedup = call.rel(0);
+    final CalciteLogicalIndexScan scan = call.rel(1);
+
+    CalciteLogicalIndexScan newScan = scan.pushDownDedup(dedup);
+    if (newScan != null) {
+      call.transformTo(newScan);
+    }
+  }
+
+  /** Rule configuration. */
+  @Value.Immutable
+  public interface Config extends RelRule.Config {
+    OpenSearchDedupIndexScanRule.Config DEFAULT =
+        ImmutableOpenSearchDedupIndexScanRule.Config.builder()
+            .build()
+            .withOperandSupplier(
+                b0 ->
+                    b0.operand(LogicalDedup.class)
+                        .predicate(OpenSearchIndexScanRule::isDedupPushable)
+                        .oneInput(
+                            b1 ->
+                                b1.operand(CalciteLogicalIndexScan.class)
+                                    // Skip the rule if a limit has already been pushed down
+                                    // because OpenSearch applies the limit to the deduped
+                                    // documents instead.
+                                    .predicate(
+                                        Predicate.not(OpenSearchIndexScanRule::isLimitPushed)
+                                            .and(OpenSearchIndexScanRule::noAggregatePushed))
+                                    .noInputs()));
+
+    @Override
+    default OpenSearchDedupIndexScanRule toRule() {
+      return new OpenSearchDedupIndexScanRule(this);
+    }
+  }
+}
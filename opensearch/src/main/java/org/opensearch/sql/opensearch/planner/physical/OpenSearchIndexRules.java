@@ -22,6 +22,14 @@ public class OpenSearchIndexRules {
       OpenSearchLimitIndexScanRule.Config.DEFAULT.toRule();
   private static final OpenSearchSortIndexScanRule SORT_INDEX_SCAN =
       OpenSearchSortIndexScanRule.Config.DEFAULT.toRule();
+  private static final OpenSearchDedupIndexScanRule DEDUP_INDEX_SCAN =
+      OpenSearchDedupIndexScanRule.Config.DEFAULT.toRule();
+  private static final OpenSearchRareTopNIndexScanRule RARE_TOP_N_INDEX_SCAN =
+      OpenSearchRareTopNIndexScanRule.Config.DEFAULT.toRule();
+  private static final OpenSearchJoinRuntimeFilterRule JOIN_RUNTIME_FILTER_PROBE_LEFT =
+      OpenSearchJoinRuntimeFilterRule.Config.PROBE_LEFT.toRule();
+  private static final OpenSearchJoinRuntimeFilterRule JOIN_RUNTIME_FILTER_PROBE_RIGHT =
+      OpenSearchJoinRuntimeFilterRule.Config.PROBE_RIGHT.toRule();
 
   public static final List<RelOptRule> OPEN_SEARCH_INDEX_SCAN_RULES =
       ImmutableList.of(
@@ -30,7 +38,11 @@ public class OpenSearchIndexRules {
           AGGREGATE_INDEX_SCAN,
           COUNT_STAR_INDEX_SCAN,
           LIMIT_INDEX_SCAN,
-          SORT_INDEX_SCAN);
+          SORT_INDEX_SCAN,
+          DEDUP_INDEX_SCAN,
+          RARE_TOP_N_INDEX_SCAN,
+          JOIN_RUNTIME_FILTER_PROBE_LEFT,
+          JOIN_RUNTIME_FILTER_PROBE_RIGHT);
 
   // prevent instantiation
   private OpenSearchIndexRules() {}
@@ -12,16 +12,18 @@ import org.apache.calcite.rel.core.Sort;
 import org.apache.calcite.rel.logical.LogicalProject;
 import org.apache.calcite.rel.logical.LogicalSort;
 import org.apache.calcite.rex.RexNode;
+import org.opensearch.sql.calcite.plan.Dedup;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
 import org.opensearch.sql.opensearch.storage.scan.AbstractCalciteIndexScan;
 
 public interface OpenSearchIndexScanRule {
   /**
    * CalciteOpenSearchIndexScan doesn't allow push-down anymore (except Sort under some strict
-   * condition) after Aggregate push-down.
+   * condition) after Aggregate push-down. It's the same after Dedup push-down.
    */
   static boolean noAggregatePushed(AbstractCalciteIndexScan scan) {
     if (scan.getPushDownContext().isAggregatePushed()) return false;
+    if (scan.getPushDownContext().isDedupPushed()) return false;
     final RelOptTable table = scan.getTable();
     return table.unwrap(OpenSearchIndex.class) != null;
   }
@@ -30,6 +32,18 @@ public interface OpenSearchIndexScanRule {
     return scan.getPushDownContext().isLimitPushed();
   }
 
+  static boolean isAggregatePushed(AbstractCalciteIndexScan scan) {
+    return scan.getPushDownContext().isAggregatePushed();
+  }
+
+  /**
+   * Only the dedup which drops the rows with null keys and is not consecutive can be pushed down,
+   * since OpenSearch groups the documents by keys regardless of their order.
+   */
+  static boolean isDedupPushable(Dedup dedup) {
+    return !dedup.isKeepEmpty() && !dedup.isConsecutive();
+  }
+
   // `RelDecorrelator` may generate a Project with duplicated fields, e.g. Project($0,$0).
   // There will be problem if pushing down the pattern like `Aggregate(AGG($0),{1})-Project($0,$0)`,
   // as it will lead to field-name conflict.
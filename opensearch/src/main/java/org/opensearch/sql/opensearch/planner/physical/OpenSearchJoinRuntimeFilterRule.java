@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.planner.physical;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.immutables.value.Value;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.opensearch.storage.scan.CalciteLogicalIndexScan;
+import org.opensearch.sql.opensearch.storage.scan.JoinRuntimeFilter;
+
+/**
+ * Planner rule that implements an equi-join of a {@link CalciteLogicalIndexScan} as an {@link
+ * EnumerableAdaptiveHashJoin}, whose probe side is the scan with a {@link JoinRuntimeFilter}
+ * pushed down. The scan must be on a side whose rows without a match are not returned by the join,
+ * i.e. the left side of an inner, right or semi join, or the right side of an inner, left, semi or
+ * anti join.
+ */
+@Value.Enclosing
+public class OpenSearchJoinRuntimeFilterRule
+    extends RelRule<OpenSearchJoinRuntimeFilterRule.Config> {
+
+  /** Join types which don't return the rows of the left side without a match. */
+  private static final Set<JoinRelType> PROBE_LEFT_TYPES =
+      Set.of(JoinRelType.INNER, JoinRelType.RIGHT, JoinRelType.SEMI);
+
+  /** Join types which don't return the rows of the right side without a match. */
+  private static final Set<JoinRelType> PROBE_RIGHT_TYPES =
+      Set.of(JoinRelType.INNER, JoinRelType.LEFT, JoinRelType.SEMI, JoinRelType.ANTI);
+
+  protected OpenSearchJoinRuntimeFilterRule(Config config) {
+    super(config);
+  }
+
+  @Override
+  public void onMatch(RelOptRuleCall call) {
+    final LogicalJoin join = call.rel(0);
+    final boolean probeLeft = config.probeLeft();
+    final CalciteLogicalIndexScan scan = call.rel(probeLeft ? 1 : 2);
+
+    Integer maxKeys =
+        scan.getOsIndex()
+            .getSettings()
+            .getSettingValue(Settings.Key.CALCITE_JOIN_RUNTIME_FILTER_MAX_KEYS);
+    if (maxKeys == null || maxKeys <= 0) {
+      return;
+    }
+    JoinInfo joinInfo = join.analyzeCondition();
+    List<Integer> probeKeys = probeLeft ? joinInfo.leftKeys : joinInfo.rightKeys;
+    for (int i = 0; i < probeKeys.size(); i++) {
+      JoinRuntimeFilter filter = scan.runtimeFilterOf(probeKeys.get(i));
+      if (filter == null) {
+        continue;
+      }
+      CalciteLogicalIndexScan newScan = scan.pushDownRuntimeFilter(filter);
+      RelNode left = probeLeft ? newScan : join.getLeft();
+      RelNode right = probeLeft ? join.getRight() : newScan;
+      call.transformTo(
+          new EnumerableAdaptiveHashJoin(
+              join.getCluster(),
+              join.getTraitSet().replace(EnumerableConvention.INSTANCE),
+              convert(left, left.getTraitSet().replace(EnumerableConvention.INSTANCE)),
+              convert(right, right.getTraitSet().replace(EnumerableConvention.INSTANCE)),
+              join.getCondition(),
+              join.getJoinType(),
+              filter,
+              probeLeft,
+              i,
+              maxKeys));
+      return;
+    }
+  }
+
+  private static boolean isEquiJoin(LogicalJoin join) {
+    JoinInfo joinInfo = join.analyzeCondition();
+    return joinInfo.isEqui() && !joinInfo.leftKeys.isEmpty() && join.getVariablesSet().isEmpty();
+  }
+
+  private static Predicate<CalciteLogicalIndexScan> canBeFiltered() {
+    // The filter must be applied before the limit or aggregation pushed down.
+    return Predicate.not(OpenSearchIndexScanRule::isLimitPushed)
+        .and(OpenSearchIndexScanRule::noAggregatePushed);
+  }
+
+  /** Rule configuration. */
+  @Value.Immutable
+  public interface Config extends RelRule.Config {
+    OpenSearchJoinRuntimeFilterRule.Config PROBE_LEFT =
+        ImmutableOpenSearchJoinRuntimeFilterRule.Config.builder()
+            .probeLeft(true)
+            .build()
+            .withOperandSupplier(
+                b0 ->
+                    b0.operand(LogicalJoin.class)
+                        .predicate(
+                            join ->
+                                PROBE_LEFT_TYPES.contains(join.getJoinType())
+                                    && isEquiJoin(join))
+                        .inputs(
+                            b1 ->
+                                b1.operand(CalciteLogicalIndexScan.class)
+                                    .predicate(canBeFiltered())
+                                    .noInputs(),
+                            b2 -> b2.operand(RelNode.class).anyInputs()));
+
+    OpenSearchJoinRuntimeFilterRule.Config PROBE_RIGHT =
+        ImmutableOpenSearchJoinRuntimeFilterRule.Config.builder()
+            .probeLeft(false)
+            .build()
+            .withOperandSupplier(
+                b0 ->
+                    b0.operand(LogicalJoin.class)
+                        .predicate(
+                            join ->
+                                PROBE_RIGHT_TYPES.contains(join.getJoinType())
+                                    && isEquiJoin(join))
+                        .inputs(
+                            b1 -> b1.operand(RelNode.class).anyInputs(),
+                            b2 ->
+                                b2.operand(CalciteLogicalIndexScan.class)
+                                    .predicate(canBeFiltered())
+                                    .noInputs()));
+
+    /** Whether the probe side is the left input of the join. */
+    @Value.Default
+    default boolean probeLeft() {
+      return false;
+    }
+
+    @Override
+    default OpenSearchJoinRuntimeFilterRule toRule() {
+      return new OpenSearchJoinRuntimeFilterRule(this);
+    }
+  }
+}
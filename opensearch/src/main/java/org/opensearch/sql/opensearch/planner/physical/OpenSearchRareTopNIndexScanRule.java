@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.planner.physical;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelFieldCollation.Direction;
+import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexFieldCollation;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexOver;
+import org.apache.calcite.rex.RexWindow;
+import org.apache.calcite.sql.SqlKind;
+import org.immutables.value.Value;
+import org.opensearch.sql.opensearch.storage.scan.CalciteLogicalIndexScan;
+
+/**
+ * Planner rule that push rare/top down to {@link CalciteLogicalIndexScan} with a pushed down
+ * aggregation. Rare/top is planned as the row number of each group in its partition ordered by the
+ * count, which is filtered by the number of results:
+ *
+ * <pre>
+ * LogicalProject(DEPTNO=[$0], JOB=[$1], count=[$2])
+ *   LogicalFilter(condition=[<=($3, 10)])
+ *     LogicalProject(DEPTNO=[$0], JOB=[$1], count=[$2], _row_number_=[ROW_NUMBER() OVER
+ *         (PARTITION BY $0 ORDER BY $2 DESC)])
+ *       CalciteLogicalIndexScan(aggregation of count() by DEPTNO, JOB)
+ * </pre>
+ */
+@Value.Enclosing
+public class OpenSearchRareTopNIndexScanRule
+    extends RelRule<OpenSearchRareTopNIndexScanRule.Config> {
+
+  protected OpenSearchRareTopNIndexScanRule(Config config) {
+    super(config);
+  }
+
+  @Override
+  public void onMatch(RelOptRuleCall call) {
+    final LogicalProject project = call.rel(0);
+    final LogicalFilter filter = call.rel(1);
+    final LogicalProject window = call.rel(2);
+    final CalciteLogicalIndexScan scan = call.rel(3);
+
+    // The window project appends the row number to the fields of the scan.
+    int rowNumberIndex = scan.getRowType().getFieldCount();
+    List<RexNode> projects = window.getProjects();
+    if (projects.size() != rowNumberIndex + 1
+        || !IntStream.range(0, rowNumberIndex).allMatch(i -> isInputRef(projects.get(i), i))
+        || !(projects.getLast() instanceof RexOver over)
+        || over.getKind() != SqlKind.ROW_NUMBER) {
+      return;
+    }
+    // The row number is partitioned by the leading group-by fields and ordered by the count,
+    // which is the last field.
+    RexWindow rexWindow = over.getWindow();
+    int groupCount = rexWindow.partitionKeys.size();
+    if (!IntStream.range(0, groupCount)
+            .allMatch(i -> isInputRef(rexWindow.partitionKeys.get(i), i))
+        || rexWindow.orderKeys.size() != 1
+        || !isInputRef(rexWindow.orderKeys.getFirst().left, rowNumberIndex - 1)) {
+      return;
+    }
+    RexFieldCollation orderKey = rexWindow.orderKeys.getFirst();
+    Integer size = extractRowNumberLimit(filter.getCondition(), rowNumberIndex);
+    if (size == null
+        || RelOptUtil.InputFinder.bits(project.getProjects(), null).get(rowNumberIndex)) {
+      return;
+    }
+
+    CalciteLogicalIndexScan newScan =
+        scan.pushDownRareTopN(
+            filter, groupCount, size, orderKey.getDirection() == Direction.ASCENDING);
+    if (newScan != null) {
+      call.transformTo(
+          project.copy(
+              project.getTraitSet(), newScan, project.getProjects(), project.getRowType()));
+    }
+  }
+
+  private static boolean isInputRef(RexNode node, int index) {
+    return node instanceof RexInputRef ref && ref.getIndex() == index;
+  }
+
+  /** Extract N of the condition row_number <= N. */
+  private static Integer extractRowNumberLimit(RexNode condition, int rowNumberIndex) {
+    if (condition.getKind() == SqlKind.LESS_THAN_OR_EQUAL
+        && condition instanceof RexCall call
+        && isInputRef(call.getOperands().get(0), rowNumberIndex)
+        && call.getOperands().get(1) instanceof RexLiteral literal) {
+      return literal.getValueAs(Integer.class);
+    }
+    return null;
+  }
+
+  /** Rule configuration. */
+  @Value.Immutable
+  public interface Config extends RelRule.Config {
+    OpenSearchRareTopNIndexScanRule.Config DEFAULT =
+        ImmutableOpenSearchRareTopNIndexScanRule.Config.builder()
+            .build()
+            .withOperandSupplier(
+                b0 ->
+                    b0.operand(LogicalProject.class)
+                        .oneInput(
+                            b1 ->
+                                b1.operand(LogicalFilter.class)
+                                    .oneInput(
+                                        b2 ->
+                                            b2.operand(LogicalProject.class)
+                                                .predicate(RexOver::containsOver)
+                                                .oneInput(
+                                                    b3 ->
+                                                        b3.operand(CalciteLogicalIndexScan.class)
+                                                            .predicate(
+                                                                OpenSearchIndexScanRule
+                                                                    ::isAggregatePushed)
+                                                            .noInputs()))));
+
+    @Override
+    default OpenSearchRareTopNIndexScanRule toRule() {
+      return new OpenSearchRareTopNIndexScanRule(this);
+    }
+  }
+}
@@ -13,6 +13,7 @@ import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIE
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
@@ -22,6 +23,7 @@ import org.opensearch.action.search.*;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -29,6 +31,10 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchModule;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
@@ -166,11 +172,9 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
         return new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes);
       } else {
         searchDone = true;
-        return new OpenSearchResponse(
+        return onSearchResponse(
             searchAction.apply(
-                new SearchRequest().indices(indexName.getIndexNames()).source(sourceBuilder)),
-            exprValueFactory,
-            includes);
+                new SearchRequest().indices(indexName.getIndexNames()).source(sourceBuilder)));
       }
     } else {
       // Search with PIT instead of scroll API
@@ -179,36 +183,90 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
   }
 
   public OpenSearchResponse searchWithPIT(Function<SearchRequest, SearchResponse> searchAction) {
-    OpenSearchResponse openSearchResponse;
     if (searchDone) {
-      openSearchResponse = new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes);
+      return new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes);
+    }
+    return onPitSearchResponse(searchAction.apply(pitSearchRequest()));
+  }
+
+  @Override
+  public void searchAsync(
+      BiConsumer<SearchRequest, ActionListener<SearchResponse>> searchAction,
+      BiConsumer<SearchScrollRequest, ActionListener<SearchResponse>> scrollAction,
+      ActionListener<OpenSearchResponse> listener) {
+    if (searchDone) {
+      listener.onResponse(new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes));
+    } else if (this.pitId == null) {
+      searchDone = true;
+      searchAction.accept(
+          new SearchRequest().indices(indexName.getIndexNames()).source(sourceBuilder),
+          ActionListener.map(listener, this::onSearchResponse));
     } else {
-      this.sourceBuilder.pointInTimeBuilder(new PointInTimeBuilder(this.pitId));
-      this.sourceBuilder.timeout(cursorKeepAlive);
-      // check for search after
-      if (searchAfter != null) {
-        this.sourceBuilder.searchAfter(searchAfter);
-      }
-      // Set sort field for search_after
-      if (this.sourceBuilder.sorts() == null) {
-        this.sourceBuilder.sort(DOC_FIELD_NAME, ASC);
-        // Workaround to preserve sort location more exactly,
-        // see https://github.com/opensearch-project/sql/pull/3061
-        this.sourceBuilder.sort(METADATA_FIELD_ID, ASC);
-      }
-      SearchRequest searchRequest =
-          new SearchRequest().indices(indexName.getIndexNames()).source(this.sourceBuilder);
-      this.searchResponse = searchAction.apply(searchRequest);
-
-      openSearchResponse = new OpenSearchResponse(this.searchResponse, exprValueFactory, includes);
-
-      needClean = openSearchResponse.isEmpty();
-      searchDone = openSearchResponse.isEmpty();
-      SearchHit[] searchHits = this.searchResponse.getHits().getHits();
-      if (searchHits != null && searchHits.length > 0) {
-        searchAfter = searchHits[searchHits.length - 1].getSortValues();
-        this.sourceBuilder.searchAfter(searchAfter);
-      }
+      searchAction.accept(
+          pitSearchRequest(), ActionListener.map(listener, this::onPitSearchResponse));
+    }
+  }
+
+  /**
+   * Handle the response of the request without PIT. If the response is a full page of the buckets
+   * of the composite aggregation, the next page of buckets after the last one is fetched by the
+   * next search, so the buckets are returned page by page however many there are.
+   */
+  private OpenSearchResponse onSearchResponse(SearchResponse response) {
+    CompositeAggregationBuilder composite = pagedCompositeAggregation();
+    if (composite != null
+        && response.getAggregations() != null
+        && response.getAggregations().get(composite.getName())
+            instanceof CompositeAggregation buckets
+        && buckets.afterKey() != null
+        && buckets.getBuckets().size() >= composite.size()) {
+      composite.aggregateAfter(buckets.afterKey());
+      searchDone = false;
+    }
+    return new OpenSearchResponse(response, exprValueFactory, includes);
+  }
+
+  /** The composite aggregation if it's the only aggregation of the request, otherwise null. */
+  private CompositeAggregationBuilder pagedCompositeAggregation() {
+    AggregatorFactories.Builder aggregations = sourceBuilder.aggregations();
+    if (aggregations == null
+        || aggregations.getAggregatorFactories().size() != 1
+        || !aggregations.getPipelineAggregatorFactories().isEmpty()) {
+      return null;
+    }
+    AggregationBuilder aggregation = aggregations.getAggregatorFactories().iterator().next();
+    return aggregation instanceof CompositeAggregationBuilder composite ? composite : null;
+  }
+
+  private SearchRequest pitSearchRequest() {
+    this.sourceBuilder.pointInTimeBuilder(new PointInTimeBuilder(this.pitId));
+    this.sourceBuilder.timeout(cursorKeepAlive);
+    // check for search after
+    if (searchAfter != null) {
+      this.sourceBuilder.searchAfter(searchAfter);
+    }
+    // Set sort field for search_after
+    if (this.sourceBuilder.sorts() == null) {
+      this.sourceBuilder.sort(DOC_FIELD_NAME, ASC);
+      // Workaround to preserve sort location more exactly,
+      // see https://github.com/opensearch-project/sql/pull/3061
+      this.sourceBuilder.sort(METADATA_FIELD_ID, ASC);
+    }
+    return new SearchRequest().indices(indexName.getIndexNames()).source(this.sourceBuilder);
+  }
+
+  private OpenSearchResponse onPitSearchResponse(SearchResponse response) {
+    this.searchResponse = response;
+
+    OpenSearchResponse openSearchResponse =
+        new OpenSearchResponse(this.searchResponse, exprValueFactory, includes);
+
+    needClean = openSearchResponse.isEmpty();
+    searchDone = openSearchResponse.isEmpty();
+    SearchHit[] searchHits = this.searchResponse.getHits().getHits();
+    if (searchHits != null && searchHits.length > 0) {
+      searchAfter = searchHits[searchHits.length - 1].getSortValues();
+      this.sourceBuilder.searchAfter(searchAfter);
     }
     return openSearchResponse;
   }
@@ -231,7 +289,7 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
     if (this.pitId != null) {
       return !needClean;
     }
-    return false;
+    return !searchDone && pagedCompositeAggregation() != null;
   }
 
   @Override
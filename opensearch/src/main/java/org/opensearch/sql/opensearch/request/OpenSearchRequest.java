@@ -6,6 +6,7 @@
 package org.opensearch.sql.opensearch.request;
 
 import java.io.IOException;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
@@ -13,6 +14,7 @@ import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -36,6 +38,20 @@ public interface OpenSearchRequest extends Writeable {
       Function<SearchRequest, SearchResponse> searchAction,
       Function<SearchScrollRequest, SearchResponse> scrollAction);
 
+  /**
+   * Apply the search action or scroll action on request based on context asynchronously. The state
+   * of the request, e.g. scroll id or search_after, is updated before the listener is notified, so
+   * the next search can be issued from the listener.
+   *
+   * @param searchAction async search action.
+   * @param scrollAction async scroll search action.
+   * @param listener listener of the OpenSearchResponse.
+   */
+  void searchAsync(
+      BiConsumer<SearchRequest, ActionListener<SearchResponse>> searchAction,
+      BiConsumer<SearchScrollRequest, ActionListener<SearchResponse>> scrollAction,
+      ActionListener<OpenSearchResponse> listener);
+
   /**
    * Apply the cleanAction on request.
    *
@@ -34,7 +34,10 @@ import org.opensearch.index.query.NestedQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
 import org.opensearch.search.sort.SortBuilder;
@@ -113,6 +116,7 @@ public class OpenSearchRequestBuilder {
      * 2. If mapping is empty. It means no data in the index. PIT search relies on `_id` fields to do sort, thus it will fail if using PIT search in this case.
      */
     if (sourceBuilder.size() == 0 || isMappingEmpty) {
+      pushDownAggregationPageSize();
       return new OpenSearchQueryRequest(indexName, sourceBuilder, exprValueFactory, List.of());
     }
     return buildRequestWithPit(indexName, cursorKeepAlive, client);
@@ -124,6 +128,14 @@ public class OpenSearchRequestBuilder {
     FetchSourceContext fetchSource = this.sourceBuilder.fetchSource();
     List<String> includes = fetchSource != null ? Arrays.asList(fetchSource.includes()) : List.of();
 
+    if (sourceBuilder.collapse() != null && pageSize == null) {
+      // Collapse can't be used with search_after, so the collapsed request is not paginated by PIT
+      // and it returns the results within the max result window only.
+      sourceBuilder.from(startFrom);
+      sourceBuilder.size(Math.min(size, maxResultWindow - startFrom));
+      return new OpenSearchQueryRequest(indexName, sourceBuilder, exprValueFactory, includes);
+    }
+
     if (pageSize == null) {
       if (startFrom + size > maxResultWindow) {
         sourceBuilder.size(maxResultWindow - startFrom);
@@ -191,11 +203,51 @@ public class OpenSearchRequestBuilder {
    */
   public void pushDownAggregation(
       Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder) {
-    aggregationBuilder.getLeft().forEach(sourceBuilder::aggregation);
+    aggregationBuilder.getLeft().stream()
+        .map(OpenSearchRequestBuilder::copyComposite)
+        .forEach(sourceBuilder::aggregation);
     sourceBuilder.size(0);
     exprValueFactory.setParser(aggregationBuilder.getRight());
   }
 
+  /**
+   * Copy the composite aggregation, whose size and after key are set by the request to page through
+   * its buckets, so the aggregation pushed down into the plan is never modified.
+   */
+  private static AggregationBuilder copyComposite(AggregationBuilder aggregation) {
+    if (!(aggregation instanceof CompositeAggregationBuilder composite)) {
+      return aggregation;
+    }
+    CompositeAggregationBuilder copy =
+        AggregationBuilders.composite(composite.getName(), new ArrayList<>(composite.sources()))
+            .size(composite.size());
+    composite.getSubAggregations().forEach(copy::subAggregation);
+    composite.getPipelineAggregations().forEach(copy::subAggregation);
+    if (composite.getMetadata() != null) {
+      copy.setMetadata(composite.getMetadata());
+    }
+    return copy;
+  }
+
+  /**
+   * Set the page size of the composite aggregation, whose buckets are fetched page by page with the
+   * after key of the previous page. See {@link OpenSearchQueryRequest}.
+   */
+  private void pushDownAggregationPageSize() {
+    Integer aggregationPageSize =
+        settings == null
+            ? null
+            : settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE);
+    if (aggregationPageSize == null || sourceBuilder.aggregations() == null) {
+      return;
+    }
+    for (AggregationBuilder aggregation : sourceBuilder.aggregations().getAggregatorFactories()) {
+      if (aggregation instanceof CompositeAggregationBuilder composite) {
+        composite.size(aggregationPageSize);
+      }
+    }
+  }
+
   /**
    * Push down sort to DSL request.
    *
@@ -238,6 +290,17 @@ public class OpenSearchRequestBuilder {
     sourceBuilder.from(startFrom).size(requestedTotalSize);
   }
 
+  /**
+   * Push down field collapsing to DSL request, so only the top document of each value of the field
+   * is returned. The documents without the field are filtered out.
+   *
+   * @param field field to collapse the documents by, which must have doc values.
+   */
+  public void pushDownCollapse(String field) {
+    pushDownFilter(QueryBuilders.existsQuery(field));
+    sourceBuilder.collapse(new CollapseBuilder(field));
+  }
+
   public void pushDownTrackedScore(boolean trackScores) {
     sourceBuilder.trackScores(trackScores);
   }
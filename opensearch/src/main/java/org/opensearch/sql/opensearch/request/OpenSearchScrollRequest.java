@@ -8,6 +8,7 @@ package org.opensearch.sql.opensearch.request;
 import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
@@ -18,6 +19,7 @@ import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -94,14 +96,34 @@ public class OpenSearchScrollRequest implements OpenSearchRequest {
     if (isScroll()) {
       openSearchResponse = scrollAction.apply(scrollRequest());
     } else {
-      if (initialSearchRequest == null) {
-        // Probably a first page search (since there is no scroll set) called on a deserialized
-        // `OpenSearchScrollRequest`, which has no `initialSearchRequest`.
-        throw new UnsupportedOperationException("Misuse of OpenSearchScrollRequest");
-      }
-      openSearchResponse = searchAction.apply(initialSearchRequest);
+      openSearchResponse = searchAction.apply(initialSearchRequest());
     }
+    return onSearchResponse(openSearchResponse);
+  }
+
+  @Override
+  public void searchAsync(
+      BiConsumer<SearchRequest, ActionListener<SearchResponse>> searchAction,
+      BiConsumer<SearchScrollRequest, ActionListener<SearchResponse>> scrollAction,
+      ActionListener<OpenSearchResponse> listener) {
+    if (isScroll()) {
+      scrollAction.accept(scrollRequest(), ActionListener.map(listener, this::onSearchResponse));
+    } else {
+      searchAction.accept(
+          initialSearchRequest(), ActionListener.map(listener, this::onSearchResponse));
+    }
+  }
+
+  private SearchRequest initialSearchRequest() {
+    if (initialSearchRequest == null) {
+      // Probably a first page search (since there is no scroll set) called on a deserialized
+      // `OpenSearchScrollRequest`, which has no `initialSearchRequest`.
+      throw new UnsupportedOperationException("Misuse of OpenSearchScrollRequest");
+    }
+    return initialSearchRequest;
+  }
 
+  private OpenSearchResponse onSearchResponse(SearchResponse openSearchResponse) {
     var response = new OpenSearchResponse(openSearchResponse, exprValueFactory, includes);
     needClean = response.isEmpty();
     if (!needClean) {
@@ -22,6 +22,7 @@ import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.text.Text;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
@@ -32,6 +33,7 @@ import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.opensearch.data.utils.SourceIncludes;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 
 /** OpenSearch search response. */
@@ -48,6 +50,9 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
   /** List of requested include fields. */
   private final List<String> includes;
 
+  /** Source fields fetched by the includes. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final SourceIncludes sourceIncludes;
+
   /** OpenSearchExprValueFactory used to build ExprValue from search result. */
   @EqualsAndHashCode.Exclude private final OpenSearchExprValueFactory exprValueFactory;
 
@@ -60,6 +65,7 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     this.aggregations = searchResponse.getAggregations();
     this.exprValueFactory = exprValueFactory;
     this.includes = includes;
+    this.sourceIncludes = SourceIncludes.of(includes);
   }
 
   /** Constructor of OpenSearchResponse with SearchHits. */
@@ -69,6 +75,7 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     this.aggregations = null;
     this.exprValueFactory = exprValueFactory;
     this.includes = includes;
+    this.sourceIncludes = SourceIncludes.of(includes);
   }
 
   /**
@@ -116,12 +123,13 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
    */
   private void addParsedHitsToBuilder(
       ImmutableMap.Builder<String, ExprValue> builder, SearchHit hit) {
-    builder.putAll(
-        exprValueFactory
-            .construct(
-                hit.getSourceAsString(),
-                !(hit.getInnerHits() == null || hit.getInnerHits().isEmpty()))
-            .tupleValue());
+    boolean supportArrays = !(hit.getInnerHits() == null || hit.getInnerHits().isEmpty());
+    BytesReference source = hit.getSourceRef();
+    ExprValue value =
+        source != null && OpenSearchExprValueFactory.isJsonObject(source)
+            ? exprValueFactory.construct(source, sourceIncludes, supportArrays)
+            : exprValueFactory.construct(hit.getSourceAsString(), supportArrays);
+    builder.putAll(value.tupleValue());
   }
 
   /**
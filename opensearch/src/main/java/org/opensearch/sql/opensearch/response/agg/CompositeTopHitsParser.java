@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.response.agg;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+
+/**
+ * Composite aggregation parser which returns the hits of the top hits aggregation in each bucket as
+ * rows, instead of one row for each bucket. It's used by dedup, which keeps the top documents of
+ * each distinct key.
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class CompositeTopHitsParser implements OpenSearchAggregationResponseParser {
+
+  private final TopHitsParser topHitsParser;
+
+  @Override
+  public List<Map<String, Object>> parse(Aggregations aggregations) {
+    return ((CompositeAggregation) aggregations.asList().get(0))
+        .getBuckets().stream().flatMap(this::parse).collect(Collectors.toList());
+  }
+
+  private Stream<Map<String, Object>> parse(CompositeAggregation.Bucket bucket) {
+    return topHitsParser.parseRows(bucket.getAggregations().get(topHitsParser.getName())).stream();
+  }
+}
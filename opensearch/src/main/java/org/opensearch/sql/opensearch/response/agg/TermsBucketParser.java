@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.response.agg;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.missing.Missing;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+
+/**
+ * Terms aggregation parser which returns one row for each terms bucket, with the term and its doc
+ * count. The terms aggregation is either the root aggregation or the sub aggregation of a composite
+ * aggregation, in which case the keys of the composite bucket are added to its rows. It's used by
+ * rare and top. The doc count of the sibling missing aggregation, if any, is returned as the row of
+ * the null term, ranked with the terms by their doc counts.
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class TermsBucketParser implements OpenSearchAggregationResponseParser {
+
+  /** Name of the terms aggregation, which is the name of the term field as well. */
+  private final String termsName;
+
+  /** Name of the missing aggregation, or null if the docs without the term are not counted. */
+  private final String missingName;
+
+  /** Name of the doc count field. */
+  private final String countName;
+
+  /** Max number of rows of each composite bucket. */
+  private final int size;
+
+  /** Whether the rows are ordered by ascending doc count. */
+  private final boolean ascending;
+
+  @Override
+  public List<Map<String, Object>> parse(Aggregations aggregations) {
+    if (aggregations.asList().get(0) instanceof CompositeAggregation composite) {
+      return composite.getBuckets().stream()
+          .flatMap(bucket -> parse(bucket.getKey(), bucket.getAggregations()).stream())
+          .collect(Collectors.toList());
+    }
+    return parse(Map.of(), aggregations);
+  }
+
+  private List<Map<String, Object>> parse(Map<String, Object> key, Aggregations aggregations) {
+    List<Map<String, Object>> rows = new ArrayList<>();
+    for (Terms.Bucket bucket : aggregations.<Terms>get(termsName).getBuckets()) {
+      rows.add(row(key, bucket.getKey(), bucket.getDocCount()));
+    }
+    if (missingName != null && aggregations.<Missing>get(missingName).getDocCount() > 0) {
+      rows.add(row(key, null, aggregations.<Missing>get(missingName).getDocCount()));
+      Comparator<Map<String, Object>> byCount =
+          Comparator.comparingLong(row -> (Long) row.get(countName));
+      rows.sort(ascending ? byCount : byCount.reversed());
+      if (rows.size() > size) {
+        rows.remove(rows.size() - 1);
+      }
+    }
+    return rows;
+  }
+
+  private Map<String, Object> row(Map<String, Object> key, Object term, long docCount) {
+    Map<String, Object> row = new HashMap<>(key);
+    row.put(termsName, term);
+    row.put(countName, docCount);
+    return row;
+  }
+}
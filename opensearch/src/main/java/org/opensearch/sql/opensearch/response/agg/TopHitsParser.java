@@ -5,13 +5,19 @@
 
 package org.opensearch.sql.opensearch.response.agg;
 
+import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIELD_ID;
+import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIELD_INDEX;
+
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.search.SearchHit;
 import org.opensearch.search.aggregations.Aggregation;
 import org.opensearch.search.aggregations.metrics.TopHits;
 
@@ -30,4 +36,24 @@ public class TopHitsParser implements MetricParser {
             .flatMap(h -> h.getSourceAsMap().values().stream())
             .collect(Collectors.toList()));
   }
+
+  /**
+   * Parse each hit of the {@link TopHits} as a row of its source fields, with the id and index
+   * metadata fields of the hit.
+   *
+   * @param agg top hits aggregation.
+   * @return one row for each hit.
+   */
+  public List<Map<String, Object>> parseRows(Aggregation agg) {
+    return Arrays.stream(((TopHits) agg).getHits().getHits())
+        .map(TopHitsParser::parseRow)
+        .collect(Collectors.toList());
+  }
+
+  private static Map<String, Object> parseRow(SearchHit hit) {
+    Map<String, Object> row = new HashMap<>(hit.getSourceAsMap());
+    row.put(METADATA_FIELD_ID, hit.getId());
+    row.put(METADATA_FIELD_INDEX, hit.getIndex());
+    return row;
+  }
 }
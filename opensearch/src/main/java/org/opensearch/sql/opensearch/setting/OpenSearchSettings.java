@@ -127,6 +127,29 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> CALCITE_SCAN_PREFETCH_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.CALCITE_SCAN_PREFETCH_ENABLED.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> CALCITE_JOIN_RUNTIME_FILTER_MAX_KEYS_SETTING =
+      Setting.intSetting(
+          Key.CALCITE_JOIN_RUNTIME_FILTER_MAX_KEYS.getKeyValue(),
+          10000,
+          0,
+          65536,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> CALCITE_PUSHDOWN_STATISTICS_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.CALCITE_PUSHDOWN_STATISTICS_ENABLED.getKeyValue(),
+          true,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> QUERY_MEMORY_LIMIT_SETTING =
       Setting.memorySizeSetting(
           Key.QUERY_MEMORY_LIMIT.getKeyValue(),
@@ -134,6 +157,39 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> QUERY_MEMORY_BUDGET_SETTING =
+      Setting.memorySizeSetting(
+          Key.QUERY_MEMORY_BUDGET.getKeyValue(),
+          "20%",
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SORT_MEMORY_LIMIT_SETTING =
+      Setting.memorySizeSetting(
+          Key.QUERY_SORT_MEMORY_LIMIT.getKeyValue(),
+          "5%",
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_AGGREGATION_PAGE_SIZE_SETTING =
+      Setting.intSetting(
+          Key.QUERY_AGGREGATION_PAGE_SIZE.getKeyValue(),
+          1000,
+          1,
+          65535,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<Integer> SCRIPT_CACHE_MAX_SIZE_SETTING =
+      Setting.intSetting(
+          Key.SCRIPT_CACHE_MAX_SIZE.getKeyValue(), 1000, 0, Setting.Property.NodeScope);
+
+  public static final Setting<TimeValue> SCRIPT_CACHE_EXPIRE_SETTING =
+      Setting.positiveTimeSetting(
+          Key.SCRIPT_CACHE_EXPIRE.getKeyValue(),
+          TimeValue.timeValueHours(1),
+          Setting.Property.NodeScope);
+
   public static final Setting<?> QUERY_SIZE_LIMIT_SETTING =
       Setting.intSetting(
           Key.QUERY_SIZE_LIMIT.getKeyValue(),
@@ -351,12 +407,48 @@ public class OpenSearchSettings extends Settings {
         Key.CALCITE_PUSHDOWN_ROWCOUNT_ESTIMATION_FACTOR,
         CALCITE_PUSHDOWN_ROWCOUNT_ESTIMATION_FACTOR_SETTING,
         new Updater(Key.CALCITE_PUSHDOWN_ROWCOUNT_ESTIMATION_FACTOR));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.CALCITE_SCAN_PREFETCH_ENABLED,
+        CALCITE_SCAN_PREFETCH_ENABLED_SETTING,
+        new Updater(Key.CALCITE_SCAN_PREFETCH_ENABLED));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.CALCITE_JOIN_RUNTIME_FILTER_MAX_KEYS,
+        CALCITE_JOIN_RUNTIME_FILTER_MAX_KEYS_SETTING,
+        new Updater(Key.CALCITE_JOIN_RUNTIME_FILTER_MAX_KEYS));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.CALCITE_PUSHDOWN_STATISTICS_ENABLED,
+        CALCITE_PUSHDOWN_STATISTICS_ENABLED_SETTING,
+        new Updater(Key.CALCITE_PUSHDOWN_STATISTICS_ENABLED));
     register(
         settingBuilder,
         clusterSettings,
         Key.QUERY_MEMORY_LIMIT,
         QUERY_MEMORY_LIMIT_SETTING,
         new Updater(Key.QUERY_MEMORY_LIMIT));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_MEMORY_BUDGET,
+        QUERY_MEMORY_BUDGET_SETTING,
+        new Updater(Key.QUERY_MEMORY_BUDGET));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SORT_MEMORY_LIMIT,
+        QUERY_SORT_MEMORY_LIMIT_SETTING,
+        new Updater(Key.QUERY_SORT_MEMORY_LIMIT));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_AGGREGATION_PAGE_SIZE,
+        QUERY_AGGREGATION_PAGE_SIZE_SETTING,
+        new Updater(Key.QUERY_AGGREGATION_PAGE_SIZE));
     register(
         settingBuilder,
         clusterSettings,
@@ -527,11 +619,17 @@ public class OpenSearchSettings extends Settings {
         .add(CALCITE_FALLBACK_ALLOWED_SETTING)
         .add(CALCITE_PUSHDOWN_ENABLED_SETTING)
         .add(CALCITE_PUSHDOWN_ROWCOUNT_ESTIMATION_FACTOR_SETTING)
+        .add(CALCITE_SCAN_PREFETCH_ENABLED_SETTING)
+        .add(CALCITE_JOIN_RUNTIME_FILTER_MAX_KEYS_SETTING)
+        .add(CALCITE_PUSHDOWN_STATISTICS_ENABLED_SETTING)
         .add(DEFAULT_PATTERN_METHOD_SETTING)
         .add(DEFAULT_PATTERN_MODE_SETTING)
         .add(DEFAULT_PATTERN_MAX_SAMPLE_COUNT_SETTING)
         .add(DEFAULT_PATTERN_BUFFER_LIMIT_SETTING)
         .add(QUERY_MEMORY_LIMIT_SETTING)
+        .add(QUERY_MEMORY_BUDGET_SETTING)
+        .add(QUERY_SORT_MEMORY_LIMIT_SETTING)
+        .add(QUERY_AGGREGATION_PAGE_SIZE_SETTING)
         .add(QUERY_SIZE_LIMIT_SETTING)
         .add(METRICS_ROLLING_WINDOW_SETTING)
         .add(METRICS_ROLLING_INTERVAL_SETTING)
@@ -558,6 +656,8 @@ public class OpenSearchSettings extends Settings {
     return new ImmutableList.Builder<Setting<?>>()
         .add(DATASOURCE_MASTER_SECRET_KEY)
         .add(DATASOURCE_CONFIG)
+        .add(SCRIPT_CACHE_MAX_SIZE_SETTING)
+        .add(SCRIPT_CACHE_EXPIRE_SETTING)
         .build();
   }
 
@@ -0,0 +1,345 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.statistics;
+
+import com.google.common.collect.Range;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.util.Sarg;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.mapper.IgnoredFieldMapper;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.SingleBucketAggregation;
+import org.opensearch.search.aggregations.metrics.NumericMetricsAggregation;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+
+/**
+ * Statistics of an index and some of its fields. The doc count of the index is read from the index
+ * stats, and the statistics of the fields are collected by a single search of aggregations: the
+ * number of distinct values of each field by the HyperLogLog++ based cardinality aggregation, the
+ * fraction of the docs without a value, the min and max values of numeric fields, and whether a doc
+ * has several values of a field or a value which isn't indexed. They are estimates for the planner
+ * to cost plans and to check whether an operator can be pushed down, and are never used to compute
+ * a result.
+ */
+@Getter
+@RequiredArgsConstructor
+public class IndexStatistics {
+
+  /** Max time of the search of the statistics on the shards. */
+  private static final TimeValue SEARCH_TIMEOUT = TimeValue.timeValueSeconds(1);
+
+  /** Max time to wait for the index stats or the search of the statistics. */
+  public static final TimeValue TIMEOUT = TimeValue.timeValueSeconds(2);
+
+  /** Cardinality under which the number of distinct values is close to accurate. */
+  private static final long PRECISION_THRESHOLD = 1000;
+
+  private static final String CARDINALITY = "cardinality_";
+  private static final String COUNT = "count_";
+  private static final String MIN = "min_";
+  private static final String MAX = "max_";
+  private static final String EXISTS = "exists_";
+  private static final String IGNORED = "ignored_";
+
+  private final long docCount;
+
+  /** Statistics of the fields by field name. */
+  private final Map<String, FieldStatistics> fields;
+
+  /**
+   * Statistics of a field.
+   *
+   * @param cardinality approximate number of distinct values.
+   * @param nullFraction fraction of the docs without a value.
+   * @param min min value of a numeric field, or null.
+   * @param max max value of a numeric field, or null.
+   * @param multiValued whether a doc has more than one value.
+   * @param partiallyIndexed whether a value isn't indexed, e.g. a value of a keyword field longer
+   *     than its ignore_above, so it's in the source of the doc only.
+   */
+  public record FieldStatistics(
+      long cardinality,
+      double nullFraction,
+      Double min,
+      Double max,
+      boolean multiValued,
+      boolean partiallyIndexed) {}
+
+  /**
+   * Build the search of the statistics.
+   *
+   * @param indexName index name.
+   * @param fields fields with doc values.
+   * @param rangeFields numeric fields of which the min and max values are collected as well.
+   * @return search request.
+   */
+  public static SearchRequest searchRequest(
+      OpenSearchRequest.IndexName indexName,
+      List<String> fields,
+      Collection<String> rangeFields) {
+    SearchSourceBuilder source =
+        new SearchSourceBuilder().size(0).trackTotalHits(false).timeout(SEARCH_TIMEOUT);
+    for (int i = 0; i < fields.size(); i++) {
+      String field = fields.get(i);
+      source.aggregation(
+          AggregationBuilders.cardinality(CARDINALITY + i)
+              .field(field)
+              .precisionThreshold(PRECISION_THRESHOLD));
+      source.aggregation(AggregationBuilders.count(COUNT + i).field(field));
+      source.aggregation(AggregationBuilders.filter(EXISTS + i, QueryBuilders.existsQuery(field)));
+      source.aggregation(
+          AggregationBuilders.filter(
+              IGNORED + i, QueryBuilders.termQuery(IgnoredFieldMapper.NAME, field)));
+      if (rangeFields.contains(field)) {
+        source.aggregation(AggregationBuilders.min(MIN + i).field(field));
+        source.aggregation(AggregationBuilders.max(MAX + i).field(field));
+      }
+    }
+    return new SearchRequest(indexName.getIndexNames()).source(source);
+  }
+
+  /**
+   * Parse the response of the search of the statistics.
+   *
+   * @param response search response.
+   * @param docCount doc count of the index from the index stats.
+   * @param fields fields in the order of the search request.
+   * @return statistics.
+   * @throws IllegalStateException if the search timed out, as its partial results would
+   *     underestimate the fields of the shards which didn't complete.
+   */
+  public static IndexStatistics of(SearchResponse response, long docCount, List<String> fields) {
+    if (response.isTimedOut()) {
+      throw new IllegalStateException("Search of the statistics timed out");
+    }
+    Aggregations aggregations = response.getAggregations();
+    Map<String, FieldStatistics> fieldStatistics = new HashMap<>();
+    for (int i = 0; aggregations != null && i < fields.size(); i++) {
+      Double cardinality = valueOf(aggregations, CARDINALITY + i);
+      Double count = valueOf(aggregations, COUNT + i);
+      Long exists = docCountOf(aggregations, EXISTS + i);
+      Long ignored = docCountOf(aggregations, IGNORED + i);
+      if (cardinality == null || count == null || exists == null || ignored == null) {
+        continue;
+      }
+      double nullFraction =
+          docCount == 0 ? 1.0 : Math.max(0.0, 1.0 - exists.doubleValue() / docCount);
+      fieldStatistics.put(
+          fields.get(i),
+          new FieldStatistics(
+              cardinality.longValue(),
+              nullFraction,
+              valueOf(aggregations, MIN + i),
+              valueOf(aggregations, MAX + i),
+              count > exists,
+              ignored > 0));
+    }
+    return new IndexStatistics(docCount, fieldStatistics);
+  }
+
+  private static Double valueOf(Aggregations aggregations, String name) {
+    if (aggregations.get(name) instanceof NumericMetricsAggregation.SingleValue metric
+        && Double.isFinite(metric.value())) {
+      return metric.value();
+    }
+    return null;
+  }
+
+  private static Long docCountOf(Aggregations aggregations, String name) {
+    return aggregations.get(name) instanceof SingleBucketAggregation bucket
+        ? bucket.getDocCount()
+        : null;
+  }
+
+  /**
+   * Estimate the fraction of the docs which match the condition. The selectivity of the parts of
+   * the condition which cannot be estimated from the statistics is guessed.
+   *
+   * @param condition condition.
+   * @param fieldNames field names of the input refs of the condition.
+   * @return selectivity between 0 and 1.
+   */
+  public double selectivity(RexNode condition, List<String> fieldNames) {
+    Double selectivity = estimateSelectivity(condition, fieldNames);
+    return selectivity == null
+        ? RelMdUtil.guessSelectivity(condition)
+        : Math.max(0.0, Math.min(1.0, selectivity));
+  }
+
+  private Double estimateSelectivity(RexNode node, List<String> fieldNames) {
+    if (!(node instanceof RexCall call)) {
+      return null;
+    }
+    switch (node.getKind()) {
+      case AND:
+        {
+          double selectivity = 1.0;
+          for (RexNode operand : call.getOperands()) {
+            selectivity *= selectivity(operand, fieldNames);
+          }
+          return selectivity;
+        }
+      case OR:
+        {
+          double unselected = 1.0;
+          for (RexNode operand : call.getOperands()) {
+            unselected *= 1.0 - selectivity(operand, fieldNames);
+          }
+          return 1.0 - unselected;
+        }
+      case NOT:
+        return 1.0 - selectivity(call.getOperands().get(0), fieldNames);
+      case IS_NULL:
+        {
+          FieldStatistics field = fieldOf(call.getOperands().get(0), fieldNames);
+          return field == null ? null : field.nullFraction();
+        }
+      case IS_NOT_NULL:
+        {
+          FieldStatistics field = fieldOf(call.getOperands().get(0), fieldNames);
+          return field == null ? null : 1.0 - field.nullFraction();
+        }
+      case EQUALS:
+      case NOT_EQUALS:
+      case LESS_THAN:
+      case LESS_THAN_OR_EQUAL:
+      case GREATER_THAN:
+      case GREATER_THAN_OR_EQUAL:
+      case SEARCH:
+        return comparisonSelectivity(call, fieldNames);
+      default:
+        return null;
+    }
+  }
+
+  /** Selectivity of the comparison of a field and a literal, or null if it's unknown. */
+  private Double comparisonSelectivity(RexCall call, List<String> fieldNames) {
+    if (call.getOperands().size() != 2) {
+      return null;
+    }
+    RexNode left = RexUtil.removeCast(call.getOperands().get(0));
+    RexNode right = RexUtil.removeCast(call.getOperands().get(1));
+    SqlKind kind = call.getKind();
+    if (left instanceof RexLiteral && right instanceof RexInputRef) {
+      RexNode swapped = left;
+      left = right;
+      right = swapped;
+      kind = kind.reverse();
+    }
+    FieldStatistics field = fieldOf(left, fieldNames);
+    if (field == null || !(right instanceof RexLiteral literal)) {
+      return null;
+    }
+    double nonNull = 1.0 - field.nullFraction();
+    double equal = nonNull / Math.max(field.cardinality(), 1);
+    Double value = toDouble(literal.getValue());
+    return switch (kind) {
+      case EQUALS -> equal;
+      case NOT_EQUALS -> nonNull - equal;
+      case LESS_THAN, LESS_THAN_OR_EQUAL -> value == null
+          ? null
+          : rangeSelectivity(field, null, value);
+      case GREATER_THAN, GREATER_THAN_OR_EQUAL -> value == null
+          ? null
+          : rangeSelectivity(field, value, null);
+      case SEARCH -> literal.getValue() instanceof Sarg<?> sarg
+          ? sargSelectivity(field, sarg, equal)
+          : null;
+      default -> null;
+    };
+  }
+
+  /** Selectivity of the values in the points and ranges of the search argument. */
+  private Double sargSelectivity(FieldStatistics field, Sarg<?> sarg, double equal) {
+    double selectivity = 0.0;
+    for (Range<?> range : sarg.rangeSet.asRanges()) {
+      Double lower = range.hasLowerBound() ? toDouble(range.lowerEndpoint()) : null;
+      Double upper = range.hasUpperBound() ? toDouble(range.upperEndpoint()) : null;
+      if (range.hasLowerBound()
+          && range.hasUpperBound()
+          && range.lowerEndpoint().equals(range.upperEndpoint())) {
+        selectivity += equal;
+        continue;
+      }
+      if ((range.hasLowerBound() && lower == null) || (range.hasUpperBound() && upper == null)) {
+        return null;
+      }
+      Double rangeSelectivity = rangeSelectivity(field, lower, upper);
+      if (rangeSelectivity == null) {
+        return null;
+      }
+      selectivity += rangeSelectivity;
+    }
+    return selectivity;
+  }
+
+  /**
+   * Selectivity of the values between the bounds, assuming the values are uniformly distributed
+   * between the min and max values of the field.
+   */
+  private Double rangeSelectivity(FieldStatistics field, Double lower, Double upper) {
+    if (field.min() == null || field.max() == null) {
+      return null;
+    }
+    double min = field.min();
+    double max = field.max();
+    double from = lower == null ? min : Math.max(min, Math.min(max, lower));
+    double to = upper == null ? max : Math.max(min, Math.min(max, upper));
+    double nonNull = 1.0 - field.nullFraction();
+    if (max <= min) {
+      return from <= to ? nonNull : 0.0;
+    }
+    return Math.max(0.0, to - from) / (max - min) * nonNull;
+  }
+
+  private FieldStatistics fieldOf(RexNode node, List<String> fieldNames) {
+    if (RexUtil.removeCast(node) instanceof RexInputRef ref
+        && ref.getIndex() < fieldNames.size()) {
+      return fields.get(fieldNames.get(ref.getIndex()));
+    }
+    return null;
+  }
+
+  private static Double toDouble(Object value) {
+    return value instanceof Number number ? number.doubleValue() : null;
+  }
+
+  /**
+   * Estimate the number of distinct combinations of the values of the fields, in which a missing
+   * value counts as a distinct value.
+   *
+   * @param fieldNames field names.
+   * @return number of distinct combinations, or null if it's unknown.
+   */
+  public Double distinctCount(List<String> fieldNames) {
+    double distinctCount = 1.0;
+    for (String fieldName : fieldNames) {
+      FieldStatistics field = fields.get(fieldName);
+      if (field == null) {
+        return null;
+      }
+      distinctCount *= field.cardinality() + (field.nullFraction() > 0 ? 1 : 0);
+    }
+    return distinctCount;
+  }
+}
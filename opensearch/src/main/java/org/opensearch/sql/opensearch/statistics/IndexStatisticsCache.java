@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.statistics;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics.FieldStatistics;
+
+/**
+ * Node level cache of index statistics, so a query is planned without a search of the statistics
+ * unless it filters or groups by a field whose statistics are not cached yet. The statistics of
+ * each field are cached separately and expire a minute after they are collected, and the fields
+ * which are missing are collected together by one search.
+ */
+public class IndexStatisticsCache {
+
+  private static final long CACHE_SIZE = 10000;
+
+  private static final long EXPIRE_AFTER_MINUTES = 1;
+
+  private static final Cache<String, Long> DOC_COUNTS =
+      CacheBuilder.newBuilder()
+          .maximumSize(CACHE_SIZE)
+          .expireAfterWrite(EXPIRE_AFTER_MINUTES, TimeUnit.MINUTES)
+          .build();
+
+  /** Statistics of fields keyed by the index name and the field name. */
+  private static final Cache<List<String>, FieldStatistics> FIELDS =
+      CacheBuilder.newBuilder()
+          .maximumSize(CACHE_SIZE)
+          .expireAfterWrite(EXPIRE_AFTER_MINUTES, TimeUnit.MINUTES)
+          .build();
+
+  private IndexStatisticsCache() {}
+
+  /**
+   * Get the statistics of the index and the fields, collecting the missing ones on miss.
+   *
+   * @param client OpenSearch client.
+   * @param indexName index name.
+   * @param fields fields with doc values.
+   * @param rangeFields numeric fields of which the min and max values are collected as well.
+   * @return statistics, in which the fields without any statistics are missing.
+   */
+  public static IndexStatistics get(
+      OpenSearchClient client,
+      OpenSearchRequest.IndexName indexName,
+      Collection<String> fields,
+      Collection<String> rangeFields) {
+    String index = indexName.toString();
+    Long docCount = DOC_COUNTS.getIfPresent(index);
+    Map<String, FieldStatistics> fieldStatistics = new HashMap<>();
+    List<String> missing = new ArrayList<>();
+    for (String field : fields) {
+      FieldStatistics statistics = FIELDS.getIfPresent(List.of(index, field));
+      if (statistics == null) {
+        missing.add(field);
+      } else {
+        fieldStatistics.put(field, statistics);
+      }
+    }
+    if (docCount == null || !missing.isEmpty()) {
+      IndexStatistics collected =
+          client.getIndexStatistics(
+              indexName, missing, rangeFields.stream().filter(missing::contains).toList());
+      docCount = collected.getDocCount();
+      DOC_COUNTS.put(index, docCount);
+      collected
+          .getFields()
+          .forEach(
+              (field, statistics) -> {
+                FIELDS.put(List.of(index, field), statistics);
+                fieldStatistics.put(field, statistics);
+              });
+    }
+    return new IndexStatistics(docCount, fieldStatistics);
+  }
+
+  /** Remove all the cached statistics. */
+  public static void invalidateAll() {
+    DOC_COUNTS.invalidateAll();
+    FIELDS.invalidateAll();
+  }
+}
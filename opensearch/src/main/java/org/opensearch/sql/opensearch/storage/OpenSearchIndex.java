@@ -6,10 +6,14 @@
 package org.opensearch.sql.opensearch.storage;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.Getter;
@@ -17,6 +21,9 @@ import lombok.RequiredArgsConstructor;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.sql.calcite.plan.AbstractOpenSearchTable;
 import org.opensearch.sql.common.setting.Settings;
@@ -24,6 +31,7 @@ import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryHealthy;
 import org.opensearch.sql.opensearch.monitor.OpenSearchResourceMonitor;
@@ -34,7 +42,11 @@ import org.opensearch.sql.opensearch.planner.physical.OpenSearchEvalOperator;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.request.system.OpenSearchDescribeIndexRequest;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics.FieldStatistics;
+import org.opensearch.sql.opensearch.statistics.IndexStatisticsCache;
 import org.opensearch.sql.opensearch.storage.scan.CalciteLogicalIndexScan;
+import org.opensearch.sql.opensearch.storage.scan.IndexScanDistinctRowCount;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScanBuilder;
 import org.opensearch.sql.planner.DefaultImplementor;
@@ -49,6 +61,24 @@ import org.opensearch.sql.storage.read.TableScanBuilder;
 /** OpenSearch table (index) implementation. */
 public class OpenSearchIndex extends AbstractOpenSearchTable {
 
+  private static final Logger LOG = LogManager.getLogger(OpenSearchIndex.class);
+
+  /** Types of the fields of which the statistics are collected. */
+  private static final Set<ExprType> STATISTICS_TYPES =
+      Set.of(
+          ExprCoreType.BYTE,
+          ExprCoreType.SHORT,
+          ExprCoreType.INTEGER,
+          ExprCoreType.LONG,
+          ExprCoreType.FLOAT,
+          ExprCoreType.DOUBLE,
+          ExprCoreType.BOOLEAN,
+          ExprCoreType.STRING,
+          ExprCoreType.IP,
+          ExprCoreType.DATE,
+          ExprCoreType.TIME,
+          ExprCoreType.TIMESTAMP);
+
   public static final String METADATA_FIELD_ID = "_id";
   public static final String METADATA_FIELD_INDEX = "_index";
   public static final String METADATA_FIELD_SCORE = "_score";
@@ -89,6 +119,9 @@ public class OpenSearchIndex extends AbstractOpenSearchTable {
   /** The cached max result window setting of index. */
   private Integer cachedMaxResultWindow = null;
 
+  /** Whether the statistics cannot be collected, so they are not collected again by the query. */
+  private boolean statisticsUnavailable = false;
+
   /** Constructor. */
   public OpenSearchIndex(OpenSearchClient client, Settings settings, String indexName) {
     this.client = client;
@@ -190,6 +223,120 @@ public class OpenSearchIndex extends AbstractOpenSearchTable {
     return cachedMaxResultWindow;
   }
 
+  /**
+   * Get the statistics of the index and the fields which can be aggregated. The statistics of a
+   * text field are the ones of its keyword subfield.
+   *
+   * @param fieldNames field names.
+   * @return statistics keyed by the field names, or null if the statistics are disabled or cannot
+   *     be collected.
+   */
+  public IndexStatistics getStatistics(Collection<String> fieldNames) {
+    if (statisticsUnavailable
+        || !Boolean.TRUE.equals(
+            settings.getSettingValue(Settings.Key.CALCITE_PUSHDOWN_STATISTICS_ENABLED))) {
+      return null;
+    }
+    try {
+      Map<String, String> fields = new LinkedHashMap<>();
+      List<String> rangeFields = new ArrayList<>();
+      for (String fieldName : fieldNames) {
+        ExprType fieldType = getFieldTypes().get(fieldName);
+        String field = statisticsField(fieldName, fieldType);
+        if (field != null) {
+          fields.put(fieldName, field);
+          if (ExprCoreType.numberTypes().contains(fieldType.getOriginalExprType())) {
+            rangeFields.add(field);
+          }
+        }
+      }
+      IndexStatistics statistics =
+          IndexStatisticsCache.get(client, indexName, fields.values(), rangeFields);
+      Map<String, FieldStatistics> fieldStatistics = new HashMap<>();
+      fields.forEach(
+          (fieldName, field) -> {
+            if (statistics.getFields().containsKey(field)) {
+              fieldStatistics.put(fieldName, statistics.getFields().get(field));
+            }
+          });
+      return new IndexStatistics(statistics.getDocCount(), fieldStatistics);
+    } catch (Exception e) {
+      LOG.debug("Failed to collect statistics for index {}", indexName, e);
+      statisticsUnavailable = true;
+      return null;
+    }
+  }
+
+  /**
+   * Check whether every doc has at most one value of each of the fields, which is indexed. Unlike
+   * {@link #getStatistics(Collection)}, it's checked by a search on every call regardless of the
+   * statistics setting, since the answer decides the result of a query rather than its cost.
+   *
+   * @param fields fields in OpenSearch with doc values.
+   * @return false if a doc has several values of a field or a value which isn't indexed, or if it
+   *     cannot be checked.
+   */
+  public boolean hasSingleIndexedValues(List<String> fields) {
+    Map<String, FieldStatistics> statistics = collectFieldStatistics(fields);
+    return statistics != null
+        && fields.stream()
+            .map(statistics::get)
+            .allMatch(field -> field != null && !field.multiValued() && !field.partiallyIndexed());
+  }
+
+  /**
+   * Get the approximate number of distinct values of the field, which is collected by a search on
+   * every call as {@link #hasSingleIndexedValues(List)}.
+   *
+   * @param field field in OpenSearch with doc values.
+   * @return number of distinct values, or null if it cannot be collected.
+   */
+  public Long getDistinctValueCount(String field) {
+    Map<String, FieldStatistics> statistics = collectFieldStatistics(List.of(field));
+    return statistics == null || !statistics.containsKey(field)
+        ? null
+        : statistics.get(field).cardinality();
+  }
+
+  private Map<String, FieldStatistics> collectFieldStatistics(List<String> fields) {
+    try {
+      return client.getIndexStatistics(indexName, fields, List.of()).getFields();
+    } catch (Exception e) {
+      LOG.debug("Failed to collect statistics of fields {} of index {}", fields, indexName, e);
+      return null;
+    }
+  }
+
+  /** The field in OpenSearch of which the statistics are collected, or null if there is none. */
+  private String statisticsField(String fieldName, ExprType fieldType) {
+    if (fieldType == null) {
+      return null;
+    }
+    if (fieldType.getOriginalExprType() instanceof OpenSearchTextType) {
+      return OpenSearchTextType.toKeywordSubField(fieldName, fieldType);
+    }
+    ExprType originalType = fieldType.getOriginalExprType();
+    if (!STATISTICS_TYPES.contains(
+        originalType instanceof OpenSearchDataType osType
+            ? osType.getExprCoreType()
+            : originalType)) {
+      return null;
+    }
+    return getAliasMapping().getOrDefault(fieldName, fieldName);
+  }
+
+  /**
+   * The statistics of the index scans are provided to the planner by the metadata handlers which
+   * are looked up from the table.
+   */
+  @Override
+  public <C> C unwrap(Class<C> aClass) {
+    if (aClass == BuiltInMetadata.DistinctRowCount.Handler.class) {
+      return aClass.cast(IndexScanDistinctRowCount.INSTANCE);
+    }
+    return super.unwrap(aClass);
+  }
+
   /** TODO: Push down operations to index scan operator as much as possible in future. */
   @Override
   public PhysicalPlan implement(LogicalPlan plan) {
@@ -11,8 +11,10 @@ import static org.opensearch.sql.common.setting.Settings.Key.CALCITE_PUSHDOWN_RO
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import lombok.Getter;
@@ -20,6 +22,7 @@ import org.apache.calcite.adapter.enumerable.EnumerableMergeJoin;
 import org.apache.calcite.adapter.enumerable.EnumerableSort;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelCollations;
 import org.apache.calcite.rel.RelFieldCollation;
@@ -34,6 +37,7 @@ import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.calcite.util.NumberUtil;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
@@ -41,9 +45,12 @@ import org.apache.logging.log4j.Logger;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.AggregatorFactories.Builder;
+import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.composite.CompositeValuesSourceBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.sort.ScoreSortBuilder;
 import org.opensearch.search.sort.SortBuilder;
 import org.opensearch.search.sort.SortBuilders;
@@ -54,6 +61,8 @@ import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.response.agg.TermsBucketParser;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
 
 /** An abstract relational operator representing a scan of an OpenSearchIndex type. */
@@ -114,22 +123,109 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
     */
     double estimateRowCountFactor =
         osIndex.getSettings().getSettingValue(CALCITE_PUSHDOWN_ROWCOUNT_ESTIMATION_FACTOR);
-    return pushDownContext.stream()
-        .reduce(
-            osIndex.getMaxResultWindow().doubleValue(),
-            (rowCount, action) ->
-                switch (action.type) {
-                      case AGGREGATION -> mq.getRowCount((RelNode) action.digest);
-                      case PROJECT, SORT -> rowCount;
-                      case FILTER -> NumberUtil.multiply(
-                          rowCount, RelMdUtil.guessSelectivity((RexNode) action.digest));
-                      case SCRIPT -> NumberUtil.multiply(
-                              rowCount, RelMdUtil.guessSelectivity((RexNode) action.digest))
-                          * 1.1;
-                      case LIMIT -> Math.min(rowCount, (Integer) action.digest);
-                    }
-                    * estimateRowCountFactor,
-            (a, b) -> null);
+    // The selectivity of the filters is estimated from the statistics of the fields filtered by,
+    // and guessed if the statistics are not available.
+    IndexStatistics statistics = osIndex.getStatistics(filteredFieldNames());
+    Double rowCount =
+        statistics == null
+            ? osIndex.getMaxResultWindow().doubleValue()
+            : Math.max(statistics.getDocCount(), 1.0);
+    List<String> fieldNames = table.getRowType().getFieldNames();
+    for (PushDownAction action : pushDownContext) {
+      rowCount =
+          switch (action.type) {
+                case AGGREGATION, DEDUP, RARE_TOP_N -> mq.getRowCount((RelNode) action.digest);
+                // The keys of a runtime filter are unknown until the join runs.
+                case PROJECT, SORT, RUNTIME_FILTER -> rowCount;
+                case FILTER -> NumberUtil.multiply(
+                    rowCount, selectivity(statistics, (RexNode) action.digest, fieldNames));
+                case SCRIPT -> NumberUtil.multiply(
+                        rowCount, selectivity(statistics, (RexNode) action.digest, fieldNames))
+                    * 1.1;
+                case LIMIT -> Math.min(rowCount, (Integer) action.digest);
+              }
+              * estimateRowCountFactor;
+      fieldNames = fieldNamesAfter(action, fieldNames);
+    }
+    // Never below one row, as Calcite does for the row counts it derives.
+    return Math.max(rowCount, 1.0);
+  }
+
+  /**
+   * Estimate the number of distinct values of the fields of the group key from the statistics of
+   * the index. It's unknown after an aggregation is pushed down, whose output fields are not the
+   * ones of the index.
+   *
+   * @param mq metadata query.
+   * @param groupKey indexes of the fields.
+   * @param predicate condition on the rows, or null.
+   * @return number of distinct values, or null if it's unknown.
+   */
+  public Double estimateDistinctRowCount(
+      RelMetadataQuery mq, ImmutableBitSet groupKey, RexNode predicate) {
+    if (pushDownContext.isAggregatePushed() || pushDownContext.isRareTopNPushed()) {
+      return null;
+    }
+    List<String> fieldNames = getRowType().getFieldNames();
+    if (groupKey.length() > fieldNames.size()) {
+      return null;
+    }
+    List<String> groupFields = groupKey.asList().stream().map(fieldNames::get).toList();
+    Set<String> statisticsFields = new LinkedHashSet<>(groupFields);
+    if (predicate != null) {
+      for (int i : RelOptUtil.InputFinder.bits(predicate)) {
+        if (i < fieldNames.size()) {
+          statisticsFields.add(fieldNames.get(i));
+        }
+      }
+    }
+    IndexStatistics statistics = osIndex.getStatistics(statisticsFields);
+    Double distinctCount = statistics == null ? null : statistics.distinctCount(groupFields);
+    if (distinctCount == null) {
+      return null;
+    }
+    double rowCount = mq.getRowCount(this);
+    if (predicate != null && !predicate.isAlwaysTrue()) {
+      rowCount *= statistics.selectivity(predicate, fieldNames);
+    }
+    return Math.min(RelMdUtil.numDistinctVals(distinctCount, rowCount), rowCount);
+  }
+
+  /** Names of the fields of the index which are referenced by the filters pushed down. */
+  private Set<String> filteredFieldNames() {
+    Set<String> filtered = new LinkedHashSet<>();
+    List<String> fieldNames = table.getRowType().getFieldNames();
+    for (PushDownAction action : pushDownContext) {
+      if (action.type == PushDownType.FILTER || action.type == PushDownType.SCRIPT) {
+        for (int i : RelOptUtil.InputFinder.bits((RexNode) action.digest)) {
+          if (i < fieldNames.size()) {
+            filtered.add(fieldNames.get(i));
+          }
+        }
+      }
+      fieldNames = fieldNamesAfter(action, fieldNames);
+    }
+    return filtered;
+  }
+
+  private static double selectivity(
+      IndexStatistics statistics, RexNode condition, List<String> fieldNames) {
+    return statistics == null
+        ? RelMdUtil.guessSelectivity(condition)
+        : statistics.selectivity(condition, fieldNames);
+  }
+
+  /**
+   * Names of the fields of the scan after the action is pushed down, which are empty if they are
+   * not fields of the index any more.
+   */
+  @SuppressWarnings("unchecked")
+  private static List<String> fieldNamesAfter(PushDownAction action, List<String> fieldNames) {
+    return switch (action.type) {
+      case PROJECT -> (List<String>) action.digest;
+      case AGGREGATION, RARE_TOP_N -> List.of();
+      default -> fieldNames;
+    };
   }
 
   // TODO: should we consider equivalent among PushDownContexts with different push down sequence?
@@ -137,6 +233,8 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
 
     private boolean isAggregatePushed = false;
     @Getter private boolean isLimitPushed = false;
+    @Getter private boolean isDedupPushed = false;
+    @Getter private boolean isRareTopNPushed = false;
 
     @Override
     public PushDownContext clone() {
@@ -151,6 +249,12 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
       if (pushDownAction.type == PushDownType.LIMIT) {
         isLimitPushed = true;
       }
+      if (pushDownAction.type == PushDownType.DEDUP) {
+        isDedupPushed = true;
+      }
+      if (pushDownAction.type == PushDownType.RARE_TOP_N) {
+        isRareTopNPushed = true;
+      }
       return super.add(pushDownAction);
     }
 
@@ -230,6 +334,11 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
    */
   public AbstractCalciteIndexScan pushDownSort(List<RelFieldCollation> collations) {
     try {
+      if (getPushDownContext().isDedupPushed() || getPushDownContext().isRareTopNPushed()) {
+        // The sort after dedup or rare/top cannot be pushed down, as it changes the top documents
+        // or terms of the keys.
+        return null;
+      }
       List<String> collationNames = getCollationNames(collations);
       if (getPushDownContext().isAggregatePushed() && hasAggregatorInSortBy(collationNames)) {
         // If aggregation is pushed down, we cannot push down sorts where its by fields contain
@@ -306,7 +415,10 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
     AGGREGATION,
     SORT,
     LIMIT,
-    SCRIPT
+    SCRIPT,
+    DEDUP,
+    RARE_TOP_N,
+    RUNTIME_FILTER
     // HIGHLIGHT,
     // NESTED
   }
@@ -338,6 +450,8 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
 
   public static class AggPushDownAction implements AbstractAction {
 
+    private static final String MISSING_SUFFIX = "_missing";
+
     private Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder;
     private final Map<String, OpenSearchDataType> extendedTypeMapping;
 
@@ -354,6 +468,80 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
       requestBuilder.pushTypeMapping(extendedTypeMapping);
     }
 
+    /**
+     * Get the field of rare/top, which is the last field grouped by this aggregation.
+     *
+     * @param groupCount number of the group-by fields.
+     * @return field in OpenSearch.
+     */
+    public String getRareTopNField(int groupCount) {
+      return rareTopNBucket(groupCount).field();
+    }
+
+    /**
+     * Create the action of rare/top on the result of this aggregation, which groups by the group-by
+     * fields and then the rare/top field, and counts the documents of each group. The composite
+     * buckets of the rare/top field are replaced by a terms aggregation ordered by the doc count in
+     * each bucket of the group-by fields. The documents without the field, which are grouped into
+     * the missing bucket of the composite aggregation, are counted by a missing aggregation, whose
+     * count is ranked with the terms by the parser.
+     *
+     * @param groupCount number of the group-by fields.
+     * @param size number of terms of each bucket.
+     * @param ascending true for rare, false for top.
+     * @param shardSize number of terms returned by each shard, or null for the default.
+     * @return new action.
+     */
+    public AggPushDownAction pushDownRareTopN(
+        int groupCount, int size, boolean ascending, Integer shardSize) {
+      CompositeAggregationBuilder composite =
+          (CompositeAggregationBuilder) aggregationBuilder.getLeft().getFirst();
+      TermsValuesSourceBuilder termsBucket = rareTopNBucket(groupCount);
+      String countName = composite.getSubAggregations().iterator().next().getName();
+      TermsAggregationBuilder terms =
+          AggregationBuilders.terms(termsBucket.name())
+              .field(termsBucket.field())
+              .size(size)
+              .order(BucketOrder.count(ascending));
+      if (shardSize != null) {
+        terms.shardSize(shardSize);
+      }
+      List<AggregationBuilder> aggregations = new ArrayList<>(List.of(terms));
+      String missingName = null;
+      if (termsBucket.missingBucket()) {
+        missingName = termsBucket.name() + MISSING_SUFFIX;
+        aggregations.add(AggregationBuilders.missing(missingName).field(termsBucket.field()));
+      }
+      if (groupCount > 0) {
+        CompositeAggregationBuilder groups =
+            AggregationBuilders.composite(
+                    "composite_buckets",
+                    new ArrayList<>(composite.sources().subList(0, groupCount)))
+                .size(composite.size());
+        aggregations.forEach(groups::subAggregation);
+        aggregations = List.of(groups);
+      }
+      return new AggPushDownAction(
+          Pair.of(
+              aggregations,
+              new TermsBucketParser(termsBucket.name(), missingName, countName, size, ascending)),
+          extendedTypeMapping);
+    }
+
+    private TermsValuesSourceBuilder rareTopNBucket(int groupCount) {
+      CompositeAggregationBuilder composite =
+          (CompositeAggregationBuilder) aggregationBuilder.getLeft().getFirst();
+      List<CompositeValuesSourceBuilder<?>> buckets = composite.sources();
+      if (buckets.size() != groupCount + 1
+          || composite.getSubAggregations().size() != 1
+          || !(buckets.get(groupCount) instanceof TermsValuesSourceBuilder termsBucket)
+          || termsBucket.field() == null
+          || termsBucket.script() != null) {
+        throw new IllegalStateException("Cannot push down rare/top on the composite aggregation");
+      }
+      return termsBucket;
+    }
+
     public void pushDownSortIntoAggBucket(List<RelFieldCollation> collations) {
       // It will always use a single CompositeAggregationBuilder for the aggregation with GroupBy
       // See {@link AggregateAnalyzer}
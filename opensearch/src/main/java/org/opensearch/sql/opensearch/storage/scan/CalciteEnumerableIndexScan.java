@@ -29,6 +29,7 @@ import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.opensearch.sql.calcite.plan.OpenSearchRules;
 import org.opensearch.sql.calcite.plan.Scannable;
+import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
 
@@ -112,11 +113,18 @@ public class CalciteEnumerableIndexScan extends AbstractCalciteIndexScan
             getFieldPath(),
             requestBuilder.getMaxResponseSize(),
             osIndex.buildRequest(requestBuilder),
-            osIndex.createOpenSearchResourceMonitor());
+            osIndex.createOpenSearchResourceMonitor(),
+            isPrefetchEnabled());
       }
     };
   }
 
+  private boolean isPrefetchEnabled() {
+    Boolean prefetchEnabled =
+        osIndex.getSettings().getSettingValue(Settings.Key.CALCITE_SCAN_PREFETCH_ENABLED);
+    return Boolean.TRUE.equals(prefetchEnabled);
+  }
+
   private List<String> getFieldPath() {
     return getRowType().getFieldNames().stream()
         .map(f -> osIndex.getAliasMapping().getOrDefault(f, f))
@@ -5,7 +5,16 @@
 
 package org.opensearch.sql.opensearch.storage.scan;
 
+import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
+
 import com.google.common.collect.ImmutableList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -21,6 +30,7 @@ import org.apache.calcite.rel.AbstractRelNode;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelCollations;
 import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.core.Aggregate;
 import org.apache.calcite.rel.core.Filter;
 import org.apache.calcite.rel.core.Project;
@@ -30,21 +40,32 @@ import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rel.type.RelDataTypeField;
 import org.apache.calcite.rex.RexBuilder;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.sql.fun.SqlStdOperatorTable;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.composite.CompositeValuesSourceBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
+import org.opensearch.search.aggregations.metrics.TopHitsAggregationBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.sql.calcite.plan.Dedup;
 import org.opensearch.sql.calcite.utils.OpenSearchTypeFactory;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.planner.physical.EnumerableIndexScanRule;
 import org.opensearch.sql.opensearch.planner.physical.OpenSearchIndexRules;
 import org.opensearch.sql.opensearch.request.AggregateAnalyzer;
 import org.opensearch.sql.opensearch.request.PredicateAnalyzer;
 import org.opensearch.sql.opensearch.request.PredicateAnalyzer.QueryExpression;
+import org.opensearch.sql.opensearch.response.agg.CompositeTopHitsParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.response.agg.TopHitsParser;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
 
 /** The logical relational operator representing a scan of an OpenSearchIndex type. */
@@ -52,6 +73,27 @@ import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
 public class CalciteLogicalIndexScan extends AbstractCalciteIndexScan {
   private static final Logger LOG = LogManager.getLogger(CalciteLogicalIndexScan.class);
 
+  /** The default max size of top hits, see index.max_inner_result_window. */
+  private static final int MAX_INNER_RESULT_WINDOW = 100;
+
+  private static final String DEDUP_TOP_HITS = "dedup";
+
+  /** Shard size of the terms aggregation of rare/top, for which every shard returns all terms. */
+  private static final int EXACT_TERMS_SHARD_SIZE = 10000;
+
+  /**
+   * Max number of distinct values of the field of rare/top which are all returned by every shard.
+   * It's half of the shard size since the number is estimated.
+   */
+  private static final int MAX_EXACT_TERMS = EXACT_TERMS_SHARD_SIZE / 2;
+
+  /**
+   * Types of the fields which can be filtered by the exact join keys, i.e. keyword and integral
+   * fields. Text fields are excluded since their keyword sub-field may ignore long values.
+   */
+  private static final List<ExprType> RUNTIME_FILTER_TYPES =
+      List.of(STRING, BYTE, SHORT, INTEGER, LONG);
+
   public CalciteLogicalIndexScan(
       RelOptCluster cluster, RelOptTable table, OpenSearchIndex osIndex) {
     this(
@@ -273,4 +315,206 @@ public class CalciteLogicalIndexScan extends AbstractCalciteIndexScan {
     }
     return null;
   }
+
+  /**
+   * Push down rare/top on the pushed down aggregation which counts the documents of each group of
+   * the group-by fields and the rare/top field. The aggregation is replaced by a terms aggregation
+   * which returns only the most or least frequent terms in each group of the group-by fields. Rare
+   * is pushed down only if the field has few enough values for the doc counts to be exact.
+   *
+   * @param rowNumber the filter of the row number of the terms in each group.
+   * @param groupCount number of the group-by fields.
+   * @param size number of terms of each group.
+   * @param ascending true for rare, false for top.
+   */
+  public CalciteLogicalIndexScan pushDownRareTopN(
+      RelNode rowNumber, int groupCount, int size, boolean ascending) {
+    try {
+      PushDownAction lastAction = pushDownContext.peekLast();
+      if (lastAction == null
+          || lastAction.type() != PushDownType.AGGREGATION
+          || !(lastAction.digest() instanceof Aggregate aggregate)
+          || aggregate.getGroupCount() != groupCount + 1
+          || !isCountStar(aggregate)) {
+        return null;
+      }
+      AggPushDownAction aggAction = (AggPushDownAction) lastAction.action();
+      // Each shard returns only its most or least frequent terms, so the doc counts of a term may
+      // be missing from some shards. The error of the descending order of top is bounded as for any
+      // terms aggregation, but the one of the ascending order of rare is not. If the field has few
+      // values every shard returns all of them, so the counts are exact, and rare isn't pushed down
+      // otherwise.
+      Long distinctCount = osIndex.getDistinctValueCount(aggAction.getRareTopNField(groupCount));
+      boolean exact = distinctCount != null && distinctCount <= MAX_EXACT_TERMS;
+      if (ascending && !exact) {
+        return null;
+      }
+      AggPushDownAction action =
+          aggAction.pushDownRareTopN(
+              groupCount, size, ascending, exact ? EXACT_TERMS_SHARD_SIZE : null);
+      CalciteLogicalIndexScan newScan = this.copyWithNewSchema(getRowType());
+      newScan.pushDownContext.pollLast();
+      newScan.pushDownContext.add(PushDownAction.of(PushDownType.RARE_TOP_N, rowNumber, action));
+      return newScan;
+    } catch (Exception e) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("Cannot pushdown the rare/top {}", rowNumber, e);
+      } else {
+        LOG.info("Cannot pushdown the rare/top {}, ", rowNumber);
+      }
+    }
+    return null;
+  }
+
+  private static boolean isCountStar(Aggregate aggregate) {
+    return aggregate.getAggCallList().size() == 1
+        && aggregate.getAggCallList().stream()
+            .allMatch(
+                call ->
+                    call.getAggregation().kind == SqlKind.COUNT
+                        && call.getArgList().isEmpty()
+                        && !call.isDistinct()
+                        && !call.hasFilter());
+  }
+
+  /**
+   * Push down the dedup which drops the rows with null keys, if every doc has at most one value of
+   * each key which is indexed. The dedup of a single key keeping one row is pushed down as field
+   * collapsing, otherwise it's pushed down as a composite aggregation of the keys with a top hits
+   * aggregation of the allowed duplication. In both cases OpenSearch returns one row for each kept
+   * document. The buckets of the aggregation are paged through with
+   * their after key, so the number of the distinct keys isn't bounded by the bucket size.
+   */
+  public CalciteLogicalIndexScan pushDownDedup(Dedup dedup) {
+    try {
+      List<String> keyFields = dedup.getKeys().stream().map(this::dedupField).toList();
+      // The mapping doesn't tell whether a field is multi-valued. A doc with several values of the
+      // key fails the search of field collapsing and is returned for each of them by the
+      // aggregation, while a doc with a value which isn't indexed, e.g. longer than the
+      // ignore_above of a keyword field, would be dropped as if the key were null.
+      if (!osIndex.hasSingleIndexedValues(keyFields)) {
+        LOG.debug("Cannot pushdown the dedup {} of multi-valued or partially indexed keys", dedup);
+        return null;
+      }
+      int querySizeLimit = getQuerySizeLimit();
+      CalciteLogicalIndexScan newScan = this.copyWithNewSchema(getRowType());
+      AbstractAction action;
+      if (keyFields.size() == 1
+          && dedup.getAllowedDuplication() == 1
+          && querySizeLimit <= osIndex.getMaxResultWindow()) {
+        String field = keyFields.getFirst();
+        action = requestBuilder -> requestBuilder.pushDownCollapse(field);
+      } else {
+        // Top hits are limited by the max inner result window, and they are sorted by the doc
+        // order rather than the sort pushed down before dedup.
+        if (dedup.getAllowedDuplication() > MAX_INNER_RESULT_WINDOW
+            || pushDownContext.stream().anyMatch(a -> a.type() == PushDownType.SORT)) {
+          return null;
+        }
+        final Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregation =
+            dedupAggregation(keyFields, dedup.getAllowedDuplication());
+        action = requestBuilder -> requestBuilder.pushDownAggregation(aggregation);
+      }
+      newScan.pushDownContext.add(PushDownAction.of(PushDownType.DEDUP, dedup, action));
+      return newScan;
+    } catch (Exception e) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("Cannot pushdown the dedup {}", dedup, e);
+      } else {
+        LOG.info("Cannot pushdown the dedup {}, ", dedup);
+      }
+    }
+    return null;
+  }
+
+  /** The field of the dedup key in OpenSearch, which must be a field with doc values. */
+  private String dedupField(int keyIndex) {
+    String fieldName = getRowType().getFieldNames().get(keyIndex);
+    ExprType fieldType = osIndex.getFieldTypes().get(fieldName);
+    if (fieldType == null
+        || List.of(STRUCT, ARRAY)
+            .contains(
+                fieldType.getOriginalExprType() instanceof OpenSearchDataType osType
+                    ? osType.getExprCoreType()
+                    : fieldType.getOriginalExprType())) {
+      throw new IllegalArgumentException("Cannot dedup by the field " + fieldName);
+    }
+    String field = OpenSearchTextType.toKeywordSubField(fieldName, fieldType);
+    if (field == null) {
+      throw new IllegalArgumentException("Cannot dedup by the text field " + fieldName);
+    }
+    return osIndex.getAliasMapping().getOrDefault(field, field);
+  }
+
+  private Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> dedupAggregation(
+      List<String> keyFields, int allowedDuplication) {
+    List<CompositeValuesSourceBuilder<?>> buckets =
+        keyFields.stream()
+            .<CompositeValuesSourceBuilder<?>>map(
+                field -> new TermsValuesSourceBuilder(field).field(field).missingBucket(false))
+            .toList();
+    Map<String, String> aliasMapping = osIndex.getAliasMapping();
+    String[] includes =
+        getRowType().getFieldNames().stream()
+            .filter(fieldName -> !osIndex.getReservedFieldTypes().containsKey(fieldName))
+            .map(fieldName -> aliasMapping.getOrDefault(fieldName, fieldName))
+            .distinct()
+            .toArray(String[]::new);
+    TopHitsAggregationBuilder topHits =
+        AggregationBuilders.topHits(DEDUP_TOP_HITS)
+            .fetchSource(includes, new String[0])
+            .sort(FieldSortBuilder.DOC_FIELD_NAME, SortOrder.ASC)
+            .size(allowedDuplication);
+    return Pair.of(
+        Collections.singletonList(
+            AggregationBuilders.composite("composite_buckets", buckets)
+                .subAggregation(topHits)
+                .size(AggregateAnalyzer.AGGREGATION_BUCKET_SIZE)),
+        new CompositeTopHitsParser(new TopHitsParser(DEDUP_TOP_HITS)));
+  }
+
+  /**
+   * Create the runtime filter of a join key of this scan. A text field is filtered by its keyword
+   * subfield. The keyword field must index every value, i.e. have no ignore_above, or the terms
+   * query would drop the documents with long values which the join matches.
+   *
+   * @param keyIndex index of the join key in the row type.
+   * @return filter, or null if the field of the key cannot be filtered by a terms query.
+   */
+  public JoinRuntimeFilter runtimeFilterOf(int keyIndex) {
+    String fieldName = getRowType().getFieldNames().get(keyIndex);
+    OpenSearchDataType fieldType =
+        OpenSearchDataType.traverseAndFlatten(osIndex.getFieldOpenSearchTypes()).get(fieldName);
+    if (osIndex.getReservedFieldTypes().containsKey(fieldName) || fieldType == null) {
+      return null;
+    }
+    String path = osIndex.getAliasMapping().getOrDefault(fieldName, fieldName);
+    ExprType originalType = fieldType.getOriginalExprType();
+    if (originalType instanceof OpenSearchTextType textType) {
+      return textType.getFields().entrySet().stream()
+          .filter(e -> e.getValue().getMappingType() == OpenSearchDataType.MappingType.Keyword)
+          .findFirst()
+          .filter(e -> e.getValue().getIgnoreAbove() == null)
+          .map(e -> JoinRuntimeFilter.of(getCluster(), path + "." + e.getKey()))
+          .orElse(null);
+    }
+    if (!(originalType instanceof OpenSearchDataType osType)
+        || !RUNTIME_FILTER_TYPES.contains(osType.getExprType())
+        || osType.getIgnoreAbove() != null) {
+      return null;
+    }
+    return JoinRuntimeFilter.of(getCluster(), path);
+  }
+
+  /**
+   * Push down the runtime filter of a join, whose keys are set by the join at run time.
+   *
+   * @param filter runtime filter created by {@link #runtimeFilterOf(int)}.
+   */
+  public CalciteLogicalIndexScan pushDownRuntimeFilter(JoinRuntimeFilter filter) {
+    CalciteLogicalIndexScan newScan = this.copyWithNewSchema(getRowType());
+    newScan.pushDownContext.add(
+        PushDownAction.of(PushDownType.RUNTIME_FILTER, filter, filter::apply));
+    return newScan;
+  }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.NumberUtil;
+
+/**
+ * Metadata handler of the number of distinct values of the columns of an index scan, which are
+ * estimated from the index statistics. Calcite looks the handler up from the table of the scan, so
+ * the row count of an aggregate, and the costs of the joins and limits above it, are based on the
+ * cardinality of the fields grouped by rather than a fixed guess.
+ */
+public class IndexScanDistinctRowCount implements BuiltInMetadata.DistinctRowCount.Handler {
+
+  public static final IndexScanDistinctRowCount INSTANCE = new IndexScanDistinctRowCount();
+
+  private IndexScanDistinctRowCount() {}
+
+  @Override
+  public Double getDistinctRowCount(
+      RelNode rel, RelMetadataQuery mq, ImmutableBitSet groupKey, RexNode predicate) {
+    if (rel instanceof AbstractCalciteIndexScan scan) {
+      Double distinctRowCount = scan.estimateDistinctRowCount(mq, groupKey, predicate);
+      if (distinctRowCount != null) {
+        return distinctRowCount;
+      }
+    }
+    // Same as the default of Calcite for the relational expressions without statistics.
+    if (RelMdUtil.areColumnsDefinitelyUnique(mq, rel, groupKey)) {
+      return NumberUtil.multiply(mq.getRowCount(rel), mq.getSelectivity(rel, predicate));
+    }
+    return null;
+  }
+}
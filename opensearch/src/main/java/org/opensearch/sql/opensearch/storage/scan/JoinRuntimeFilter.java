@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import org.apache.calcite.plan.RelOptCluster;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+
+/**
+ * Filter of the probe side scan of a join by the keys of the build side, which are collected at run
+ * time right before the probe side is scanned. It's a semi-join reduction: the documents whose key
+ * doesn't match any key of the build side are skipped by OpenSearch. The filter does nothing while
+ * no keys are set, e.g. if the build side has too many rows, so the scan is correct either way.
+ */
+public class JoinRuntimeFilter {
+
+  /** Last ordinal of the filters of each plan, which is dropped with the plan. */
+  private static final Map<RelOptCluster, AtomicInteger> LAST_ORDINALS =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  /** Field of the key in OpenSearch. */
+  @Getter private final String field;
+
+  /** Ordinal which tells apart the filters of the same field in a plan. */
+  private final int ordinal;
+
+  /** Keys of the build side, or null if they are not set. */
+  @Getter private volatile Collection<Object> keys;
+
+  public JoinRuntimeFilter(String field, int ordinal) {
+    this.field = field;
+    this.ordinal = ordinal;
+  }
+
+  /**
+   * Create a filter with the next ordinal of the plan, so the explain of a plan doesn't depend on
+   * the queries planned before.
+   *
+   * @param cluster cluster of the plan.
+   * @param field field of the key in OpenSearch.
+   * @return filter.
+   */
+  public static JoinRuntimeFilter of(RelOptCluster cluster, String field) {
+    int ordinal =
+        LAST_ORDINALS.computeIfAbsent(cluster, c -> new AtomicInteger()).incrementAndGet();
+    return new JoinRuntimeFilter(field, ordinal);
+  }
+
+  /**
+   * Set the keys of the build side for the next scan.
+   *
+   * @param keys distinct non-null keys, or null to scan without the filter.
+   */
+  public void setKeys(Collection<Object> keys) {
+    this.keys = keys;
+  }
+
+  /** Add the terms query of the keys to the request, if the keys are set. */
+  public void apply(OpenSearchRequestBuilder requestBuilder) {
+    Collection<Object> current = keys;
+    if (current != null) {
+      requestBuilder.pushDownFilter(QueryBuilders.termsQuery(field, current));
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "terms(" + field + ")#" + ordinal;
+  }
+}
@@ -8,9 +8,12 @@ package org.opensearch.sql.opensearch.storage.scan;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.apache.calcite.linq4j.Enumerator;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.exception.NonFallbackCalciteException;
@@ -25,6 +28,14 @@ import org.opensearch.sql.opensearch.response.OpenSearchResponse;
  * <p>Analogous to LINQ's System.Collections.Enumerator. Unlike LINQ, if the underlying collection
  * has been modified it is only optional that an implementation of the Enumerator interface detects
  * it and throws a {@link java.util.ConcurrentModificationException}.
+ *
+ * <p>When prefetch is enabled, the request of the next batch is issued as soon as the current batch
+ * arrives, so that the search latency of the next batch overlaps with the consumption of the
+ * current one. This is a read-ahead of one batch, not a non-blocking scan: the consumer still
+ * waits for the next batch if it reaches it before the response arrives, and the first batch is
+ * searched synchronously. At most one batch is prefetched, and only while the {@link
+ * ResourceMonitor} is healthy. Requests of the same enumerator never run concurrently, so {@link
+ * #reset()} and {@link #close()} wait for the prefetched batch to arrive.
  */
 public class OpenSearchIndexEnumerator implements Enumerator<Object> {
 
@@ -53,17 +64,34 @@ public class OpenSearchIndexEnumerator implements Enumerator<Object> {
 
   private ExprValue current;
 
+  /** Whether to prefetch the next batch while the current one is consumed. */
+  private final boolean prefetch;
+
+  /** The next batch being prefetched, null if there is none. */
+  private CompletableFuture<OpenSearchResponse> nextBatch;
+
   public OpenSearchIndexEnumerator(
       OpenSearchClient client,
       List<String> fields,
       int maxResponseSize,
       OpenSearchRequest request,
       ResourceMonitor monitor) {
+    this(client, fields, maxResponseSize, request, monitor, false);
+  }
+
+  public OpenSearchIndexEnumerator(
+      OpenSearchClient client,
+      List<String> fields,
+      int maxResponseSize,
+      OpenSearchRequest request,
+      ResourceMonitor monitor,
+      boolean prefetch) {
     this.client = client;
     this.fields = fields;
     this.request = request;
     this.maxResponseSize = maxResponseSize;
     this.monitor = monitor;
+    this.prefetch = prefetch;
     this.queryCount = 0;
     this.current = null;
     if (!this.monitor.isHealthy()) {
@@ -72,14 +100,67 @@ public class OpenSearchIndexEnumerator implements Enumerator<Object> {
   }
 
   private void fetchNextBatch() {
-    OpenSearchResponse response = client.search(request);
-    if (!response.isEmpty()) {
+    OpenSearchResponse response = nextBatch != null ? awaitNextBatch() : client.search(request);
+    if (response != null && !response.isEmpty()) {
       iterator = response.iterator();
+      prefetchNextBatch();
     } else if (iterator == null) {
       iterator = Collections.emptyIterator();
     }
   }
 
+  /** Issue the request of the next batch without waiting for it if there may be another batch. */
+  private void prefetchNextBatch() {
+    if (!prefetch
+        || queryCount >= maxResponseSize
+        || !request.hasAnotherBatch()
+        || !monitor.isHealthy()) {
+      return;
+    }
+    CompletableFuture<OpenSearchResponse> future = new CompletableFuture<>();
+    nextBatch = future;
+    try {
+      client.searchAsync(
+          request, ActionListener.wrap(future::complete, future::completeExceptionally));
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+  }
+
+  private OpenSearchResponse awaitNextBatch() {
+    CompletableFuture<OpenSearchResponse> future = nextBatch;
+    nextBatch = null;
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new NonFallbackCalciteException("interrupted while fetching next batch, quit.");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Failed to fetch next batch", e.getCause());
+    }
+  }
+
+  /**
+   * Discard the batch being prefetched. An in-flight search can't be cancelled, so wait for it to
+   * finish before the request is searched or cleaned up again.
+   */
+  private void discardNextBatch() {
+    if (nextBatch != null) {
+      CompletableFuture<OpenSearchResponse> future = nextBatch;
+      nextBatch = null;
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (ExecutionException e) {
+        // the discarded batch has no consumer of its failure
+      }
+    }
+  }
+
   @Override
   public Object current() {
     /* In Calcite enumerable operators, row of single column will be optimized to a scalar value.
@@ -120,12 +201,14 @@ public class OpenSearchIndexEnumerator implements Enumerator<Object> {
 
   @Override
   public void reset() {
+    discardNextBatch();
     iterator = Collections.emptyIterator();
     queryCount = 0;
   }
 
   @Override
   public void close() {
+    // Wait for an in-flight prefetch to finish before releasing the PIT of the request.
     reset();
     client.cleanup(request);
   }
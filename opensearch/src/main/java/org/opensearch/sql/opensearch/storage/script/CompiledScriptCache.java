@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.opensearch.script.ScriptContext;
+import org.opensearch.sql.utils.CacheUtils;
+
+/**
+ * Node level cache of compiled script factories. Compiling a script deserializes the expression
+ * and, for Calcite scripts, generates and compiles Java code, which is repeated for every shard of
+ * every query using the same pushed down script. The cache is keyed by the script context and a
+ * SHA-256 digest of the script code, so large scripts are not retained as keys. Entries are evicted
+ * by size and by time since last access. Factories are stateless and can be shared between shards.
+ */
+public class CompiledScriptCache {
+
+  public static final long DEFAULT_MAX_SIZE = 1000;
+
+  public static final Duration DEFAULT_EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+
+  private final Cache<String, Object> cache;
+
+  public CompiledScriptCache() {
+    this(DEFAULT_MAX_SIZE, DEFAULT_EXPIRE_AFTER_ACCESS);
+  }
+
+  /**
+   * Constructor of {@link CompiledScriptCache}.
+   *
+   * @param maxSize maximum number of compiled scripts, 0 disables the cache.
+   * @param expireAfterAccess expire entries not accessed within the duration.
+   */
+  public CompiledScriptCache(long maxSize, Duration expireAfterAccess) {
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterAccess(expireAfterAccess)
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * Get the compiled factory of the script, compiling and caching it on miss.
+   *
+   * @param scriptCode script code.
+   * @param context script context.
+   * @param compiler compiles the script on cache miss.
+   * @return compiled script factory.
+   */
+  public <T> T get(String scriptCode, ScriptContext<T> context, Supplier<T> compiler) {
+    String key = context.name + ":" + digest(scriptCode);
+    return context.factoryClazz.cast(
+        CacheUtils.get(cache, key, compiler::get, "Failed to compile script"));
+  }
+
+  /** Hit, miss and eviction statistics of the cache. */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  /** Number of compiled scripts in the cache. */
+  public long size() {
+    return cache.size();
+  }
+
+  /** Remove all the compiled scripts. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private static String digest(String scriptCode) {
+    return Hashing.sha256().hashString(scriptCode, StandardCharsets.UTF_8).toString();
+  }
+}
@@ -9,7 +9,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import java.util.Map;
 import java.util.Set;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.volcano.VolcanoPlanner;
 import org.apache.calcite.rex.RexBuilder;
@@ -26,7 +26,6 @@ import org.opensearch.sql.opensearch.storage.serde.SerializationWrapper.LangScri
  * Custom expression script engine that supports using core engine expression code in DSL as a new
  * script language just like built-in Painless language.
  */
-@RequiredArgsConstructor
 public class CompoundedScriptEngine implements ScriptEngine {
 
   /** Expression script language name. */
@@ -37,10 +36,18 @@ public class CompoundedScriptEngine implements ScriptEngine {
 
   private final CalciteScriptEngine calciteScriptEngine;
 
+  /** Compiled script factories shared by all the shards and queries on this node. */
+  @Getter private final CompiledScriptCache scriptCache;
+
   public CompoundedScriptEngine() {
+    this(new CompiledScriptCache());
+  }
+
+  public CompoundedScriptEngine(CompiledScriptCache scriptCache) {
     RexBuilder rexBuilder = new RexBuilder(OpenSearchTypeFactory.TYPE_FACTORY);
     RelOptCluster cluster = RelOptCluster.create(new VolcanoPlanner(), rexBuilder);
     this.calciteScriptEngine = new CalciteScriptEngine(cluster);
+    this.scriptCache = scriptCache;
   }
 
   @Override
@@ -51,11 +58,18 @@ public class CompoundedScriptEngine implements ScriptEngine {
   @Override
   public <T> T compile(
       String scriptName, String scriptCode, ScriptContext<T> context, Map<String, String> options) {
-    LangScriptWrapper unwrapped = SerializationWrapper.unwrapLangType(scriptCode);
-    return switch (unwrapped.langType) {
-      case CALCITE -> calciteScriptEngine.compile(scriptName, unwrapped.script, context, options);
-      case V2 -> v2ExpressionScriptEngine.compile(scriptName, unwrapped.script, context, options);
-    };
+    return scriptCache.get(
+        scriptCode,
+        context,
+        () -> {
+          LangScriptWrapper unwrapped = SerializationWrapper.unwrapLangType(scriptCode);
+          return switch (unwrapped.langType) {
+            case CALCITE ->
+                calciteScriptEngine.compile(scriptName, unwrapped.script, context, options);
+            case V2 ->
+                v2ExpressionScriptEngine.compile(scriptName, unwrapped.script, context, options);
+          };
+        });
   }
 
   @Override
@@ -12,8 +12,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -26,6 +28,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.io.Resources;
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -58,6 +61,7 @@ import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -78,6 +82,7 @@ import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics;
 import org.opensearch.transport.client.node.NodeClient;
 
 @ExtendWith(MockitoExtension.class)
@@ -285,6 +290,52 @@ class OpenSearchNodeClientTest {
     assertThrows(IllegalStateException.class, () -> client.getIndexMaxResultWindows(indexName));
   }
 
+  @Test
+  void get_index_statistics() {
+    when(nodeClient
+            .admin()
+            .indices()
+            .prepareStats("test")
+            .clear()
+            .setDocs(true)
+            .get(IndexStatistics.TIMEOUT)
+            .getPrimaries()
+            .getDocs()
+            .getCount())
+        .thenReturn(10L);
+    SearchResponse searchResponse = mock(SearchResponse.class);
+    when(nodeClient.search(any()).actionGet(IndexStatistics.TIMEOUT)).thenReturn(searchResponse);
+
+    IndexStatistics statistics =
+        client.getIndexStatistics(new OpenSearchRequest.IndexName("test"), List.of(), List.of());
+    assertEquals(10L, statistics.getDocCount());
+    assertTrue(statistics.getFields().isEmpty());
+  }
+
+  @Test
+  void get_index_statistics_timed_out() {
+    SearchResponse searchResponse = mock(SearchResponse.class);
+    when(searchResponse.isTimedOut()).thenReturn(true);
+    when(nodeClient.search(any()).actionGet(IndexStatistics.TIMEOUT)).thenReturn(searchResponse);
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            client.getIndexStatistics(
+                new OpenSearchRequest.IndexName("test"), List.of(), List.of()));
+  }
+
+  @Test
+  void get_index_statistics_with_exception() {
+    when(nodeClient.search(any())).thenThrow(RuntimeException.class);
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            client.getIndexStatistics(
+                new OpenSearchRequest.IndexName("test"), List.of(), List.of()));
+  }
+
   /** Jacoco enforce this constant lambda be tested. */
   @Test
   void test_all_fields_predicate() {
@@ -331,6 +382,41 @@ class OpenSearchNodeClientTest {
     assertTrue(response2.isEmpty());
   }
 
+  @Test
+  void search_async() {
+    SearchResponse searchResponse = mock(SearchResponse.class);
+    when(searchResponse.getScrollId()).thenReturn("scroll123");
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit}, new TotalHits(1L, TotalHits.Relation.EQUAL_TO), 1.0F));
+    when(searchHit.getSourceAsString()).thenReturn("{\"id\", 1}");
+    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleValue);
+    doAnswer(
+            invocation -> {
+              ActionListener<SearchResponse> listener = invocation.getArgument(1);
+              listener.onResponse(searchResponse);
+              return null;
+            })
+        .when(nodeClient)
+        .search(any(SearchRequest.class), any());
+
+    OpenSearchScrollRequest request =
+        new OpenSearchScrollRequest(
+            new OpenSearchRequest.IndexName("test"),
+            TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder(),
+            factory,
+            List.of("id"));
+    List<OpenSearchResponse> responses = new ArrayList<>();
+    client.searchAsync(request, ActionListener.wrap(responses::add, e -> fail(e)));
+
+    assertEquals(1, responses.size());
+    assertFalse(responses.get(0).isEmpty());
+    assertEquals("scroll123", request.getScrollId());
+    verify(nodeClient, never()).search(any(SearchRequest.class));
+  }
+
   @Test
   void schedule() {
     AtomicBoolean isRun = new AtomicBoolean(false);
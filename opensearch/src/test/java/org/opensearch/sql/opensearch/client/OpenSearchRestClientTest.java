@@ -77,6 +77,7 @@ import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -281,6 +282,28 @@ class OpenSearchRestClientTest {
     assertThrows(IllegalStateException.class, () -> client.getIndexMaxResultWindows("test"));
   }
 
+  @Test
+  void get_index_statistics() throws IOException {
+    when(restClient.count(any(), any()).getCount()).thenReturn(10L);
+    SearchResponse searchResponse = mock(SearchResponse.class);
+    when(restClient.search(any(), any())).thenReturn(searchResponse);
+
+    IndexStatistics statistics =
+        client.getIndexStatistics(new OpenSearchRequest.IndexName("test"), List.of(), List.of());
+    assertEquals(10L, statistics.getDocCount());
+    assertTrue(statistics.getFields().isEmpty());
+  }
+
+  @Test
+  void get_index_statistics_with_IOException() throws IOException {
+    when(restClient.search(any(), any())).thenThrow(new IOException());
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            client.getIndexStatistics(
+                new OpenSearchRequest.IndexName("test"), List.of(), List.of()));
+  }
+
   @Test
   void search() throws IOException {
     // Mock first scroll request
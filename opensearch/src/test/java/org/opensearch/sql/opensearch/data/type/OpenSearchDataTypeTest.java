@@ -244,6 +244,22 @@ class OpenSearchDataTypeTest {
                         .put("words", OpenSearchDataType.of(MappingType.Keyword))));
   }
 
+  @Test
+  public void keyword_with_ignore_above() {
+    var keyword = OpenSearchDataType.of(MappingType.Keyword);
+    var keywordIgnoringLongValues =
+        OpenSearchDataType.of(MappingType.Keyword, Map.of("ignore_above", 256));
+    var flattened =
+        OpenSearchDataType.traverseAndFlatten(Map.of("name", keywordIgnoringLongValues));
+
+    assertAll(
+        () -> assertNull(keyword.getIgnoreAbove()),
+        () -> assertEquals(256, keywordIgnoringLongValues.getIgnoreAbove()),
+        () -> assertNotSame(keyword, keywordIgnoringLongValues),
+        () -> assertEquals(keyword, keywordIgnoringLongValues),
+        () -> assertEquals(256, flattened.get("name").getIgnoreAbove()));
+  }
+
   @Test
   // Test and type added for coverage only
   public void of_null_MappingType() {
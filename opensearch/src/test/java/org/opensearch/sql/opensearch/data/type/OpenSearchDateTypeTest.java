@@ -299,6 +299,36 @@ class OpenSearchDateTypeTest {
     assertFalse(dateType.hasNoFormatter());
   }
 
+  @Test
+  void test_parse_with_formats_in_declared_order() {
+    OpenSearchDateType dateType =
+        OpenSearchDateType.of("strict_date_time_no_millis || yyyy/MM/dd'T'HH:mm:ssX");
+    ZonedDateTime expected = ZonedDateTime.parse("2021-11-08T17:00:00Z");
+
+    for (String timestamp :
+        List.of("2021/11/08T17:00:00Z", "2021/11/08T17:00:00Z", "2021-11-08T17:00:00Z")) {
+      assertEquals(expected.toInstant(), dateType.parseWithFormatters(timestamp).toInstant());
+    }
+    assertNull(dateType.parseWithFormatters("invalid-timestamp"));
+    assertNull(OpenSearchDateType.of(TIMESTAMP).parseWithFormatters("2021-11-08T17:00:00Z"));
+
+    OpenSearchDateType dayFirst = OpenSearchDateType.of("dd/MM/yyyy||MM/dd/yyyy");
+    assertEquals(
+        LocalDate.parse("2020-01-13"), dayFirst.parseWithFormatters("01/13/2020").toLocalDate());
+    assertEquals(
+        LocalDate.parse("2020-03-02"), dayFirst.parseWithFormatters("02/03/2020").toLocalDate());
+  }
+
+  @Test
+  void test_numeric_formats() {
+    assertTrue(OpenSearchDateType.of(TIMESTAMP).isNumericFormat());
+    assertFalse(OpenSearchDateType.of(TIMESTAMP).isEpochSecondFormat());
+    assertTrue(OpenSearchDateType.of("date || epoch_second").isNumericFormat());
+    assertTrue(OpenSearchDateType.of("date || epoch_second").isEpochSecondFormat());
+    assertFalse(OpenSearchDateType.of("epoch_millis").isEpochSecondFormat());
+    assertFalse(OpenSearchDateType.of("yyyy/MM/dd").isNumericFormat());
+  }
+
   @Test
   void test_openSearch_datetime_named_formatter() {
     String timestamp = "2019-03-23T21:34:46";
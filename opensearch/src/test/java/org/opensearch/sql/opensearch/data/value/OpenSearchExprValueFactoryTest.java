@@ -49,6 +49,7 @@ import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.junit.jupiter.api.Test;
 import org.opensearch.OpenSearchParseException;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.geometry.utils.Geohash;
 import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprDateValue;
@@ -62,6 +63,7 @@ import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDateType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.utils.OpenSearchJsonContent;
+import org.opensearch.sql.opensearch.data.utils.SourceIncludes;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory.JsonPath;
 
 class OpenSearchExprValueFactoryTest {
@@ -1041,6 +1043,55 @@ class OpenSearchExprValueFactoryTest {
     assertEquals(expectedValue, tupleValue);
   }
 
+  @Test
+  public void constructFromSourceBytes() {
+    String source =
+        "{\"intV\":1,\"stringV\":\"text\",\"structV\":{\"id\":2,\"state\":\"WA\"},"
+            + "\"arrayV\":[{\"info\":\"a\",\"author\":\"b\"}]}";
+    BytesArray bytes = new BytesArray(source);
+
+    assertTrue(OpenSearchExprValueFactory.isJsonObject(bytes));
+    assertEquals(
+        exprValueFactory.construct(source, false),
+        exprValueFactory.construct(bytes, SourceIncludes.ALL, false));
+    assertFalse(OpenSearchExprValueFactory.isJsonObject(new BytesArray(new byte[] {(byte) 0xd9})));
+  }
+
+  @Test
+  public void constructFromSourceBytesSkipsFieldsNotFetchedOrMapped() {
+    BytesArray bytes =
+        new BytesArray(
+            "{\"intV\":1,\"stringV\":\"text\",\"unmappedV\":{\"a\":[1,{\"b\":2}]},"
+                + "\"structV\":{\"id\":2,\"state\":\"WA\"},"
+                + "\"arrayV\":[{\"info\":\"a\",\"author\":\"b\"}]}");
+
+    assertEquals(
+        tupleValue(
+            "{\"intV\":1,\"stringV\":\"text\",\"structV\":{\"id\":2,\"state\":\"WA\"},"
+                + "\"arrayV\":[{\"info\":\"a\",\"author\":\"b\"}]}"),
+        exprValueFactory.construct(bytes, SourceIncludes.ALL, false).tupleValue());
+    assertEquals(
+        Map.of(
+            "intV",
+            integerValue(1),
+            "structV",
+            ExprTupleValue.fromExprValueMap(Map.of("state", stringValue("WA")))),
+        exprValueFactory
+            .construct(bytes, SourceIncludes.of(List.of("intV", "structV.state")), false)
+            .tupleValue());
+    assertEquals(
+        tupleValue("{\"structV\":{\"id\":2,\"state\":\"WA\"}}"),
+        exprValueFactory
+            .construct(bytes, SourceIncludes.of(List.of("structV", "_id")), false)
+            .tupleValue());
+    assertEquals(
+        Map.of(),
+        exprValueFactory.construct(bytes, SourceIncludes.of(List.of("_id")), false).tupleValue());
+    assertEquals(
+        exprValueFactory.construct(bytes, SourceIncludes.ALL, false),
+        exprValueFactory.construct(bytes, SourceIncludes.of(List.of("*")), false));
+  }
+
   public Map<String, ExprValue> tupleValue(String jsonString) {
     final ExprValue construct = exprValueFactory.construct(jsonString, false);
     return construct.tupleValue();
@@ -9,11 +9,14 @@ import static com.google.common.collect.ImmutableMap.of;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.common.setting.Settings.Key.SQL_CURSOR_KEEP_ALIVE;
@@ -22,6 +25,11 @@ import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -29,14 +37,20 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.sql.type.SqlTypeName;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sql.calcite.CalcitePlanContext;
+import org.opensearch.sql.calcite.utils.CalciteToolsHelper.OpenSearchRelRunners;
+import org.opensearch.sql.calcite.utils.OpenSearchTypeFactory;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprValue;
@@ -168,6 +182,104 @@ class OpenSearchExecutionEngineTest {
     verify(plan).close();
   }
 
+  @Test
+  void execute_calcite_plan_successfully() throws SQLException {
+    ResultSet resultSet = mockResultSet();
+    when(resultSet.next()).thenReturn(true, true, false);
+    when(resultSet.getObject(1)).thenReturn("John", "Allen");
+    when(resultSet.getString(1)).thenReturn("John", "Allen");
+    when(resultSet.getObject(2)).thenReturn(20, 30);
+    when(resultSet.getInt(2)).thenReturn(20, 30);
+
+    List<ExprValue> actual = new ArrayList<>();
+    executeCalcitePlan(
+        resultSet,
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(QueryResponse response) {
+            actual.addAll(response.getResults());
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    assertEquals(
+        List.of(
+            tupleValue(of("name", "John", "age", 20)), tupleValue(of("name", "Allen", "age", 30))),
+        actual);
+    verify(resultSet, times(3)).next();
+  }
+
+  @Test
+  void execute_calcite_plan_with_failure_reading_result_set() throws SQLException {
+    ResultSet resultSet = mockResultSet();
+    SQLException expected = new SQLException("Execution error");
+    when(resultSet.next()).thenReturn(true).thenThrow(expected);
+    when(resultSet.getObject(1)).thenReturn("John");
+    when(resultSet.getString(1)).thenReturn("John");
+    when(resultSet.getObject(2)).thenReturn(20);
+    when(resultSet.getInt(2)).thenReturn(20);
+
+    // The failure is raised before responding, QueryService reports it by onFailure.
+    RuntimeException actual =
+        assertThrows(
+            RuntimeException.class,
+            () ->
+                executeCalcitePlan(
+                    resultSet,
+                    new ResponseListener<>() {
+                      @Override
+                      public void onResponse(QueryResponse response) {
+                        fail("Expected error didn't happen");
+                      }
+
+                      @Override
+                      public void onFailure(Exception e) {
+                        fail("Failure should be raised to QueryService", e);
+                      }
+                    }));
+    assertEquals(expected, actual.getCause());
+  }
+
+  private ResultSet mockResultSet() throws SQLException {
+    ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+    when(metaData.getColumnCount()).thenReturn(2);
+    when(metaData.getColumnName(1)).thenReturn("name");
+    when(metaData.getColumnType(1)).thenReturn(Types.VARCHAR);
+    when(metaData.getColumnName(2)).thenReturn("age");
+    when(metaData.getColumnType(2)).thenReturn(Types.INTEGER);
+    ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.getMetaData()).thenReturn(metaData);
+    return resultSet;
+  }
+
+  private void executeCalcitePlan(ResultSet resultSet, ResponseListener<QueryResponse> listener)
+      throws SQLException {
+    OpenSearchTypeFactory typeFactory = OpenSearchTypeFactory.TYPE_FACTORY;
+    RelNode rel = mock(RelNode.class);
+    when(rel.getRowType())
+        .thenReturn(
+            typeFactory
+                .builder()
+                .add("name", SqlTypeName.VARCHAR)
+                .add("age", SqlTypeName.INTEGER)
+                .build());
+    PreparedStatement statement = mock(PreparedStatement.class);
+    when(statement.executeQuery()).thenReturn(resultSet);
+    CalcitePlanContext context = mock(CalcitePlanContext.class);
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    try (MockedStatic<OpenSearchRelRunners> runners = mockStatic(OpenSearchRelRunners.class)) {
+      runners.when(() -> OpenSearchRelRunners.run(context, rel)).thenReturn(statement);
+      executor.execute(rel, context, listener);
+    }
+    verify(statement).close();
+  }
+
   @Test
   void explain_successfully() {
     OpenSearchExecutionEngine executor =
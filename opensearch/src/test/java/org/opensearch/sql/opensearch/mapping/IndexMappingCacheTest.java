@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class IndexMappingCacheTest {
+
+  @AfterEach
+  void cleanUp() {
+    IndexMappingCache.invalidateAll();
+  }
+
+  @Test
+  void indices_with_same_mapping_share_parsed_mapping() {
+    IndexMapping mapping = IndexMappingCache.get(mapping(Map.of("name", Map.of("type", "text"))));
+
+    assertSame(mapping, IndexMappingCache.get(mapping(Map.of("name", Map.of("type", "text")))));
+    assertNotSame(
+        mapping, IndexMappingCache.get(mapping(Map.of("name", Map.of("type", "keyword")))));
+  }
+
+  @Test
+  void merge_does_not_modify_cached_mappings() {
+    IndexMapping first =
+        IndexMappingCache.get(
+            mapping(Map.of("obj", Map.of("properties", Map.of("a", Map.of("type", "long"))))));
+    IndexMapping second =
+        IndexMappingCache.get(
+            mapping(Map.of("obj", Map.of("properties", Map.of("b", Map.of("type", "long"))))));
+
+    Map<String, OpenSearchDataType> merged =
+        IndexMappingCache.mergeFieldMappings(List.of(first, second, first));
+
+    assertEquals(2, merged.get("obj").getProperties().size());
+    assertEquals(1, first.getFieldMappings().get("obj").getProperties().size());
+    assertEquals(1, second.getFieldMappings().get("obj").getProperties().size());
+    assertEquals(merged, IndexMappingCache.mergeFieldMappings(List.of(first, second)));
+    assertEquals(
+        first.getFieldMappings(), IndexMappingCache.mergeFieldMappings(List.of(first, first)));
+  }
+
+  private static MappingMetadata mapping(Map<String, ?> properties) {
+    return new MappingMetadata("_doc", Map.<String, Object>of("properties", properties));
+  }
+}
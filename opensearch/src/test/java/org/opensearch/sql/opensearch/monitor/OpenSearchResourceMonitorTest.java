@@ -5,20 +5,24 @@
 
 package org.opensearch.sql.opensearch.monitor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.exception.MemoryLimitExceededException;
+import org.opensearch.sql.monitor.MemoryBreaker;
+import org.opensearch.sql.monitor.QueryMemoryAccount;
 
 @ExtendWith(MockitoExtension.class)
 class OpenSearchResourceMonitorTest {
@@ -27,53 +31,94 @@ class OpenSearchResourceMonitorTest {
 
   @Mock private OpenSearchMemoryHealthy memoryMonitor;
 
-  @BeforeEach
-  public void setup() {
-    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
-        .thenReturn(new ByteSizeValue(10L));
-  }
+  private final MemoryBreaker breaker = new MemoryBreaker(Long.MAX_VALUE);
 
   @Test
   void isHealthy() {
+    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(10L));
     when(memoryMonitor.isMemoryHealthy(anyLong())).thenReturn(true);
 
     OpenSearchResourceMonitor resourceMonitor =
-        new OpenSearchResourceMonitor(settings, memoryMonitor);
+        new OpenSearchResourceMonitor(settings, memoryMonitor, breaker);
     assertTrue(resourceMonitor.isHealthy());
+    assertEquals(10L, breaker.getLimit());
+  }
+
+  @Test
+  void notHealthyIfLimitLoweredBelowReservedMemory() {
+    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(10L));
+    breaker.reserve(20L);
+
+    OpenSearchResourceMonitor resourceMonitor =
+        new OpenSearchResourceMonitor(settings, memoryMonitor, breaker);
+    assertFalse(resourceMonitor.isHealthy());
   }
 
   @Test
   void notHealthyFastFailure() {
+    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(10L));
     when(memoryMonitor.isMemoryHealthy(anyLong()))
         .thenThrow(OpenSearchMemoryHealthy.MemoryUsageExceedFastFailureException.class);
 
     OpenSearchResourceMonitor resourceMonitor =
-        new OpenSearchResourceMonitor(settings, memoryMonitor);
+        new OpenSearchResourceMonitor(settings, memoryMonitor, breaker);
     assertFalse(resourceMonitor.isHealthy());
     verify(memoryMonitor, times(1)).isMemoryHealthy(anyLong());
   }
 
   @Test
   void notHealthyWithRetry() {
+    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(10L));
     when(memoryMonitor.isMemoryHealthy(anyLong()))
         .thenThrow(OpenSearchMemoryHealthy.MemoryUsageExceedException.class);
 
     OpenSearchResourceMonitor resourceMonitor =
-        new OpenSearchResourceMonitor(settings, memoryMonitor);
+        new OpenSearchResourceMonitor(settings, memoryMonitor, breaker);
     assertFalse(resourceMonitor.isHealthy());
     verify(memoryMonitor, times(3)).isMemoryHealthy(anyLong());
   }
 
   @Test
   void healthyWithRetry() {
-
+    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(10L));
     when(memoryMonitor.isMemoryHealthy(anyLong()))
         .thenThrow(OpenSearchMemoryHealthy.MemoryUsageExceedException.class)
         .thenReturn(true);
 
     OpenSearchResourceMonitor resourceMonitor =
-        new OpenSearchResourceMonitor(settings, memoryMonitor);
+        new OpenSearchResourceMonitor(settings, memoryMonitor, breaker);
     assertTrue(resourceMonitor.isHealthy());
     verify(memoryMonitor, times(2)).isMemoryHealthy(anyLong());
   }
+
+  @Test
+  void healthyWithoutLimit() {
+    breaker.reserve(20L);
+
+    OpenSearchResourceMonitor resourceMonitor =
+        new OpenSearchResourceMonitor(settings, memoryMonitor, breaker);
+    assertTrue(resourceMonitor.isHealthy());
+  }
+
+  @Test
+  void memoryAccountLimitedByBudget() {
+    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(100L));
+    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_BUDGET))
+        .thenReturn(new ByteSizeValue(10L));
+
+    OpenSearchResourceMonitor resourceMonitor =
+        new OpenSearchResourceMonitor(settings, memoryMonitor, breaker);
+    try (QueryMemoryAccount account = resourceMonitor.openMemoryAccount()) {
+      account.reserve(10L);
+      assertEquals(10L, breaker.getUsed());
+      assertThrows(MemoryLimitExceededException.class, () -> account.reserve(1L));
+    }
+    assertEquals(0L, breaker.getUsed());
+  }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.planner.physical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.function.Function2;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.junit.jupiter.api.Test;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.storage.scan.JoinRuntimeFilter;
+
+class EnumerableAdaptiveHashJoinTest {
+
+  private static final Function1<Object, Object> KEY = row -> row;
+
+  private static final Function2<Object, Object, Object> PAIR = (l, r) -> l + ":" + r;
+
+  private final JoinRuntimeFilter filter = new JoinRuntimeFilter("id", 1);
+
+  @Test
+  void push_keys_of_small_build_side_to_probe_side() {
+    List<Object> probed = new ArrayList<>();
+    Enumerable<Object> probe = probeSide(Arrays.asList("a", "b", "c", null), probed);
+    Enumerable<Object> build = Linq4j.asEnumerable(Arrays.asList("b", "a", "b", null));
+
+    assertEquals(
+        List.of("a:a", "b:b", "b:b"),
+        sorted(join(probe, build, JoinRelType.INNER, true, 10).toList()));
+    assertEquals(List.of("filtered"), probed);
+
+    OpenSearchRequestBuilder requestBuilder = mock(OpenSearchRequestBuilder.class);
+    filter.apply(requestBuilder);
+    verify(requestBuilder).pushDownFilter(QueryBuilders.termsQuery("id", List.of("a", "b")));
+  }
+
+  @Test
+  void fall_back_to_hash_join_for_large_build_side() {
+    List<Object> probed = new ArrayList<>();
+    Enumerable<Object> probe = probeSide(Arrays.asList("a", "b", "c"), probed);
+    Enumerable<Object> build = Linq4j.asEnumerable(Arrays.asList("b", "a", "d"));
+
+    assertEquals(
+        List.of("a:a", "b:b"), sorted(join(probe, build, JoinRelType.INNER, true, 2).toList()));
+    assertEquals(List.of("unfiltered"), probed);
+
+    OpenSearchRequestBuilder requestBuilder = mock(OpenSearchRequestBuilder.class);
+    filter.apply(requestBuilder);
+    verify(requestBuilder, never()).pushDownFilter(any());
+  }
+
+  @Test
+  void left_join_keeps_build_rows_without_match() {
+    Enumerable<Object> build = Linq4j.asEnumerable(Arrays.asList("a", "d", null));
+    Enumerable<Object> probe = probeSide(Arrays.asList("a", "b"), new ArrayList<>());
+
+    assertEquals(
+        List.of("a:a", "d:null", "null:null"),
+        sorted(join(build, probe, JoinRelType.LEFT, false, 10).toList()));
+  }
+
+  @Test
+  void inner_join_streams_probe_side_on_right() {
+    Enumerable<Object> build = Linq4j.asEnumerable(Arrays.asList("a", "b"));
+    List<Object> probed = new ArrayList<>();
+    Enumerable<Object> probe = probeSide(Arrays.asList("a", "a", "c"), probed);
+
+    assertEquals(
+        List.of("a:a", "a:a"), sorted(join(build, probe, JoinRelType.INNER, false, 10).toList()));
+    assertEquals(List.of("filtered"), probed);
+  }
+
+  @Test
+  void semi_join_stops_reading_probe_side_once_build_keys_match() {
+    Enumerable<Object> build = Linq4j.asEnumerable(Arrays.asList("a", "b", "a"));
+    List<Object> read = new ArrayList<>();
+    Enumerable<Object> probe =
+        Linq4j.asEnumerable(Arrays.<Object>asList("b", "a", "c", "d"))
+            .select(
+                row -> {
+                  read.add(row);
+                  return row;
+                });
+
+    assertEquals(
+        List.of("a", "b", "a"), join(build, probe, JoinRelType.SEMI, false, 10).toList());
+    assertEquals(List.of("b", "a"), read);
+  }
+
+  @Test
+  void semi_and_anti_join_ignore_null_keys() {
+    Enumerable<Object> left = Linq4j.asEnumerable(Arrays.asList("a", "b", null));
+    Enumerable<Object> right = Linq4j.asEnumerable(Arrays.asList("a", null));
+
+    assertEquals(List.of("a"), join(left, right, JoinRelType.SEMI, false, 10).toList());
+    assertEquals(
+        Arrays.asList("b", null), join(left, right, JoinRelType.ANTI, false, 10).toList());
+  }
+
+  private Enumerable<Object> join(
+      Enumerable<Object> left,
+      Enumerable<Object> right,
+      JoinRelType joinType,
+      boolean probeLeft,
+      int maxKeys) {
+    return EnumerableAdaptiveHashJoin.join(
+        left,
+        right,
+        KEY,
+        KEY,
+        KEY,
+        joinType.projectsRight() ? PAIR : null,
+        joinType,
+        filter,
+        probeLeft,
+        maxKeys,
+        64,
+        64);
+  }
+
+  /** Probe side which records whether the filter has keys when it's enumerated. */
+  private Enumerable<Object> probeSide(List<Object> rows, List<Object> probed) {
+    return new AbstractEnumerable<>() {
+      @Override
+      public Enumerator<Object> enumerator() {
+        OpenSearchRequestBuilder requestBuilder = mock(OpenSearchRequestBuilder.class);
+        filter.apply(requestBuilder);
+        boolean filtered = !mockingDetails(requestBuilder).getInvocations().isEmpty();
+        probed.add(filtered ? "filtered" : "unfiltered");
+        return Linq4j.enumerator(rows);
+      }
+    };
+  }
+
+  private static List<String> sorted(List<Object> rows) {
+    return rows.stream().map(String::valueOf).sorted().toList();
+  }
+}
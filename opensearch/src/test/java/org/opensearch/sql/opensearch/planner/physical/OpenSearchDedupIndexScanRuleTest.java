@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.planner.physical;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.hep.HepPlanner;
+import org.apache.calcite.plan.hep.HepProgram;
+import org.apache.calcite.prepare.RelOptTableImpl;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.calcite.plan.LogicalDedup;
+import org.opensearch.sql.calcite.utils.OpenSearchTypeFactory;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType.MappingType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.scan.CalciteLogicalIndexScan;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchDedupIndexScanRuleTest {
+
+  @Mock private OpenSearchIndex osIndex;
+
+  @Mock private Settings settings;
+
+  private final HepPlanner planner =
+      new HepPlanner(
+          HepProgram.builder()
+              .addRuleInstance(OpenSearchDedupIndexScanRule.Config.DEFAULT.toRule())
+              .build());
+
+  private CalciteLogicalIndexScan scan;
+
+  @BeforeEach
+  void setUp() {
+    OpenSearchTypeFactory typeFactory = OpenSearchTypeFactory.TYPE_FACTORY;
+    RelDataType rowType =
+        typeFactory
+            .builder()
+            .add("name", SqlTypeName.VARCHAR)
+            .add("age", SqlTypeName.INTEGER)
+            .build();
+    RelOptCluster cluster = RelOptCluster.create(planner, new RexBuilder(typeFactory));
+    scan =
+        new CalciteLogicalIndexScan(
+            cluster, RelOptTableImpl.create(null, rowType, List.of("test"), null), osIndex);
+
+    OpenSearchTextType text =
+        OpenSearchTextType.of(Map.of("keyword", OpenSearchDataType.of(MappingType.Keyword)));
+    lenient()
+        .when(osIndex.getFieldTypes())
+        .thenReturn(Map.of("name", text, "age", ExprCoreType.INTEGER));
+    lenient().when(osIndex.getAliasMapping()).thenReturn(Map.of());
+    lenient().when(osIndex.getSettings()).thenReturn(settings);
+    lenient().when(osIndex.getMaxResultWindow()).thenReturn(10000);
+    lenient()
+        .when(osIndex.createRequestBuilder())
+        .thenAnswer(
+            invocation ->
+                new OpenSearchRequestBuilder(
+                    mock(OpenSearchExprValueFactory.class), 10000, settings));
+    lenient().when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+  }
+
+  @Test
+  void push_down_dedup_of_single_key_as_collapse() {
+    when(osIndex.hasSingleIndexedValues(List.of("name.keyword"))).thenReturn(true);
+
+    RelNode result = optimize(LogicalDedup.create(scan, List.of(0), 1, false, false));
+
+    assertThat(result, instanceOf(CalciteLogicalIndexScan.class));
+    String explain = RelOptUtil.toString(result);
+    assertThat(explain, containsString("DEDUP->"));
+    assertThat(explain, containsString("\"collapse\":{\"field\":\"name.keyword\"}"));
+    assertThat(explain, containsString("\"exists\":{\"field\":\"name.keyword\""));
+  }
+
+  @Test
+  void push_down_dedup_of_multiple_keys_as_top_hits() {
+    when(osIndex.hasSingleIndexedValues(List.of("name.keyword", "age"))).thenReturn(true);
+
+    RelNode result = optimize(LogicalDedup.create(scan, List.of(0, 1), 2, false, false));
+
+    assertThat(result, instanceOf(CalciteLogicalIndexScan.class));
+    String explain = RelOptUtil.toString(result);
+    assertThat(explain, containsString("\"composite_buckets\""));
+    assertThat(explain, containsString("\"top_hits\""));
+    assertThat(explain, not(containsString("collapse")));
+  }
+
+  @Test
+  void skip_dedup_of_multi_valued_or_partially_indexed_keys() {
+    when(osIndex.hasSingleIndexedValues(List.of("name.keyword"))).thenReturn(false);
+
+    RelNode result = optimize(LogicalDedup.create(scan, List.of(0), 1, false, false));
+
+    assertThat(result, instanceOf(LogicalDedup.class));
+    assertTrue(((CalciteLogicalIndexScan) result.getInput(0)).getPushDownContext().isEmpty());
+  }
+
+  @Test
+  void skip_dedup_keeping_empty_keys() {
+    RelNode result = optimize(LogicalDedup.create(scan, List.of(0), 1, true, false));
+
+    assertThat(result, instanceOf(LogicalDedup.class));
+    verify(osIndex, never()).hasSingleIndexedValues(any());
+  }
+
+  private RelNode optimize(RelNode root) {
+    planner.setRoot(root);
+    return planner.findBestExp();
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.planner.physical;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.hep.HepPlanner;
+import org.apache.calcite.plan.hep.HepProgram;
+import org.apache.calcite.prepare.RelOptTableImpl;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.RelFactories;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.tools.RelBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.calcite.utils.OpenSearchTypeFactory;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType.MappingType;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.scan.CalciteLogicalIndexScan;
+import org.opensearch.sql.opensearch.storage.scan.JoinRuntimeFilter;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchJoinRuntimeFilterRuleTest {
+
+  @Mock private OpenSearchIndex osIndex;
+
+  @Mock private Settings settings;
+
+  private final HepPlanner planner =
+      new HepPlanner(
+          HepProgram.builder()
+              .addRuleCollection(
+                  List.of(
+                      OpenSearchJoinRuntimeFilterRule.Config.PROBE_LEFT.toRule(),
+                      OpenSearchJoinRuntimeFilterRule.Config.PROBE_RIGHT.toRule()))
+              .build());
+
+  private RelOptCluster cluster;
+
+  private RelBuilder builder;
+
+  private CalciteLogicalIndexScan scan;
+
+  @BeforeEach
+  void setUp() {
+    OpenSearchTypeFactory typeFactory = OpenSearchTypeFactory.TYPE_FACTORY;
+    RelDataType rowType =
+        typeFactory
+            .builder()
+            .add("id", SqlTypeName.VARCHAR)
+            .add("code", SqlTypeName.VARCHAR)
+            .add("name", SqlTypeName.VARCHAR)
+            .add("title", SqlTypeName.VARCHAR)
+            .build();
+    cluster = RelOptCluster.create(planner, new RexBuilder(typeFactory));
+    builder = RelFactories.LOGICAL_BUILDER.create(cluster, null);
+    scan =
+        new CalciteLogicalIndexScan(
+            cluster,
+            RelOptTableImpl.create(null, rowType, osIndex, ImmutableList.of("test")),
+            osIndex);
+
+    lenient()
+        .when(osIndex.getFieldOpenSearchTypes())
+        .thenReturn(
+            Map.of(
+                "id", OpenSearchDataType.of(MappingType.Keyword),
+                "code", OpenSearchDataType.of(MappingType.Keyword, Map.of("ignore_above", 10)),
+                "name",
+                    OpenSearchDataType.of(
+                        MappingType.Text,
+                        Map.of(
+                            "fields",
+                            Map.of("keyword", Map.of("type", "keyword", "ignore_above", 256)))),
+                "title",
+                    OpenSearchDataType.of(
+                        MappingType.Text,
+                        Map.of("fields", Map.of("raw", Map.of("type", "keyword"))))));
+    lenient().when(osIndex.getReservedFieldTypes()).thenReturn(Map.of());
+    lenient().when(osIndex.getAliasMapping()).thenReturn(Map.of());
+    lenient().when(osIndex.getSettings()).thenReturn(settings);
+    lenient()
+        .when(osIndex.createRequestBuilder())
+        .thenAnswer(
+            invocation ->
+                new OpenSearchRequestBuilder(
+                    mock(OpenSearchExprValueFactory.class), 10000, settings));
+    lenient()
+        .when(settings.getSettingValue(Settings.Key.CALCITE_JOIN_RUNTIME_FILTER_MAX_KEYS))
+        .thenReturn(10000);
+  }
+
+  @Test
+  void push_down_filter_of_keyword_key_to_probe_side() {
+    RelNode result = optimize(join(JoinRelType.INNER, "id"));
+
+    assertThat(result, instanceOf(EnumerableAdaptiveHashJoin.class));
+    EnumerableAdaptiveHashJoin join = (EnumerableAdaptiveHashJoin) result;
+    assertFalse(join.isProbeLeft());
+    assertEquals("id", join.getFilter().getField());
+    String explain = RelOptUtil.toString(result);
+    assertThat(explain, containsString("runtimeFilter=[terms(id)#1]"));
+    assertThat(explain, containsString("RUNTIME_FILTER->terms(id)#1"));
+  }
+
+  @Test
+  void push_down_filter_of_text_key_to_keyword_subfield() {
+    RelNode result = optimize(join(JoinRelType.INNER, "title"));
+
+    assertThat(result, instanceOf(EnumerableAdaptiveHashJoin.class));
+    assertEquals("title.raw", ((EnumerableAdaptiveHashJoin) result).getFilter().getField());
+  }
+
+  @Test
+  void skip_keyword_key_ignoring_long_values() {
+    assertThat(optimize(join(JoinRelType.INNER, "code")), instanceOf(LogicalJoin.class));
+  }
+
+  @Test
+  void skip_text_key_whose_keyword_subfield_ignores_long_values() {
+    assertThat(optimize(join(JoinRelType.INNER, "name")), instanceOf(LogicalJoin.class));
+  }
+
+  @Test
+  void skip_scan_whose_unmatched_rows_are_returned() {
+    assertThat(optimize(join(JoinRelType.RIGHT, "id")), instanceOf(LogicalJoin.class));
+  }
+
+  @Test
+  void discount_cost_only_if_build_side_fits_max_keys() {
+    builder.values(new String[] {"key"}, "a", "b").values(new String[] {"id"}, "a", "b", "c");
+    LogicalJoin join =
+        (LogicalJoin)
+            builder
+                .join(
+                    JoinRelType.INNER,
+                    builder.equals(builder.field(2, 0, "key"), builder.field(2, 1, "id")))
+                .build();
+    RelMetadataQuery mq = cluster.getMetadataQuery();
+    RelOptCost filtered = adaptiveHashJoin(join, 10).computeSelfCost(planner, mq);
+    RelOptCost unfiltered = adaptiveHashJoin(join, 1).computeSelfCost(planner, mq);
+
+    assertTrue(filtered.isLt(unfiltered));
+  }
+
+  /** Join the values of two rows with the scan on the key field. */
+  private RelNode join(JoinRelType joinType, String field) {
+    return builder
+        .values(new String[] {"key"}, "a", "b")
+        .push(scan)
+        .join(joinType, builder.equals(builder.field(2, 0, "key"), builder.field(2, 1, field)))
+        .build();
+  }
+
+  private EnumerableAdaptiveHashJoin adaptiveHashJoin(LogicalJoin join, int maxKeys) {
+    return new EnumerableAdaptiveHashJoin(
+        cluster,
+        join.getTraitSet().replace(EnumerableConvention.INSTANCE),
+        join.getLeft(),
+        join.getRight(),
+        join.getCondition(),
+        join.getJoinType(),
+        new JoinRuntimeFilter("id", 1),
+        false,
+        0,
+        maxKeys);
+  }
+
+  private RelNode optimize(RelNode root) {
+    planner.setRoot(root);
+    return planner.findBestExp();
+  }
+}
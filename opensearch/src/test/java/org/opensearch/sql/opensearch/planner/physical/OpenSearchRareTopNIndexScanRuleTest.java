@@ -0,0 +1,181 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.planner.physical;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.hep.HepPlanner;
+import org.apache.calcite.plan.hep.HepProgram;
+import org.apache.calcite.prepare.RelOptTableImpl;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.RelFactories;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.tools.RelBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.calcite.utils.OpenSearchTypeFactory;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.scan.CalciteLogicalIndexScan;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchRareTopNIndexScanRuleTest {
+
+  @Mock private OpenSearchIndex osIndex;
+
+  @Mock private Settings settings;
+
+  private final HepPlanner planner =
+      new HepPlanner(
+          HepProgram.builder()
+              .addRuleCollection(
+                  List.of(
+                      OpenSearchAggregateIndexScanRule.Config.DEFAULT.toRule(),
+                      OpenSearchRareTopNIndexScanRule.Config.DEFAULT.toRule()))
+              .build());
+
+  private RelBuilder builder;
+
+  private CalciteLogicalIndexScan scan;
+
+  @BeforeEach
+  void setUp() {
+    OpenSearchTypeFactory typeFactory = OpenSearchTypeFactory.TYPE_FACTORY;
+    RelDataType rowType =
+        typeFactory
+            .builder()
+            .add("state", SqlTypeName.VARCHAR)
+            .add("gender", SqlTypeName.VARCHAR)
+            .add("age", SqlTypeName.INTEGER)
+            .build();
+    RelOptCluster cluster = RelOptCluster.create(planner, new RexBuilder(typeFactory));
+    builder = RelFactories.LOGICAL_BUILDER.create(cluster, null);
+    scan =
+        new CalciteLogicalIndexScan(
+            cluster, RelOptTableImpl.create(null, rowType, List.of("test"), null), osIndex);
+
+    lenient()
+        .when(osIndex.getFieldTypes())
+        .thenReturn(
+            Map.of(
+                "state", ExprCoreType.STRING,
+                "gender", ExprCoreType.STRING,
+                "age", ExprCoreType.INTEGER));
+    lenient().when(osIndex.getAliasMapping()).thenReturn(Map.of());
+    lenient().when(osIndex.getSettings()).thenReturn(settings);
+    lenient().when(osIndex.getMaxResultWindow()).thenReturn(10000);
+    lenient()
+        .when(osIndex.createRequestBuilder())
+        .thenAnswer(
+            invocation ->
+                new OpenSearchRequestBuilder(
+                    mock(OpenSearchExprValueFactory.class), 10000, settings));
+  }
+
+  @Test
+  void push_down_top_with_missing_count() {
+    when(osIndex.getDistinctValueCount("gender")).thenReturn(2L);
+
+    String explain = RelOptUtil.toString(optimize(rareTopN(2, false)));
+
+    assertThat(explain, not(containsString("LogicalFilter")));
+    assertThat(explain, containsString("RARE_TOP_N->"));
+    assertThat(explain, containsString("\"terms\":{\"field\":\"gender\""));
+    assertThat(explain, containsString("\"size\":2"));
+    assertThat(explain, containsString("\"shard_size\":10000"));
+    assertThat(explain, containsString("\"missing\":{\"field\":\"gender\"}"));
+  }
+
+  @Test
+  void push_down_top_of_many_values_with_default_shard_size() {
+    when(osIndex.getDistinctValueCount("gender")).thenReturn(1000000L);
+
+    String explain = RelOptUtil.toString(optimize(rareTopN(2, false)));
+
+    assertThat(explain, containsString("RARE_TOP_N->"));
+    assertThat(explain, not(containsString("\"shard_size\":10000")));
+  }
+
+  @Test
+  void push_down_rare_of_few_values() {
+    when(osIndex.getDistinctValueCount("gender")).thenReturn(2L);
+
+    String explain = RelOptUtil.toString(optimize(rareTopN(2, true)));
+
+    assertThat(explain, containsString("RARE_TOP_N->"));
+    assertThat(explain, containsString("\"shard_size\":10000"));
+    assertThat(explain, containsString("{\"_count\":\"asc\"}"));
+  }
+
+  @Test
+  void skip_rare_of_many_values() {
+    when(osIndex.getDistinctValueCount("gender")).thenReturn(1000000L);
+
+    assertRareTopNNotPushed(optimize(rareTopN(2, true)));
+  }
+
+  @Test
+  void skip_rare_of_unknown_number_of_values() {
+    when(osIndex.getDistinctValueCount("gender")).thenReturn(null);
+
+    assertRareTopNNotPushed(optimize(rareTopN(2, true)));
+  }
+
+  private static void assertRareTopNNotPushed(RelNode result) {
+    String explain = RelOptUtil.toString(result);
+    assertThat(explain, containsString("LogicalFilter"));
+    assertThat(explain, containsString("AGGREGATION->"));
+    assertThat(explain, not(containsString("RARE_TOP_N->")));
+  }
+
+  /**
+   * Plan rare/top of gender by state as the visitor of PPL does: count() by state and gender, the
+   * row number of each gender by state ordered by the count, and the filter of the row number.
+   */
+  private RelNode rareTopN(int size, boolean ascending) {
+    builder
+        .push(scan)
+        .project(builder.field("state"), builder.field("gender"))
+        .aggregate(builder.groupKey(0, 1), builder.countStar("count"));
+    RexNode count = ascending ? builder.field("count") : builder.desc(builder.field("count"));
+    RexNode rowNumber =
+        builder
+            .aggregateCall(SqlStdOperatorTable.ROW_NUMBER)
+            .over()
+            .partitionBy(builder.field("state"))
+            .orderBy(count)
+            .as("_row_number_");
+    return builder
+        .projectPlus(rowNumber)
+        .filter(builder.lessThanOrEqual(builder.field("_row_number_"), builder.literal(size)))
+        .projectExcept(builder.field("_row_number_"))
+        .build();
+  }
+
+  private RelNode optimize(RelNode root) {
+    planner.setRoot(root);
+    return planner.findBestExp();
+  }
+}
@@ -11,7 +11,10 @@ import static org.opensearch.sql.opensearch.request.OpenSearchRequest.DEFAULT_QU
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.SneakyThrows;
@@ -25,11 +28,16 @@ import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
@@ -201,6 +209,33 @@ public class OpenSearchQueryRequestTest {
     assertTrue(openSearchResponse.isEmpty());
   }
 
+  @Test
+  void search_async_with_pit() {
+    OpenSearchQueryRequest request =
+        new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName("test"),
+            sourceBuilder,
+            factory,
+            List.of(),
+            new TimeValue(1000),
+            "samplePid");
+
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits()).thenReturn(new SearchHit[] {searchHit});
+    when(searchHit.getSortValues()).thenReturn(new String[] {"sortedValue"});
+    when(sourceBuilder.sorts()).thenReturn(null);
+
+    List<OpenSearchResponse> responses = new ArrayList<>();
+    request.searchAsync(
+        (req, listener) -> listener.onResponse(searchResponse),
+        (req, listener) -> fail("Scroll is not used with PIT"),
+        ActionListener.wrap(responses::add, e -> fail(e)));
+    assertEquals(1, responses.size());
+    assertFalse(responses.get(0).isEmpty());
+    assertTrue(request.hasAnotherBatch());
+    verify(sourceBuilder).searchAfter(new String[] {"sortedValue"});
+  }
+
   @Test
   void search_with_pit_hits_null() {
     OpenSearchQueryRequest request =
@@ -322,6 +357,46 @@ public class OpenSearchQueryRequestTest {
     assertFalse(request.hasAnotherBatch());
   }
 
+  @Test
+  void search_composite_aggregation_page_by_page() {
+    SearchSourceBuilder source =
+        new SearchSourceBuilder()
+            .size(0)
+            .aggregation(
+                AggregationBuilders.composite(
+                        "composite_buckets",
+                        List.of(new TermsValuesSourceBuilder("name").field("name")))
+                    .size(2));
+    OpenSearchQueryRequest request =
+        new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName("test"), source, factory, List.of());
+
+    SearchResponse fullPage = compositeResponse(2, Map.of("name", "b"));
+    SearchResponse lastPage = compositeResponse(1, Map.of("name", "c"));
+    when(searchAction.apply(any())).thenReturn(fullPage, lastPage);
+
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertTrue(request.hasAnotherBatch());
+    assertTrue(source.toString().contains("\"after\":{\"name\":\"b\"}"));
+
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertFalse(request.hasAnotherBatch());
+    assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    verify(searchAction, times(2)).apply(any());
+  }
+
+  private SearchResponse compositeResponse(int bucketCount, Map<String, Object> afterKey) {
+    CompositeAggregation composite = mock(CompositeAggregation.class);
+    when(composite.getName()).thenReturn("composite_buckets");
+    when(composite.afterKey()).thenReturn(afterKey);
+    doReturn(Collections.nCopies(bucketCount, mock(CompositeAggregation.Bucket.class)))
+        .when(composite)
+        .getBuckets();
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getAggregations()).thenReturn(new Aggregations(List.of(composite)));
+    return response;
+  }
+
   @Test
   void search_withIncludes() {
     OpenSearchQueryRequest request =
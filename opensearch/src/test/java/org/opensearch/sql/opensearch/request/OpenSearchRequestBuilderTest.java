@@ -37,9 +37,11 @@ import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
 import org.opensearch.search.sort.FieldSortBuilder;
@@ -177,6 +179,25 @@ class OpenSearchRequestBuilderTest {
         requestBuilder.build(indexName, DEFAULT_QUERY_TIMEOUT, client));
   }
 
+  @Test
+  void build_collapse_request_without_pit() {
+    requestBuilder.pushDownCollapse("host");
+
+    assertEquals(
+        new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName("test"),
+            new SearchSourceBuilder()
+                .from(0)
+                .size(MAX_RESULT_WINDOW)
+                .timeout(DEFAULT_QUERY_TIMEOUT)
+                .query(existsQuery("host"))
+                .sort(DOC_FIELD_NAME, ASC)
+                .collapse(new CollapseBuilder("host")),
+            exprValueFactory,
+            List.of()),
+        requestBuilder.build(indexName, DEFAULT_QUERY_TIMEOUT, client));
+  }
+
   @Test
   void buildRequestWithPit_pageSizeNotNull_startFromZero() {
     int pageSize = 200;
@@ -255,6 +276,28 @@ class OpenSearchRequestBuilderTest {
     verify(exprValueFactory).setParser(responseParser);
   }
 
+  @Test
+  void test_push_down_aggregation_page_size() {
+    CompositeAggregationBuilder aggBuilder =
+        AggregationBuilders.composite(
+                "composite_buckets",
+                Collections.singletonList(new TermsValuesSourceBuilder("longA")))
+            .size(1000);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(100);
+    requestBuilder.pushDownAggregation(
+        Pair.of(
+            List.of(aggBuilder),
+            new CompositeAggregationParser(new SingleValueParser("AVG(intA)"))));
+
+    OpenSearchQueryRequest request =
+        (OpenSearchQueryRequest) requestBuilder.build(indexName, DEFAULT_QUERY_TIMEOUT, client);
+    CompositeAggregationBuilder pushed =
+        (CompositeAggregationBuilder)
+            request.getSourceBuilder().aggregations().getAggregatorFactories().iterator().next();
+    assertEquals(100, pushed.size());
+    assertEquals(1000, aggBuilder.size());
+  }
+
   @Test
   void test_push_down_percentile_aggregation() {
     AggregationBuilder aggBuilder =
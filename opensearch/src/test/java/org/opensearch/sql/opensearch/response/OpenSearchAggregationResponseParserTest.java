@@ -16,6 +16,7 @@ import static org.opensearch.sql.opensearch.response.agg.Utils.handleNanInfValue
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.opensearch.search.aggregations.metrics.ExtendedStats;
 import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
+import org.opensearch.sql.opensearch.response.agg.CompositeTopHitsParser;
 import org.opensearch.sql.opensearch.response.agg.FilterParser;
 import org.opensearch.sql.opensearch.response.agg.NoBucketAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
@@ -30,6 +32,7 @@ import org.opensearch.sql.opensearch.response.agg.PercentilesParser;
 import org.opensearch.sql.opensearch.response.agg.SinglePercentileParser;
 import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
 import org.opensearch.sql.opensearch.response.agg.StatsParser;
+import org.opensearch.sql.opensearch.response.agg.TermsBucketParser;
 import org.opensearch.sql.opensearch.response.agg.TopHitsParser;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -311,6 +314,167 @@ class OpenSearchAggregationResponseParserTest {
         contains(ImmutableMap.of("type", "take", "take", ImmutableList.of("m", "f"))));
   }
 
+  @Test
+  void composite_top_hits_should_return_hits_as_rows() {
+    String response =
+        "{\n"
+            + "  \"composite#composite_buckets\": {\n"
+            + "    \"buckets\": [\n"
+            + "      {\n"
+            + "        \"key\": { \"gender\": \"m\" },\n"
+            + "        \"doc_count\": 3,\n"
+            + "        \"top_hits#dedup\": {\n"
+            + "          \"hits\": {\n"
+            + "            \"total\": { \"value\": 3, \"relation\": \"eq\" },\n"
+            + "            \"max_score\": 1.0,\n"
+            + "            \"hits\": [\n"
+            + "              {\n"
+            + "                \"_index\": \"accounts\",\n"
+            + "                \"_id\": \"1\",\n"
+            + "                \"_score\": 1.0,\n"
+            + "                \"_source\": { \"gender\": \"m\", \"age\": 30 }\n"
+            + "              },\n"
+            + "              {\n"
+            + "                \"_index\": \"accounts\",\n"
+            + "                \"_id\": \"3\",\n"
+            + "                \"_score\": 1.0,\n"
+            + "                \"_source\": { \"gender\": \"m\", \"age\": 40 }\n"
+            + "              }\n"
+            + "            ]\n"
+            + "          }\n"
+            + "        }\n"
+            + "      },\n"
+            + "      {\n"
+            + "        \"key\": { \"gender\": \"f\" },\n"
+            + "        \"doc_count\": 1,\n"
+            + "        \"top_hits#dedup\": {\n"
+            + "          \"hits\": {\n"
+            + "            \"total\": { \"value\": 1, \"relation\": \"eq\" },\n"
+            + "            \"max_score\": 1.0,\n"
+            + "            \"hits\": [\n"
+            + "              {\n"
+            + "                \"_index\": \"accounts\",\n"
+            + "                \"_id\": \"2\",\n"
+            + "                \"_score\": 1.0,\n"
+            + "                \"_source\": { \"gender\": \"f\", \"age\": 25 }\n"
+            + "              }\n"
+            + "            ]\n"
+            + "          }\n"
+            + "        }\n"
+            + "      }\n"
+            + "    ]\n"
+            + "  }\n"
+            + "}";
+    OpenSearchAggregationResponseParser parser =
+        new CompositeTopHitsParser(new TopHitsParser("dedup"));
+    assertThat(
+        parse(parser, response),
+        contains(
+            ImmutableMap.of("gender", "m", "age", 30, "_id", "1", "_index", "accounts"),
+            ImmutableMap.of("gender", "m", "age", 40, "_id", "3", "_index", "accounts"),
+            ImmutableMap.of("gender", "f", "age", 25, "_id", "2", "_index", "accounts")));
+  }
+
+  /** source=accounts | top 1 gender. */
+  @Test
+  void terms_bucket_should_return_terms_as_rows() {
+    String response =
+        "{\n"
+            + "  \"sterms#gender\": {\n"
+            + "    \"doc_count_error_upper_bound\": 0,\n"
+            + "    \"sum_other_doc_count\": 3,\n"
+            + "    \"buckets\": [\n"
+            + "      { \"key\": \"m\", \"doc_count\": 5 }\n"
+            + "    ]\n"
+            + "  }\n"
+            + "}";
+    OpenSearchAggregationResponseParser parser =
+        new TermsBucketParser("gender", null, "count", 1, false);
+    assertThat(parse(parser, response), contains(entry("gender", "m", "count", 5L)));
+  }
+
+  /** source=accounts | top 2 gender. */
+  @Test
+  void terms_bucket_should_rank_missing_count_with_terms() {
+    String response =
+        "{\n"
+            + "  \"sterms#gender\": {\n"
+            + "    \"doc_count_error_upper_bound\": 0,\n"
+            + "    \"sum_other_doc_count\": 3,\n"
+            + "    \"buckets\": [\n"
+            + "      { \"key\": \"m\", \"doc_count\": 5 },\n"
+            + "      { \"key\": \"f\", \"doc_count\": 3 }\n"
+            + "    ]\n"
+            + "  },\n"
+            + "  \"missing#gender_missing\": { \"doc_count\": 4 }\n"
+            + "}";
+    OpenSearchAggregationResponseParser parser =
+        new TermsBucketParser("gender", "gender_missing", "count", 2, false);
+    Map<String, Object> missing = new HashMap<>();
+    missing.put("gender", null);
+    missing.put("count", 4L);
+    assertThat(parse(parser, response), contains(entry("gender", "m", "count", 5L), missing));
+  }
+
+  /** source=accounts | rare 2 gender. */
+  @Test
+  void terms_bucket_should_skip_empty_missing_count() {
+    String response =
+        "{\n"
+            + "  \"sterms#gender\": {\n"
+            + "    \"doc_count_error_upper_bound\": 0,\n"
+            + "    \"sum_other_doc_count\": 0,\n"
+            + "    \"buckets\": [\n"
+            + "      { \"key\": \"f\", \"doc_count\": 1 },\n"
+            + "      { \"key\": \"m\", \"doc_count\": 2 }\n"
+            + "    ]\n"
+            + "  },\n"
+            + "  \"missing#gender_missing\": { \"doc_count\": 0 }\n"
+            + "}";
+    OpenSearchAggregationResponseParser parser =
+        new TermsBucketParser("gender", "gender_missing", "count", 2, true);
+    assertThat(
+        parse(parser, response),
+        contains(entry("gender", "f", "count", 1L), entry("gender", "m", "count", 2L)));
+  }
+
+  /** source=accounts | rare 1 gender by state. */
+  @Test
+  void composite_terms_bucket_should_return_terms_with_keys_as_rows() {
+    String response =
+        "{\n"
+            + "  \"composite#composite_buckets\": {\n"
+            + "    \"buckets\": [\n"
+            + "      {\n"
+            + "        \"key\": { \"state\": \"CA\" },\n"
+            + "        \"doc_count\": 3,\n"
+            + "        \"sterms#gender\": {\n"
+            + "          \"doc_count_error_upper_bound\": 0,\n"
+            + "          \"sum_other_doc_count\": 2,\n"
+            + "          \"buckets\": [ { \"key\": \"f\", \"doc_count\": 1 } ]\n"
+            + "        }\n"
+            + "      },\n"
+            + "      {\n"
+            + "        \"key\": { \"state\": \"WA\" },\n"
+            + "        \"doc_count\": 2,\n"
+            + "        \"sterms#gender\": {\n"
+            + "          \"doc_count_error_upper_bound\": 0,\n"
+            + "          \"sum_other_doc_count\": 0,\n"
+            + "          \"buckets\": [ { \"key\": \"m\", \"doc_count\": 2 } ]\n"
+            + "        }\n"
+            + "      }\n"
+            + "    ]\n"
+            + "  }\n"
+            + "}";
+    OpenSearchAggregationResponseParser parser =
+        new TermsBucketParser("gender", null, "count", 1, true);
+    assertThat(
+        parse(parser, response),
+        contains(
+            ImmutableMap.of("state", "CA", "gender", "f", "count", 1L),
+            ImmutableMap.of("state", "WA", "gender", "m", "count", 2L)));
+  }
+
   /** SELECT PERCENTILE(age, 50) FROM accounts. */
   @Test
   void no_bucket_one_metric_percentile_should_pass() {
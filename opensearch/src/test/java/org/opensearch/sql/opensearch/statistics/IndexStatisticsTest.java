@@ -0,0 +1,210 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rel.type.RelDataTypeSystem;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUnknownAs;
+import org.apache.calcite.sql.SqlOperator;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeFactoryImpl;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.Sarg;
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.search.aggregations.Aggregation;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.SingleBucketAggregation;
+import org.opensearch.search.aggregations.metrics.NumericMetricsAggregation;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics.FieldStatistics;
+
+class IndexStatisticsTest {
+
+  private static final double DELTA = 1e-9;
+
+  private static final List<String> FIELD_NAMES = List.of("age", "name", "other");
+
+  private final RelDataTypeFactory typeFactory = new SqlTypeFactoryImpl(RelDataTypeSystem.DEFAULT);
+
+  private final RexBuilder builder = new RexBuilder(typeFactory);
+
+  private final RexNode age =
+      builder.makeInputRef(typeFactory.createSqlType(SqlTypeName.INTEGER), 0);
+
+  private final RexNode name =
+      builder.makeInputRef(typeFactory.createSqlType(SqlTypeName.VARCHAR), 1);
+
+  private final RexNode other =
+      builder.makeInputRef(typeFactory.createSqlType(SqlTypeName.VARCHAR), 2);
+
+  private final IndexStatistics statistics =
+      new IndexStatistics(
+          100,
+          Map.of(
+              "age", new FieldStatistics(50, 0.2, 0.0, 100.0, false, false),
+              "name", new FieldStatistics(10, 0.0, null, null, false, false)));
+
+  @Test
+  void search_request() {
+    SearchRequest request =
+        IndexStatistics.searchRequest(
+            new OpenSearchRequest.IndexName("test"), List.of("age", "name"), List.of("age"));
+
+    assertArrayEquals(new String[] {"test"}, request.indices());
+    assertEquals(0, request.source().size());
+    assertEquals(
+        SearchContext.TRACK_TOTAL_HITS_DISABLED, request.source().trackTotalHitsUpTo().intValue());
+    assertEquals(10, request.source().aggregations().getAggregatorFactories().size());
+  }
+
+  @Test
+  void parse_response() {
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getAggregations())
+        .thenReturn(
+            new Aggregations(
+                List.of(
+                    metric("cardinality_0", 50),
+                    metric("count_0", 80),
+                    bucket("exists_0", 80),
+                    bucket("ignored_0", 0),
+                    metric("min_0", 0),
+                    metric("max_0", 100),
+                    metric("cardinality_1", 0),
+                    metric("count_1", 0),
+                    bucket("exists_1", 0),
+                    bucket("ignored_1", 0),
+                    metric("min_1", Double.POSITIVE_INFINITY),
+                    metric("max_1", Double.NEGATIVE_INFINITY),
+                    metric("cardinality_2", 10),
+                    metric("count_2", 60),
+                    bucket("exists_2", 50),
+                    bucket("ignored_2", 1))));
+
+    IndexStatistics parsed = IndexStatistics.of(response, 100, List.of("age", "empty", "tags"));
+    assertEquals(100, parsed.getDocCount());
+    FieldStatistics ageStatistics = parsed.getFields().get("age");
+    assertEquals(50, ageStatistics.cardinality());
+    assertEquals(0.2, ageStatistics.nullFraction(), DELTA);
+    assertEquals(0.0, ageStatistics.min());
+    assertEquals(100.0, ageStatistics.max());
+    assertFalse(ageStatistics.multiValued());
+    assertFalse(ageStatistics.partiallyIndexed());
+    assertEquals(
+        new FieldStatistics(0, 1.0, null, null, false, false), parsed.getFields().get("empty"));
+    FieldStatistics tagsStatistics = parsed.getFields().get("tags");
+    assertEquals(0.5, tagsStatistics.nullFraction(), DELTA);
+    assertTrue(tagsStatistics.multiValued());
+    assertTrue(tagsStatistics.partiallyIndexed());
+  }
+
+  @Test
+  void fail_to_parse_timed_out_response() {
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.isTimedOut()).thenReturn(true);
+
+    assertThrows(
+        IllegalStateException.class, () -> IndexStatistics.of(response, 100, List.of("age")));
+  }
+
+  @Test
+  void selectivity_of_comparisons() {
+    assertSelectivity(0.8 / 50, call(SqlStdOperatorTable.EQUALS, age, literal(10)));
+    assertSelectivity(0.9, call(SqlStdOperatorTable.NOT_EQUALS, name, builder.makeLiteral("a")));
+    assertSelectivity(0.2, call(SqlStdOperatorTable.LESS_THAN, age, literal(25)));
+    assertSelectivity(0.2, call(SqlStdOperatorTable.GREATER_THAN, literal(25), age));
+    assertSelectivity(0.8, call(SqlStdOperatorTable.GREATER_THAN_OR_EQUAL, age, literal(-10)));
+    assertSelectivity(0.2, call(SqlStdOperatorTable.IS_NULL, age));
+    assertSelectivity(1.0, call(SqlStdOperatorTable.IS_NOT_NULL, name));
+    assertSelectivity(2 * 0.8 / 50, builder.makeIn(age, List.of(literal(10), literal(20))));
+    assertSelectivity(
+        0.4,
+        call(
+            SqlStdOperatorTable.SEARCH,
+            age,
+            builder.makeSearchArgumentLiteral(
+                Sarg.of(
+                    RexUnknownAs.UNKNOWN,
+                    ImmutableRangeSet.of(
+                        Range.closed(BigDecimal.valueOf(25), BigDecimal.valueOf(75)))),
+                age.getType())));
+  }
+
+  @Test
+  void selectivity_of_logical_operators() {
+    RexNode ageEquals = call(SqlStdOperatorTable.EQUALS, age, literal(10));
+    RexNode nameEquals = call(SqlStdOperatorTable.EQUALS, name, builder.makeLiteral("a"));
+
+    assertSelectivity(0.016 * 0.1, call(SqlStdOperatorTable.AND, ageEquals, nameEquals));
+    assertSelectivity(1 - 0.984 * 0.9, call(SqlStdOperatorTable.OR, ageEquals, nameEquals));
+    assertSelectivity(0.9, call(SqlStdOperatorTable.NOT, nameEquals));
+  }
+
+  @Test
+  void guess_selectivity_without_statistics() {
+    RexNode otherEquals = call(SqlStdOperatorTable.EQUALS, other, builder.makeLiteral("a"));
+    RexNode nameEquals = call(SqlStdOperatorTable.EQUALS, name, builder.makeLiteral("a"));
+
+    assertSelectivity(RelMdUtil.guessSelectivity(otherEquals), otherEquals);
+    assertSelectivity(
+        RelMdUtil.guessSelectivity(otherEquals) * 0.1,
+        call(SqlStdOperatorTable.AND, otherEquals, nameEquals));
+  }
+
+  @Test
+  void distinct_count() {
+    assertEquals(51 * 10, statistics.distinctCount(List.of("age", "name")), DELTA);
+    assertEquals(1.0, statistics.distinctCount(List.of()), DELTA);
+    assertNull(statistics.distinctCount(List.of("age", "other")));
+  }
+
+  private void assertSelectivity(double expected, RexNode condition) {
+    assertEquals(expected, statistics.selectivity(condition, FIELD_NAMES), DELTA);
+  }
+
+  private RexNode call(SqlOperator operator, RexNode... operands) {
+    return builder.makeCall(operator, operands);
+  }
+
+  private RexNode literal(int value) {
+    return builder.makeExactLiteral(BigDecimal.valueOf(value));
+  }
+
+  private static Aggregation metric(String name, double value) {
+    NumericMetricsAggregation.SingleValue metric =
+        mock(NumericMetricsAggregation.SingleValue.class);
+    when(metric.getName()).thenReturn(name);
+    when(metric.value()).thenReturn(value);
+    return metric;
+  }
+
+  private static Aggregation bucket(String name, long docCount) {
+    SingleBucketAggregation bucket = mock(SingleBucketAggregation.class);
+    when(bucket.getName()).thenReturn(name);
+    when(bucket.getDocCount()).thenReturn(docCount);
+    return bucket;
+  }
+}
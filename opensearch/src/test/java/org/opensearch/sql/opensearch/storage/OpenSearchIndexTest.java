@@ -11,6 +11,8 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
@@ -30,8 +32,10 @@ import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
@@ -54,6 +58,9 @@ import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics.FieldStatistics;
+import org.opensearch.sql.opensearch.storage.scan.IndexScanDistinctRowCount;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
@@ -275,4 +282,52 @@ class OpenSearchIndexTest {
     assertTrue(index.isFieldTypeTolerance());
     assertFalse(index.isFieldTypeTolerance());
   }
+
+  @Test
+  void hasSingleIndexedValues() {
+    List<String> fields = List.of("name", "tags", "title.keyword");
+    when(client.getIndexStatistics(INDEX_NAME, fields, List.of()))
+        .thenReturn(
+            new IndexStatistics(
+                10,
+                Map.of(
+                    "name", new FieldStatistics(5, 0.0, null, null, false, false),
+                    "tags", new FieldStatistics(5, 0.0, null, null, true, false),
+                    "title.keyword", new FieldStatistics(5, 0.0, null, null, false, true))));
+
+    assertTrue(index.hasSingleIndexedValues(List.of("name")));
+    assertFalse(index.hasSingleIndexedValues(fields));
+    assertFalse(index.hasSingleIndexedValues(List.of("tags")));
+    assertFalse(index.hasSingleIndexedValues(List.of("title.keyword")));
+    assertFalse(index.hasSingleIndexedValues(List.of("missing")));
+  }
+
+  @Test
+  void hasSingleIndexedValuesIfStatisticsFail() {
+    when(client.getIndexStatistics(INDEX_NAME, List.of("name"), List.of()))
+        .thenThrow(new IllegalStateException("search failed"));
+
+    assertFalse(index.hasSingleIndexedValues(List.of("name")));
+  }
+
+  @Test
+  void getDistinctValueCount() {
+    when(client.getIndexStatistics(INDEX_NAME, List.of("name"), List.of()))
+        .thenReturn(
+            new IndexStatistics(
+                10, Map.of("name", new FieldStatistics(5, 0.0, null, null, false, false))));
+    when(client.getIndexStatistics(INDEX_NAME, List.of("age"), List.of()))
+        .thenThrow(new IllegalStateException("search failed"));
+
+    assertEquals(5L, index.getDistinctValueCount("name"));
+    assertNull(index.getDistinctValueCount("age"));
+  }
+
+  @Test
+  void unwrapDistinctRowCountHandler() {
+    assertSame(
+        IndexScanDistinctRowCount.INSTANCE,
+        index.unwrap(BuiltInMetadata.DistinctRowCount.Handler.class));
+    assertSame(index, index.unwrap(OpenSearchIndex.class));
+  }
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import java.math.BigDecimal;
+import java.util.Map;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.hep.HepPlanner;
+import org.apache.calcite.plan.hep.HepProgram;
+import org.apache.calcite.prepare.RelOptTableImpl;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.schema.Statistics;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.calcite.utils.OpenSearchTypeFactory;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics.FieldStatistics;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.scan.AbstractCalciteIndexScan.PushDownAction;
+import org.opensearch.sql.opensearch.storage.scan.AbstractCalciteIndexScan.PushDownType;
+
+@ExtendWith(MockitoExtension.class)
+class AbstractCalciteIndexScanTest {
+
+  private static final double DELTA = 1e-6;
+
+  private static final double FACTOR = 0.9;
+
+  @Mock private OpenSearchIndex osIndex;
+
+  @Mock private Settings settings;
+
+  private final IndexStatistics statistics =
+      new IndexStatistics(
+          1000,
+          Map.of(
+              "age", new FieldStatistics(50, 0.2, 0.0, 100.0, false, false),
+              "name", new FieldStatistics(10, 0.0, null, null, false, false)));
+
+  private RexBuilder rexBuilder;
+
+  private RelMetadataQuery mq;
+
+  private CalciteLogicalIndexScan scan;
+
+  @BeforeEach
+  void setUp() {
+    OpenSearchTypeFactory typeFactory = OpenSearchTypeFactory.TYPE_FACTORY;
+    RelDataType rowType =
+        typeFactory
+            .builder()
+            .add("age", SqlTypeName.INTEGER)
+            .add("name", SqlTypeName.VARCHAR)
+            .build();
+    rexBuilder = new RexBuilder(typeFactory);
+    RelOptCluster cluster =
+        RelOptCluster.create(new HepPlanner(HepProgram.builder().build()), rexBuilder);
+    mq = cluster.getMetadataQuery();
+    scan =
+        new CalciteLogicalIndexScan(
+            cluster,
+            RelOptTableImpl.create(null, rowType, osIndex, ImmutableList.of("test")),
+            osIndex);
+
+    lenient().when(osIndex.getSettings()).thenReturn(settings);
+    lenient()
+        .when(settings.getSettingValue(Settings.Key.CALCITE_PUSHDOWN_ROWCOUNT_ESTIMATION_FACTOR))
+        .thenReturn(FACTOR);
+  }
+
+  @Test
+  void estimate_row_count_from_doc_count() {
+    when(osIndex.getStatistics(any())).thenReturn(statistics);
+
+    assertEquals(1000, scan.estimateRowCount(mq), DELTA);
+  }
+
+  @Test
+  void estimate_row_count_of_filter_from_statistics() {
+    when(osIndex.getStatistics(any())).thenReturn(statistics);
+    pushDownFilter(ageEquals(10));
+
+    assertEquals(1000 * 0.8 / 50 * FACTOR, scan.estimateRowCount(mq), DELTA);
+  }
+
+  @Test
+  void estimate_row_count_of_filter_without_statistics() {
+    when(osIndex.getStatistics(any())).thenReturn(null);
+    when(osIndex.getMaxResultWindow()).thenReturn(10000);
+    RexNode condition = ageEquals(10);
+    pushDownFilter(condition);
+
+    assertEquals(
+        10000 * RelMdUtil.guessSelectivity(condition) * FACTOR, scan.estimateRowCount(mq), DELTA);
+  }
+
+  @Test
+  void estimate_distinct_row_count_from_cardinality() {
+    when(osIndex.getStatistics(any())).thenReturn(statistics);
+
+    assertEquals(
+        RelMdUtil.numDistinctVals(10.0, 1000.0),
+        scan.estimateDistinctRowCount(mq, ImmutableBitSet.of(1), null),
+        DELTA);
+    // The missing value of a field counts as a distinct value.
+    assertEquals(
+        RelMdUtil.numDistinctVals(51.0 * 10, 1000.0),
+        scan.estimateDistinctRowCount(mq, ImmutableBitSet.of(0, 1), null),
+        DELTA);
+  }
+
+  @Test
+  void estimate_distinct_row_count_with_predicate() {
+    when(osIndex.getStatistics(any())).thenReturn(statistics);
+    double rowCount = 1000 * 0.8 / 50;
+
+    assertEquals(
+        Math.min(RelMdUtil.numDistinctVals(10.0, rowCount), rowCount),
+        scan.estimateDistinctRowCount(mq, ImmutableBitSet.of(1), ageEquals(10)),
+        DELTA);
+  }
+
+  @Test
+  void no_distinct_row_count_without_statistics_or_after_aggregation() {
+    when(osIndex.getStatistics(any())).thenReturn(null);
+    assertNull(scan.estimateDistinctRowCount(mq, ImmutableBitSet.of(1), null));
+
+    scan.getPushDownContext()
+        .add(PushDownAction.of(PushDownType.AGGREGATION, null, requestBuilder -> {}));
+    assertNull(scan.estimateDistinctRowCount(mq, ImmutableBitSet.of(1), null));
+  }
+
+  @Test
+  void distinct_row_count_handler_of_index_scan() {
+    when(osIndex.getStatistics(any())).thenReturn(statistics);
+
+    assertEquals(
+        RelMdUtil.numDistinctVals(10.0, 1000.0),
+        IndexScanDistinctRowCount.INSTANCE.getDistinctRowCount(
+            scan, mq, ImmutableBitSet.of(1), null),
+        DELTA);
+  }
+
+  @Test
+  void distinct_row_count_handler_without_statistics() {
+    when(osIndex.getStatistics(any())).thenReturn(null);
+    when(osIndex.getStatistic()).thenReturn(Statistics.UNKNOWN);
+
+    assertNull(
+        IndexScanDistinctRowCount.INSTANCE.getDistinctRowCount(
+            scan, mq, ImmutableBitSet.of(1), null));
+  }
+
+  private RexNode ageEquals(int value) {
+    return rexBuilder.makeCall(
+        SqlStdOperatorTable.EQUALS,
+        rexBuilder.makeInputRef(scan, 0),
+        rexBuilder.makeExactLiteral(BigDecimal.valueOf(value)));
+  }
+
+  private void pushDownFilter(RexNode condition) {
+    scan.getPushDownContext()
+        .add(PushDownAction.of(PushDownType.FILTER, condition, requestBuilder -> {}));
+  }
+}
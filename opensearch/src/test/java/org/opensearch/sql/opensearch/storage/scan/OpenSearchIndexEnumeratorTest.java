@@ -0,0 +1,175 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.monitor.ResourceMonitor;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OpenSearchIndexEnumeratorTest {
+
+  @Mock private OpenSearchClient client;
+
+  @Mock private OpenSearchRequest request;
+
+  @Mock private ResourceMonitor monitor;
+
+  /** Listeners of the asynchronous searches, to complete them on demand. */
+  private final List<ActionListener<OpenSearchResponse>> listeners = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    when(monitor.isHealthy()).thenReturn(true);
+  }
+
+  @Test
+  void prefetch_next_batch_while_consuming_current_one() {
+    mockSearchAsync();
+    OpenSearchResponse first = response(1, 2);
+    OpenSearchResponse second = response(3);
+    when(client.search(any())).thenReturn(first);
+    when(request.hasAnotherBatch()).thenReturn(true, false);
+
+    OpenSearchIndexEnumerator enumerator =
+        new OpenSearchIndexEnumerator(client, List.of("id"), 10, request, monitor, true);
+
+    assertTrue(enumerator.moveNext());
+    assertEquals(1, enumerator.current());
+    assertEquals(1, listeners.size());
+    listeners.get(0).onResponse(second);
+
+    assertTrue(enumerator.moveNext());
+    assertEquals(2, enumerator.current());
+    assertTrue(enumerator.moveNext());
+    assertEquals(3, enumerator.current());
+    verify(client, times(1)).search(request);
+    verify(client, times(1)).searchAsync(eq(request), any());
+
+    when(client.search(any())).thenReturn(response());
+    assertFalse(enumerator.moveNext());
+    assertEquals(1, listeners.size());
+
+    enumerator.close();
+    verify(client).cleanup(request);
+  }
+
+  @Test
+  void wait_for_prefetched_batch_completed_by_another_thread() {
+    mockSearchAsync();
+    OpenSearchResponse first = response(1);
+    OpenSearchResponse second = response(2);
+    when(client.search(any())).thenReturn(first);
+    when(request.hasAnotherBatch()).thenReturn(true, false);
+
+    OpenSearchIndexEnumerator enumerator =
+        new OpenSearchIndexEnumerator(client, List.of("id"), 10, request, monitor, true);
+
+    assertTrue(enumerator.moveNext());
+    ActionListener<OpenSearchResponse> listener = listeners.get(0);
+    Thread responder = new Thread(() -> listener.onResponse(second));
+    responder.start();
+    assertTrue(enumerator.moveNext());
+    assertEquals(2, enumerator.current());
+    verify(client, times(1)).search(request);
+  }
+
+  @Test
+  void rethrow_failure_of_prefetched_batch() {
+    mockSearchAsync();
+    OpenSearchResponse first = response(1);
+    when(client.search(any())).thenReturn(first);
+    when(request.hasAnotherBatch()).thenReturn(true);
+
+    OpenSearchIndexEnumerator enumerator =
+        new OpenSearchIndexEnumerator(client, List.of("id"), 10, request, monitor, true);
+
+    assertTrue(enumerator.moveNext());
+    listeners.get(0).onFailure(new IllegalStateException("search failed"));
+    IllegalStateException e = assertThrows(IllegalStateException.class, enumerator::moveNext);
+    assertEquals("search failed", e.getMessage());
+  }
+
+  @Test
+  void no_prefetch_when_resource_is_not_healthy() {
+    when(monitor.isHealthy()).thenReturn(true, true, false);
+    OpenSearchResponse first = response(1);
+    when(client.search(any())).thenReturn(first);
+    when(request.hasAnotherBatch()).thenReturn(true);
+
+    OpenSearchIndexEnumerator enumerator =
+        new OpenSearchIndexEnumerator(client, List.of("id"), 10, request, monitor, true);
+
+    assertTrue(enumerator.moveNext());
+    verify(client, never()).searchAsync(any(), any());
+  }
+
+  @Test
+  void no_prefetch_when_disabled() {
+    OpenSearchResponse first = response(1);
+    OpenSearchResponse last = response();
+    when(client.search(any())).thenReturn(first, last);
+
+    OpenSearchIndexEnumerator enumerator =
+        new OpenSearchIndexEnumerator(client, List.of("id"), 10, request, monitor);
+
+    assertTrue(enumerator.moveNext());
+    assertFalse(enumerator.moveNext());
+    verify(request, never()).hasAnotherBatch();
+    verify(client, never()).searchAsync(any(), any());
+  }
+
+  private void mockSearchAsync() {
+    doAnswer(
+            invocation -> {
+              listeners.add(invocation.getArgument(1));
+              return null;
+            })
+        .when(client)
+        .searchAsync(any(), any());
+  }
+
+  private OpenSearchResponse response(int... ids) {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    List<ExprValue> hits = new ArrayList<>();
+    for (int id : ids) {
+      hits.add(ExprValueUtils.tupleValue(ImmutableMap.of("id", id)));
+    }
+    when(response.isEmpty()).thenReturn(hits.isEmpty());
+    if (!hits.isEmpty()) {
+      when(response.iterator()).thenReturn(hits.iterator());
+    }
+    return response;
+  }
+}
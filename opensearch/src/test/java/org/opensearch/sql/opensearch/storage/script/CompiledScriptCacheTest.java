@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.script.AggregationScript;
+import org.opensearch.script.FilterScript;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CompiledScriptCacheTest {
+
+  private final CompiledScriptCache cache = new CompiledScriptCache();
+
+  @Test
+  void should_compile_same_script_once() {
+    AtomicInteger compilations = new AtomicInteger();
+    FilterScript.Factory factory = mock(FilterScript.Factory.class);
+
+    FilterScript.Factory first =
+        cache.get(
+            "script",
+            FilterScript.CONTEXT,
+            () -> {
+              compilations.incrementAndGet();
+              return factory;
+            });
+    FilterScript.Factory second =
+        cache.get(
+            "script",
+            FilterScript.CONTEXT,
+            () -> {
+              compilations.incrementAndGet();
+              return mock(FilterScript.Factory.class);
+            });
+
+    assertSame(factory, first);
+    assertSame(factory, second);
+    assertEquals(1, compilations.get());
+    assertEquals(1, cache.stats().hitCount());
+    assertEquals(1, cache.stats().missCount());
+  }
+
+  @Test
+  void should_cache_script_per_context() {
+    cache.get("script", FilterScript.CONTEXT, () -> mock(FilterScript.Factory.class));
+    cache.get("script", AggregationScript.CONTEXT, () -> mock(AggregationScript.Factory.class));
+
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  void should_not_cache_when_disabled() {
+    CompiledScriptCache disabled = new CompiledScriptCache(0, Duration.ofHours(1));
+    FilterScript.Factory first =
+        disabled.get("script", FilterScript.CONTEXT, () -> mock(FilterScript.Factory.class));
+    FilterScript.Factory second =
+        disabled.get("script", FilterScript.CONTEXT, () -> mock(FilterScript.Factory.class));
+
+    assertNotSame(first, second);
+  }
+
+  @Test
+  void should_rethrow_compile_failure() {
+    IllegalStateException exception =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                cache.get(
+                    "script",
+                    FilterScript.CONTEXT,
+                    () -> {
+                      throw new IllegalStateException("bad script");
+                    }));
+    assertEquals("bad script", exception.getMessage());
+    assertEquals(0, cache.size());
+  }
+}
@@ -11,7 +11,10 @@ import static org.opensearch.sql.spark.data.constants.SparkConstants.SPARK_REQUE
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -75,12 +78,14 @@ import org.opensearch.sql.datasources.transport.TransportPatchDataSourceAction;
 import org.opensearch.sql.datasources.transport.TransportUpdateDataSourceAction;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.executor.AsyncRestExecutor;
+import org.opensearch.sql.legacy.metrics.GaugeMetric;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.legacy.plugin.RestSqlAction;
 import org.opensearch.sql.legacy.plugin.RestSqlStatsAction;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.OpenSearchDataSourceFactory;
+import org.opensearch.sql.opensearch.storage.script.CompiledScriptCache;
 import org.opensearch.sql.opensearch.storage.script.CompoundedScriptEngine;
 import org.opensearch.sql.plugin.config.OpenSearchPluginModule;
 import org.opensearch.sql.plugin.rest.RestPPLQueryAction;
@@ -118,6 +123,28 @@ public class SQLPlugin extends Plugin
 
   private static final Logger LOGGER = LogManager.getLogger(SQLPlugin.class);
 
+  /** Calcite system property of the size of the cache of classes compiled for Calcite plans. */
+  private static final String CALCITE_BINDABLE_CACHE_SIZE = "calcite.bindable.cache.maxSize";
+
+  private static final String DEFAULT_CALCITE_BINDABLE_CACHE_SIZE = "500";
+
+  static {
+    // Calcite compiles the generated code of each plan with Janino, unless the compiled class is
+    // cached. The cache is keyed by the generated code, and the literals of the filters pushed
+    // down to OpenSearch are not part of it, so the queries of the same shape share the class.
+    // Calcite reads the property only once, so set it before any Calcite class is loaded. It can
+    // be overridden, or set to 0 to disable the cache, with a JVM option.
+    AccessController.doPrivileged(
+        (PrivilegedAction<Void>)
+            () -> {
+              if (System.getProperty(CALCITE_BINDABLE_CACHE_SIZE) == null) {
+                System.setProperty(
+                    CALCITE_BINDABLE_CACHE_SIZE, DEFAULT_CALCITE_BINDABLE_CACHE_SIZE);
+              }
+              return null;
+            });
+  }
+
   private ClusterService clusterService;
 
   /** Settings should be inited when bootstrap the plugin. */
@@ -296,7 +323,22 @@ public class SQLPlugin extends Plugin
 
   @Override
   public ScriptEngine getScriptEngine(Settings settings, Collection<ScriptContext<?>> contexts) {
-    return new CompoundedScriptEngine();
+    long expireMillis = OpenSearchSettings.SCRIPT_CACHE_EXPIRE_SETTING.get(settings).millis();
+    CompiledScriptCache scriptCache =
+        new CompiledScriptCache(
+            OpenSearchSettings.SCRIPT_CACHE_MAX_SIZE_SETTING.get(settings),
+            Duration.ofMillis(expireMillis));
+    Metrics.getInstance()
+        .registerMetric(
+            new GaugeMetric<>("script_cache_hit_count", () -> scriptCache.stats().hitCount()));
+    Metrics.getInstance()
+        .registerMetric(
+            new GaugeMetric<>("script_cache_miss_count", () -> scriptCache.stats().missCount()));
+    Metrics.getInstance()
+        .registerMetric(
+            new GaugeMetric<>(
+                "script_cache_eviction_count", () -> scriptCache.stats().evictionCount()));
+    return new CompoundedScriptEngine(scriptCache);
   }
 
   private DataSourceServiceImpl createDataSourceService() {
@@ -69,8 +69,8 @@ public class OpenSearchPluginModule extends AbstractModule {
   }
 
   @Provides
-  public ExecutionProtector protector(ResourceMonitor resourceMonitor) {
-    return new OpenSearchExecutionProtector(resourceMonitor);
+  public ExecutionProtector protector(ResourceMonitor resourceMonitor, Settings settings) {
+    return new OpenSearchExecutionProtector(resourceMonitor, settings);
   }
 
   @Provides
@@ -84,15 +84,33 @@ public class OpenSearchPluginModule extends AbstractModule {
     return new OpenSearchQueryManager(nodeClient);
   }
 
+  /** The parser is shared by all the requests, so they share its cache of parse trees. */
+  @Provides
+  @Singleton
+  public PPLSyntaxParser pplSyntaxParser() {
+    return new PPLSyntaxParser();
+  }
+
+  /** The parser is shared by all the requests, so they share its cache of parse trees. */
+  @Provides
+  @Singleton
+  public SQLSyntaxParser sqlSyntaxParser() {
+    return new SQLSyntaxParser();
+  }
+
   @Provides
   public PPLService pplService(
-      QueryManager queryManager, QueryPlanFactory queryPlanFactory, Settings settings) {
-    return new PPLService(new PPLSyntaxParser(), queryManager, queryPlanFactory, settings);
+      PPLSyntaxParser parser,
+      QueryManager queryManager,
+      QueryPlanFactory queryPlanFactory,
+      Settings settings) {
+    return new PPLService(parser, queryManager, queryPlanFactory, settings);
   }
 
   @Provides
-  public SQLService sqlService(QueryManager queryManager, QueryPlanFactory queryPlanFactory) {
-    return new SQLService(new SQLSyntaxParser(), queryManager, queryPlanFactory);
+  public SQLService sqlService(
+      SQLSyntaxParser parser, QueryManager queryManager, QueryPlanFactory queryPlanFactory) {
+    return new SQLService(parser, queryManager, queryPlanFactory);
   }
 
   /** {@link QueryPlanFactory}. */
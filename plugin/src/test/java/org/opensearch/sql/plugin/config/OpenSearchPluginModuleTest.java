@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.plugin.config;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.reflect.Field;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.common.inject.Injector;
+import org.opensearch.common.inject.ModulesBuilder;
+import org.opensearch.sql.common.antlr.Parser;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.datasource.DataSourceService;
+import org.opensearch.sql.ppl.PPLService;
+import org.opensearch.sql.sql.SQLService;
+import org.opensearch.transport.client.node.NodeClient;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchPluginModuleTest {
+
+  @Mock private NodeClient nodeClient;
+
+  @Mock private Settings settings;
+
+  @Mock private DataSourceService dataSourceService;
+
+  private Injector injector;
+
+  @BeforeEach
+  void setUp() {
+    ModulesBuilder modules = new ModulesBuilder();
+    modules.add(new OpenSearchPluginModule());
+    modules.add(
+        b -> {
+          b.bind(NodeClient.class).toInstance(nodeClient);
+          b.bind(Settings.class).toInstance(settings);
+          b.bind(DataSourceService.class).toInstance(dataSourceService);
+        });
+    injector = modules.createInjector();
+  }
+
+  @Test
+  void ppl_services_of_requests_share_parse_trees() throws Exception {
+    PPLService first = injector.getInstance(PPLService.class);
+    PPLService second = injector.getInstance(PPLService.class);
+
+    assertNotSame(first, second);
+    assertSame(parse(first, "source=t a=1 | fields a"), parse(second, "source=t a=1 | fields a"));
+  }
+
+  @Test
+  void sql_services_of_requests_share_parse_trees() throws Exception {
+    SQLService first = injector.getInstance(SQLService.class);
+    SQLService second = injector.getInstance(SQLService.class);
+
+    assertNotSame(first, second);
+    assertSame(parse(first, "SELECT 123"), parse(second, "SELECT 123"));
+  }
+
+  /** Parse the query with the parser of the service, as the service does for a request. */
+  private static ParseTree parse(Object service, String query) throws Exception {
+    Field parser = service.getClass().getDeclaredField("parser");
+    parser.setAccessible(true);
+    return ((Parser) parser.get(service)).parse(query);
+  }
+}
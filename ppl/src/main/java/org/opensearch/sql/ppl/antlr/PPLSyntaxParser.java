@@ -9,19 +9,27 @@ import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
+import org.opensearch.sql.common.antlr.ParseTreeCache;
 import org.opensearch.sql.common.antlr.Parser;
 import org.opensearch.sql.common.antlr.SyntaxAnalysisErrorListener;
+import org.opensearch.sql.common.antlr.TwoStageParser;
 import org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLLexer;
 import org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser;
 
 /** PPL Syntax Parser. */
 public class PPLSyntaxParser implements Parser {
+  private final ParseTreeCache parseTreeCache = new ParseTreeCache();
+
   /** Analyze the query syntax. */
   @Override
   public ParseTree parse(String query) {
+    return parseTreeCache.get(query, this::doParse);
+  }
+
+  private ParseTree doParse(String query) {
     OpenSearchPPLParser parser = createParser(createLexer(query));
     parser.addErrorListener(new SyntaxAnalysisErrorListener());
-    return parser.root();
+    return TwoStageParser.parse(parser, OpenSearchPPLParser::root);
   }
 
   private OpenSearchPPLParser createParser(Lexer lexer) {
@@ -7,6 +7,7 @@ package org.opensearch.sql.ppl.antlr;
 
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 
 import java.util.List;
@@ -27,6 +28,12 @@ public class PPLSyntaxParserTest {
     assertNotEquals(null, tree);
   }
 
+  @Test
+  public void testParseTreeOfSameQueryShouldBeReused() {
+    PPLSyntaxParser parser = new PPLSyntaxParser();
+    assertSame(parser.parse("source=t a=1 | fields a"), parser.parse("source=t a=1 | fields a"));
+  }
+
   @Test
   public void testSearchCommandIgnoreSearchKeywordShouldPass() {
     ParseTree tree = new PPLSyntaxParser().parse("source=t a=1 b=2");
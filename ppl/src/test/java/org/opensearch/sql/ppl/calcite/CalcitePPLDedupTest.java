@@ -20,35 +20,18 @@ public class CalcitePPLDedupTest extends CalcitePPLAbstractTest {
     String ppl = "source=EMP | dedup 1 DEPTNO";
     RelNode root = getRelNode(ppl);
     String expectedLogical =
-        ""
-            + "LogicalProject(EMPNO=[$0], ENAME=[$1], JOB=[$2], MGR=[$3], HIREDATE=[$4], SAL=[$5],"
-            + " COMM=[$6], DEPTNO=[$7])\n"
-            + "  LogicalFilter(condition=[<=($8, 1)])\n"
-            + "    LogicalProject(EMPNO=[$0], ENAME=[$1], JOB=[$2], MGR=[$3], HIREDATE=[$4],"
-            + " SAL=[$5], COMM=[$6], DEPTNO=[$7], _row_number_=[ROW_NUMBER() OVER (PARTITION BY $7"
-            + " ORDER BY $7)])\n"
-            + "      LogicalFilter(condition=[IS NOT NULL($7)])\n"
-            + "        LogicalTableScan(table=[[scott, EMP]])\n";
+        "LogicalDedup(keys=[[7]], allowedDuplication=[1], keepEmpty=[false],"
+            + " consecutive=[false])\n"
+            + "  LogicalTableScan(table=[[scott, EMP]])\n";
     verifyLogical(root, expectedLogical);
     String expectedResult =
-        "EMPNO=7369; ENAME=SMITH; JOB=CLERK; MGR=7902; HIREDATE=1980-12-17; SAL=800.00; COMM=null;"
-            + " DEPTNO=20\n"
-            + "EMPNO=7782; ENAME=CLARK; JOB=MANAGER; MGR=7839; HIREDATE=1981-06-09; SAL=2450.00;"
-            + " COMM=null; DEPTNO=10\n"
+        "EMPNO=7369; ENAME=SMITH; JOB=CLERK; MGR=7902; HIREDATE=1980-12-17; SAL=800.00;"
+            + " COMM=null; DEPTNO=20\n"
             + "EMPNO=7499; ENAME=ALLEN; JOB=SALESMAN; MGR=7698; HIREDATE=1981-02-20; SAL=1600.00;"
-            + " COMM=300.00; DEPTNO=30\n";
+            + " COMM=300.00; DEPTNO=30\n"
+            + "EMPNO=7782; ENAME=CLARK; JOB=MANAGER; MGR=7839; HIREDATE=1981-06-09; SAL=2450.00;"
+            + " COMM=null; DEPTNO=10\n";
     verifyResult(root, expectedResult);
-
-    String expectedSparkSql =
-        ""
-            + "SELECT `EMPNO`, `ENAME`, `JOB`, `MGR`, `HIREDATE`, `SAL`, `COMM`, `DEPTNO`\n"
-            + "FROM (SELECT `EMPNO`, `ENAME`, `JOB`, `MGR`, `HIREDATE`, `SAL`, `COMM`, `DEPTNO`,"
-            + " ROW_NUMBER() OVER (PARTITION BY `DEPTNO` ORDER BY `DEPTNO` NULLS LAST)"
-            + " `_row_number_`\n"
-            + "FROM `scott`.`EMP`\n"
-            + "WHERE `DEPTNO` IS NOT NULL) `t0`\n"
-            + "WHERE `_row_number_` <= 1";
-    verifyPPLToSparkSQL(root, expectedSparkSql);
   }
 
   @Test
@@ -56,41 +39,24 @@ public class CalcitePPLDedupTest extends CalcitePPLAbstractTest {
     String ppl = "source=EMP | dedup 2 DEPTNO";
     RelNode root = getRelNode(ppl);
     String expectedLogical =
-        ""
-            + "LogicalProject(EMPNO=[$0], ENAME=[$1], JOB=[$2], MGR=[$3], HIREDATE=[$4], SAL=[$5],"
-            + " COMM=[$6], DEPTNO=[$7])\n"
-            + "  LogicalFilter(condition=[<=($8, 2)])\n"
-            + "    LogicalProject(EMPNO=[$0], ENAME=[$1], JOB=[$2], MGR=[$3], HIREDATE=[$4],"
-            + " SAL=[$5], COMM=[$6], DEPTNO=[$7], _row_number_=[ROW_NUMBER() OVER (PARTITION BY $7"
-            + " ORDER BY $7)])\n"
-            + "      LogicalFilter(condition=[IS NOT NULL($7)])\n"
-            + "        LogicalTableScan(table=[[scott, EMP]])\n";
+        "LogicalDedup(keys=[[7]], allowedDuplication=[2], keepEmpty=[false],"
+            + " consecutive=[false])\n"
+            + "  LogicalTableScan(table=[[scott, EMP]])\n";
     verifyLogical(root, expectedLogical);
     String expectedResult =
-        "EMPNO=7369; ENAME=SMITH; JOB=CLERK; MGR=7902; HIREDATE=1980-12-17; SAL=800.00; COMM=null;"
-            + " DEPTNO=20\n"
+        "EMPNO=7369; ENAME=SMITH; JOB=CLERK; MGR=7902; HIREDATE=1980-12-17; SAL=800.00;"
+            + " COMM=null; DEPTNO=20\n"
+            + "EMPNO=7499; ENAME=ALLEN; JOB=SALESMAN; MGR=7698; HIREDATE=1981-02-20; SAL=1600.00;"
+            + " COMM=300.00; DEPTNO=30\n"
+            + "EMPNO=7521; ENAME=WARD; JOB=SALESMAN; MGR=7698; HIREDATE=1981-02-22; SAL=1250.00;"
+            + " COMM=500.00; DEPTNO=30\n"
             + "EMPNO=7566; ENAME=JONES; JOB=MANAGER; MGR=7839; HIREDATE=1981-02-04; SAL=2975.00;"
             + " COMM=null; DEPTNO=20\n"
             + "EMPNO=7782; ENAME=CLARK; JOB=MANAGER; MGR=7839; HIREDATE=1981-06-09; SAL=2450.00;"
             + " COMM=null; DEPTNO=10\n"
             + "EMPNO=7839; ENAME=KING; JOB=PRESIDENT; MGR=null; HIREDATE=1981-11-17; SAL=5000.00;"
-            + " COMM=null; DEPTNO=10\n"
-            + "EMPNO=7499; ENAME=ALLEN; JOB=SALESMAN; MGR=7698; HIREDATE=1981-02-20; SAL=1600.00;"
-            + " COMM=300.00; DEPTNO=30\n"
-            + "EMPNO=7521; ENAME=WARD; JOB=SALESMAN; MGR=7698; HIREDATE=1981-02-22; SAL=1250.00;"
-            + " COMM=500.00; DEPTNO=30\n";
+            + " COMM=null; DEPTNO=10\n";
     verifyResult(root, expectedResult);
-
-    String expectedSparkSql =
-        ""
-            + "SELECT `EMPNO`, `ENAME`, `JOB`, `MGR`, `HIREDATE`, `SAL`, `COMM`, `DEPTNO`\n"
-            + "FROM (SELECT `EMPNO`, `ENAME`, `JOB`, `MGR`, `HIREDATE`, `SAL`, `COMM`, `DEPTNO`,"
-            + " ROW_NUMBER() OVER (PARTITION BY `DEPTNO` ORDER BY `DEPTNO` NULLS LAST)"
-            + " `_row_number_`\n"
-            + "FROM `scott`.`EMP`\n"
-            + "WHERE `DEPTNO` IS NOT NULL) `t0`\n"
-            + "WHERE `_row_number_` <= 2";
-    verifyPPLToSparkSQL(root, expectedSparkSql);
   }
 
   @Test
@@ -98,43 +64,30 @@ public class CalcitePPLDedupTest extends CalcitePPLAbstractTest {
     String ppl = "source=EMP | dedup 1 DEPTNO, JOB keepempty=true";
     RelNode root = getRelNode(ppl);
     String expectedLogical =
-        "LogicalProject(EMPNO=[$0], ENAME=[$1], JOB=[$2], MGR=[$3], HIREDATE=[$4], SAL=[$5],"
-            + " COMM=[$6], DEPTNO=[$7])\n"
-            + "  LogicalFilter(condition=[OR(IS NULL($7), IS NULL($2), <=($8, 1))])\n"
-            + "    LogicalProject(EMPNO=[$0], ENAME=[$1], JOB=[$2], MGR=[$3], HIREDATE=[$4],"
-            + " SAL=[$5], COMM=[$6], DEPTNO=[$7], _row_number_=[ROW_NUMBER() OVER (PARTITION BY $7,"
-            + " $2 ORDER BY $7, $2)])\n"
-            + "      LogicalTableScan(table=[[scott, EMP]])\n";
+        "LogicalDedup(keys=[[7, 2]], allowedDuplication=[1], keepEmpty=[true],"
+            + " consecutive=[false])\n"
+            + "  LogicalTableScan(table=[[scott, EMP]])\n";
     verifyLogical(root, expectedLogical);
     String expectedResult =
-        "EMPNO=7934; ENAME=MILLER; JOB=CLERK; MGR=7782; HIREDATE=1982-01-23; SAL=1300.00;"
-            + " COMM=null; DEPTNO=10\n"
-            + "EMPNO=7782; ENAME=CLARK; JOB=MANAGER; MGR=7839; HIREDATE=1981-06-09; SAL=2450.00;"
-            + " COMM=null; DEPTNO=10\n"
-            + "EMPNO=7788; ENAME=SCOTT; JOB=ANALYST; MGR=7566; HIREDATE=1987-04-19; SAL=3000.00;"
+        "EMPNO=7369; ENAME=SMITH; JOB=CLERK; MGR=7902; HIREDATE=1980-12-17; SAL=800.00;"
             + " COMM=null; DEPTNO=20\n"
             + "EMPNO=7499; ENAME=ALLEN; JOB=SALESMAN; MGR=7698; HIREDATE=1981-02-20; SAL=1600.00;"
             + " COMM=300.00; DEPTNO=30\n"
             + "EMPNO=7566; ENAME=JONES; JOB=MANAGER; MGR=7839; HIREDATE=1981-02-04; SAL=2975.00;"
             + " COMM=null; DEPTNO=20\n"
-            + "EMPNO=7369; ENAME=SMITH; JOB=CLERK; MGR=7902; HIREDATE=1980-12-17; SAL=800.00;"
-            + " COMM=null; DEPTNO=20\n"
-            + "EMPNO=7900; ENAME=JAMES; JOB=CLERK; MGR=7698; HIREDATE=1981-12-03; SAL=950.00;"
-            + " COMM=null; DEPTNO=30\n"
             + "EMPNO=7698; ENAME=BLAKE; JOB=MANAGER; MGR=7839; HIREDATE=1981-01-05; SAL=2850.00;"
             + " COMM=null; DEPTNO=30\n"
+            + "EMPNO=7782; ENAME=CLARK; JOB=MANAGER; MGR=7839; HIREDATE=1981-06-09; SAL=2450.00;"
+            + " COMM=null; DEPTNO=10\n"
+            + "EMPNO=7788; ENAME=SCOTT; JOB=ANALYST; MGR=7566; HIREDATE=1987-04-19; SAL=3000.00;"
+            + " COMM=null; DEPTNO=20\n"
             + "EMPNO=7839; ENAME=KING; JOB=PRESIDENT; MGR=null; HIREDATE=1981-11-17; SAL=5000.00;"
+            + " COMM=null; DEPTNO=10\n"
+            + "EMPNO=7900; ENAME=JAMES; JOB=CLERK; MGR=7698; HIREDATE=1981-12-03; SAL=950.00;"
+            + " COMM=null; DEPTNO=30\n"
+            + "EMPNO=7934; ENAME=MILLER; JOB=CLERK; MGR=7782; HIREDATE=1982-01-23; SAL=1300.00;"
             + " COMM=null; DEPTNO=10\n";
     verifyResult(root, expectedResult);
-
-    String expectedSparkSql =
-        "SELECT `EMPNO`, `ENAME`, `JOB`, `MGR`, `HIREDATE`, `SAL`, `COMM`, `DEPTNO`\n"
-            + "FROM (SELECT `EMPNO`, `ENAME`, `JOB`, `MGR`, `HIREDATE`, `SAL`, `COMM`, `DEPTNO`,"
-            + " ROW_NUMBER() OVER (PARTITION BY `DEPTNO`, `JOB` ORDER BY `DEPTNO` NULLS LAST, `JOB`"
-            + " NULLS LAST) `_row_number_`\n"
-            + "FROM `scott`.`EMP`) `t`\n"
-            + "WHERE `DEPTNO` IS NULL OR `JOB` IS NULL OR `_row_number_` <= 1";
-    verifyPPLToSparkSQL(root, expectedSparkSql);
   }
 
   @Test
@@ -142,22 +95,12 @@ public class CalcitePPLDedupTest extends CalcitePPLAbstractTest {
     String ppl = "source=EMP | dedup 2 DEPTNO, JOB keepempty=true";
     RelNode root = getRelNode(ppl);
     String expectedLogical =
-        "LogicalProject(EMPNO=[$0], ENAME=[$1], JOB=[$2], MGR=[$3], HIREDATE=[$4], SAL=[$5],"
-            + " COMM=[$6], DEPTNO=[$7])\n"
-            + "  LogicalFilter(condition=[OR(IS NULL($7), IS NULL($2), <=($8, 2))])\n"
-            + "    LogicalProject(EMPNO=[$0], ENAME=[$1], JOB=[$2], MGR=[$3], HIREDATE=[$4],"
-            + " SAL=[$5], COMM=[$6], DEPTNO=[$7], _row_number_=[ROW_NUMBER() OVER (PARTITION BY $7,"
-            + " $2 ORDER BY $7, $2)])\n"
-            + "      LogicalTableScan(table=[[scott, EMP]])\n";
+        "LogicalDedup(keys=[[7, 2]], allowedDuplication=[2], keepEmpty=[true],"
+            + " consecutive=[false])\n"
+            + "  LogicalTableScan(table=[[scott, EMP]])\n";
     verifyLogical(root, expectedLogical);
     String expectedResult =
-        "EMPNO=7934; ENAME=MILLER; JOB=CLERK; MGR=7782; HIREDATE=1982-01-23; SAL=1300.00;"
-            + " COMM=null; DEPTNO=10\n"
-            + "EMPNO=7782; ENAME=CLARK; JOB=MANAGER; MGR=7839; HIREDATE=1981-06-09; SAL=2450.00;"
-            + " COMM=null; DEPTNO=10\n"
-            + "EMPNO=7788; ENAME=SCOTT; JOB=ANALYST; MGR=7566; HIREDATE=1987-04-19; SAL=3000.00;"
-            + " COMM=null; DEPTNO=20\n"
-            + "EMPNO=7902; ENAME=FORD; JOB=ANALYST; MGR=7566; HIREDATE=1981-12-03; SAL=3000.00;"
+        "EMPNO=7369; ENAME=SMITH; JOB=CLERK; MGR=7902; HIREDATE=1980-12-17; SAL=800.00;"
             + " COMM=null; DEPTNO=20\n"
             + "EMPNO=7499; ENAME=ALLEN; JOB=SALESMAN; MGR=7698; HIREDATE=1981-02-20; SAL=1600.00;"
             + " COMM=300.00; DEPTNO=30\n"
@@ -165,25 +108,46 @@ public class CalcitePPLDedupTest extends CalcitePPLAbstractTest {
             + " COMM=500.00; DEPTNO=30\n"
             + "EMPNO=7566; ENAME=JONES; JOB=MANAGER; MGR=7839; HIREDATE=1981-02-04; SAL=2975.00;"
             + " COMM=null; DEPTNO=20\n"
-            + "EMPNO=7369; ENAME=SMITH; JOB=CLERK; MGR=7902; HIREDATE=1980-12-17; SAL=800.00;"
+            + "EMPNO=7698; ENAME=BLAKE; JOB=MANAGER; MGR=7839; HIREDATE=1981-01-05; SAL=2850.00;"
+            + " COMM=null; DEPTNO=30\n"
+            + "EMPNO=7782; ENAME=CLARK; JOB=MANAGER; MGR=7839; HIREDATE=1981-06-09; SAL=2450.00;"
+            + " COMM=null; DEPTNO=10\n"
+            + "EMPNO=7788; ENAME=SCOTT; JOB=ANALYST; MGR=7566; HIREDATE=1987-04-19; SAL=3000.00;"
             + " COMM=null; DEPTNO=20\n"
+            + "EMPNO=7839; ENAME=KING; JOB=PRESIDENT; MGR=null; HIREDATE=1981-11-17; SAL=5000.00;"
+            + " COMM=null; DEPTNO=10\n"
             + "EMPNO=7876; ENAME=ADAMS; JOB=CLERK; MGR=7788; HIREDATE=1987-05-23; SAL=1100.00;"
             + " COMM=null; DEPTNO=20\n"
             + "EMPNO=7900; ENAME=JAMES; JOB=CLERK; MGR=7698; HIREDATE=1981-12-03; SAL=950.00;"
             + " COMM=null; DEPTNO=30\n"
-            + "EMPNO=7698; ENAME=BLAKE; JOB=MANAGER; MGR=7839; HIREDATE=1981-01-05; SAL=2850.00;"
-            + " COMM=null; DEPTNO=30\n"
-            + "EMPNO=7839; ENAME=KING; JOB=PRESIDENT; MGR=null; HIREDATE=1981-11-17; SAL=5000.00;"
+            + "EMPNO=7902; ENAME=FORD; JOB=ANALYST; MGR=7566; HIREDATE=1981-12-03; SAL=3000.00;"
+            + " COMM=null; DEPTNO=20\n"
+            + "EMPNO=7934; ENAME=MILLER; JOB=CLERK; MGR=7782; HIREDATE=1982-01-23; SAL=1300.00;"
             + " COMM=null; DEPTNO=10\n";
     verifyResult(root, expectedResult);
+  }
 
-    String expectedSparkSql =
-        "SELECT `EMPNO`, `ENAME`, `JOB`, `MGR`, `HIREDATE`, `SAL`, `COMM`, `DEPTNO`\n"
-            + "FROM (SELECT `EMPNO`, `ENAME`, `JOB`, `MGR`, `HIREDATE`, `SAL`, `COMM`, `DEPTNO`,"
-            + " ROW_NUMBER() OVER (PARTITION BY `DEPTNO`, `JOB` ORDER BY `DEPTNO` NULLS LAST, `JOB`"
-            + " NULLS LAST) `_row_number_`\n"
-            + "FROM `scott`.`EMP`) `t`\n"
-            + "WHERE `DEPTNO` IS NULL OR `JOB` IS NULL OR `_row_number_` <= 2";
-    verifyPPLToSparkSQL(root, expectedSparkSql);
+  @Test
+  public void testDedupConsecutive() {
+    String ppl = "source=EMP | dedup 1 DEPTNO consecutive=true";
+    RelNode root = getRelNode(ppl);
+    String expectedLogical =
+        "LogicalDedup(keys=[[7]], allowedDuplication=[1], keepEmpty=[false],"
+            + " consecutive=[true])\n"
+            + "  LogicalTableScan(table=[[scott, EMP]])\n";
+    verifyLogical(root, expectedLogical);
+    verifyResultCount(root, 12);
+  }
+
+  @Test
+  public void testDedupConsecutiveNullKey() {
+    String ppl = "source=EMP | dedup 1 COMM consecutive=true";
+    RelNode root = getRelNode(ppl);
+    String expectedLogical =
+        "LogicalDedup(keys=[[6]], allowedDuplication=[1], keepEmpty=[false],"
+            + " consecutive=[true])\n"
+            + "  LogicalTableScan(table=[[scott, EMP]])\n";
+    verifyLogical(root, expectedLogical);
+    verifyResultCount(root, 4);
   }
 }
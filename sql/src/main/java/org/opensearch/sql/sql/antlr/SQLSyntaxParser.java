@@ -7,11 +7,15 @@ package org.opensearch.sql.sql.antlr;
 
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.util.Supplier;
 import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
+import org.opensearch.sql.common.antlr.ParseTreeCache;
 import org.opensearch.sql.common.antlr.Parser;
 import org.opensearch.sql.common.antlr.SyntaxAnalysisErrorListener;
+import org.opensearch.sql.common.antlr.TwoStageParser;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLLexer;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser;
 
@@ -19,6 +23,8 @@ import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser;
 public class SQLSyntaxParser implements Parser {
   private static final Logger LOG = LogManager.getLogger(SQLSyntaxParser.class);
 
+  private final ParseTreeCache parseTreeCache = new ParseTreeCache();
+
   /**
    * Parse a SQL query by ANTLR parser.
    *
@@ -27,16 +33,23 @@ public class SQLSyntaxParser implements Parser {
    */
   @Override
   public ParseTree parse(String query) {
-    AnonymizerListener anonymizer = new AnonymizerListener();
+    ParseTree parseTree = parseTreeCache.get(query, this::doParse);
+
+    // The query is only anonymized if the log line is emitted.
+    LOG.info("New Engine Request Query: {}", (Supplier<String>) () -> anonymize(parseTree));
+    return parseTree;
+  }
 
+  private ParseTree doParse(String query) {
     OpenSearchSQLLexer lexer = new OpenSearchSQLLexer(new CaseInsensitiveCharStream(query));
     OpenSearchSQLParser parser = new OpenSearchSQLParser(new CommonTokenStream(lexer));
     parser.addErrorListener(new SyntaxAnalysisErrorListener());
-    parser.addParseListener(anonymizer);
-
-    ParseTree parseTree = parser.root();
-    LOG.info("New Engine Request Query: {}", anonymizer.getAnonymizedQueryString());
+    return TwoStageParser.parse(parser, OpenSearchSQLParser::root);
+  }
 
-    return parseTree;
+  private static String anonymize(ParseTree parseTree) {
+    AnonymizerListener anonymizer = new AnonymizerListener();
+    ParseTreeWalker.DEFAULT.walk(anonymizer, parseTree);
+    return anonymizer.getAnonymizedQueryString();
   }
 }
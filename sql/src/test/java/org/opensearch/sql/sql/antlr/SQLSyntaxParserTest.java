@@ -7,6 +7,7 @@ package org.opensearch.sql.sql.antlr;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.google.common.collect.ImmutableMap;
@@ -34,6 +35,13 @@ class SQLSyntaxParserTest {
     assertNotNull(parser.parse("SELECT 123;"));
   }
 
+  @Test
+  public void reuseParseTreeOfSameQuery() {
+    assertSame(parser.parse("SELECT 123"), parser.parse("SELECT 123"));
+    assertThrows(SyntaxCheckException.class, () -> parser.parse("SELECT * FROM hello+world"));
+    assertThrows(SyntaxCheckException.class, () -> parser.parse("SELECT * FROM hello+world"));
+  }
+
   @Test
   public void canParseSelectLiterals() {
     assertNotNull(parser.parse("SELECT 123, 'hello'"));